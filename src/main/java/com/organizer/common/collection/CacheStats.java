@@ -0,0 +1,25 @@
+package com.organizer.common.collection;
+
+/**
+ * Counters of a cache since it was created.
+ */
+public record CacheStats(long hits, long misses, long evictions) {
+
+    public CacheStats {
+        if (hits < 0 || misses < 0 || evictions < 0) {
+            throw new IllegalArgumentException("Cache counters cannot be negative");
+        }
+    }
+
+    /**
+     * @return the share of lookups that were hits, {@code 0} before the first lookup
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public CacheStats plus(CacheStats other) {
+        return new CacheStats(hits + other.hits, misses + other.misses, evictions + other.evictions);
+    }
+}
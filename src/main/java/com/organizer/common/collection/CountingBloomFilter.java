@@ -0,0 +1,150 @@
+package com.organizer.common.collection;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counting Bloom filter over strings, answering "definitely absent" or "possibly present".
+ * Each slot is a 4-bit counter, sixteen to an {@code AtomicLongArray} element, so keys can be
+ * removed as well as added. A counter that reaches its maximum sticks there and is never
+ * decremented again, which can only cost false positives, never false negatives.
+ * <p>
+ * Updates are lock-free and individually atomic. A caller that needs "absent" answers to be exact
+ * must add a key before it becomes visible elsewhere and remove it only after it stopped being.
+ */
+public final class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final int MAX_HASHES = 16;
+
+    private final AtomicLongArray words;
+    private final long counters;
+    private final int hashes;
+
+    /**
+     * @param expectedKeys      the number of keys the filter should hold at the target rate
+     * @param falsePositiveRate the target false-positive rate, between 0 and 1 exclusive
+     */
+    public CountingBloomFilter(int expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 0) {
+            throw new IllegalArgumentException("Expected keys cannot be negative");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long optimal = (long) Math.ceil(-Math.max(1, expectedKeys) * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long wordCount = Math.max(1, (optimal + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+        if (wordCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Filter for " + expectedKeys + " keys is too large");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.counters = wordCount * COUNTERS_PER_WORD;
+        this.hashes = Math.clamp(Math.round((double) counters / Math.max(1, expectedKeys) * ln2), 1, MAX_HASHES);
+    }
+
+    public void add(CharSequence key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            increment(counterOf(hash, i));
+        }
+    }
+
+    /**
+     * Removes one occurrence of a key that was previously {@linkplain #add added}.
+     * Removing a key that was never added corrupts the filter.
+     */
+    public void remove(CharSequence key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            decrement(counterOf(hash, i));
+        }
+    }
+
+    /**
+     * @return {@code false} only if the key is certainly not in the filter
+     */
+    public boolean mightContain(CharSequence key) {
+        long hash = hash(key);
+        for (int i = 0; i < hashes; i++) {
+            if (counter(counterOf(hash, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the false-positive rate implied by how many counters are currently non-zero
+     */
+    public double expectedFalsePositiveRate() {
+        long occupied = 0;
+        for (int w = 0; w < words.length(); w++) {
+            long word = words.get(w);
+            for (int c = 0; c < COUNTERS_PER_WORD; c++) {
+                if ((word >>> (4 * c) & COUNTER_MASK) != 0) {
+                    occupied++;
+                }
+            }
+        }
+        return Math.pow((double) occupied / counters, hashes);
+    }
+
+    private long counterOf(long hash, int i) {
+        // Kirsch-Mitzenmacher: the i-th index is h1 + i * h2, with h2 forced odd
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) | 1;
+        return Long.remainderUnsigned(h1 + i * h2, counters);
+    }
+
+    private int counter(long index) {
+        long word = words.get((int) (index / COUNTERS_PER_WORD));
+        return (int) (word >>> shiftOf(index) & COUNTER_MASK);
+    }
+
+    private void increment(long index) {
+        int w = (int) (index / COUNTERS_PER_WORD);
+        int shift = shiftOf(index);
+        long word;
+        do {
+            word = words.get(w);
+            if ((word >>> shift & COUNTER_MASK) == COUNTER_MASK) {
+                return;
+            }
+        } while (!words.compareAndSet(w, word, word + (1L << shift)));
+    }
+
+    private void decrement(long index) {
+        int w = (int) (index / COUNTERS_PER_WORD);
+        int shift = shiftOf(index);
+        long word;
+        do {
+            word = words.get(w);
+            long count = word >>> shift & COUNTER_MASK;
+            if (count == 0 || count == COUNTER_MASK) {
+                return;
+            }
+        } while (!words.compareAndSet(w, word, word - (1L << shift)));
+    }
+
+    private static int shiftOf(long index) {
+        return 4 * (int) (index % COUNTERS_PER_WORD);
+    }
+
+    private static long hash(CharSequence key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // FNV-1a spreads poorly over short keys, so finish with a 64-bit avalanche
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
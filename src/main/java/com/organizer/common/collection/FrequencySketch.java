@@ -0,0 +1,84 @@
+package com.organizer.common.collection;
+
+/**
+ * Count-min sketch of recent access frequencies with 4-bit counters, sixteen to a {@code long}.
+ * Each key maps to one counter in each of four rows; its estimate is the smallest of them.
+ * Once the number of recorded accesses reaches ten times the cache capacity every counter is
+ * halved, so the sketch follows a shifting workload instead of remembering old favourites.
+ * Not thread-safe; callers synchronize externally.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0x97cb3127L, 0xfe2d9f2bL, 0x6a09e667L, 0x3c6ef372L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int capacity) {
+        int size = Math.max(16, Integer.highestOneBit(Math.max(1, capacity) - 1) << 1);
+        this.table = new long[size];
+        this.mask = size - 1;
+        this.sampleSize = (int) Math.min(Integer.MAX_VALUE, 10L * Math.max(1, capacity));
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < SEEDS.length; row++) {
+            int slot = slotOf(hash, row);
+            int shift = shiftOf(hash, row);
+            frequency = Math.min(frequency, (int) (table[slot] >>> shift) & MAX_COUNT);
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < SEEDS.length; row++) {
+            int slot = slotOf(hash, row);
+            int shift = shiftOf(hash, row);
+            if (((table[slot] >>> shift) & MAX_COUNT) != MAX_COUNT) {
+                table[slot] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions /= 2;
+    }
+
+    private int slotOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return (int) h & mask;
+    }
+
+    private static int shiftOf(int hash, int row) {
+        // Rows never share a nibble, even when they land on the same word
+        int nibble = ((hash >>> (row << 3)) & 3) << 2 | row;
+        return nibble << 2;
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 17;
+        h *= 0xed5ad4bb;
+        h ^= h >>> 11;
+        h *= 0xac4c1b51;
+        h ^= h >>> 15;
+        return h;
+    }
+}
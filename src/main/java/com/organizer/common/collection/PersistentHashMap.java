@@ -0,0 +1,363 @@
+package com.organizer.common.collection;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable hash array mapped trie.
+ * Every update returns a new map that shares all untouched nodes with the previous one,
+ * so a reference to a map is a point-in-time snapshot that is safe to read from any thread.
+ * Null keys and values are not permitted.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public final class PersistentHashMap<K, V> implements Iterable<Map.Entry<K, V>> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final Object NOT_FOUND = new Object();
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        Object value = root.find(hash(key), 0, key);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    public boolean containsKey(Object key) {
+        return key != null && root.find(hash(key), 0, key) != NOT_FOUND;
+    }
+
+    public PersistentHashMap<K, V> put(K key, V value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+        boolean[] added = new boolean[1];
+        Node newRoot = root.put(hash(key), 0, key, value, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    public PersistentHashMap<K, V> remove(Object key) {
+        if (key == null || size == 0) {
+            return this;
+        }
+        Node newRoot = root.remove(hash(key), 0, key);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot == null ? BitmapNode.EMPTY : newRoot, size - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        root.forEach((BiConsumer<Object, Object>) action);
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator<>(root);
+    }
+
+    public Stream<Map.Entry<K, V>> entries() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), size,
+                Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    public Stream<V> values() {
+        return entries().map(Map.Entry::getValue);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitpos(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object[] cloneAndSet(Object[] array, int index, Object value) {
+        Object[] copy = array.clone();
+        copy[index] = value;
+        return copy;
+    }
+
+    private static Node createNode(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+        int hash1 = hash(key1);
+        if (hash1 == hash2) {
+            return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+        }
+        boolean[] added = new boolean[1];
+        return BitmapNode.EMPTY
+                .put(hash1, shift, key1, value1, added)
+                .put(hash2, shift, key2, value2, added);
+    }
+
+    private interface Node {
+        Object find(int hash, int shift, Object key);
+
+        Node put(int hash, int shift, Object key, Object value, boolean[] added);
+
+        /**
+         * @return this node if the key is absent, {@code null} if the node became empty
+         */
+        Node remove(int hash, int shift, Object key);
+
+        void forEach(BiConsumer<Object, Object> action);
+
+        /**
+         * Slots are key/value pairs; a {@code null} key marks a slot that holds a child node.
+         */
+        Object[] slots();
+    }
+
+    private record BitmapNode(int bitmap, Object[] slots) implements Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        @Override
+        public Object find(int hash, int shift, Object key) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            Object storedKey = slots[index];
+            Object storedValue = slots[index + 1];
+            if (storedKey == null) {
+                return ((Node) storedValue).find(hash, shift + BITS, key);
+            }
+            return key.equals(storedKey) ? storedValue : NOT_FOUND;
+        }
+
+        @Override
+        public Node put(int hash, int shift, Object key, Object value, boolean[] added) {
+            int bit = bitpos(hash, shift);
+            int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) == 0) {
+                Object[] copy = new Object[slots.length + 2];
+                System.arraycopy(slots, 0, copy, 0, index);
+                copy[index] = key;
+                copy[index + 1] = value;
+                System.arraycopy(slots, index, copy, index + 2, slots.length - index);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, copy);
+            }
+            Object storedKey = slots[index];
+            Object storedValue = slots[index + 1];
+            if (storedKey == null) {
+                Node child = (Node) storedValue;
+                Node newChild = child.put(hash, shift + BITS, key, value, added);
+                return newChild == child ? this : new BitmapNode(bitmap, cloneAndSet(slots, index + 1, newChild));
+            }
+            if (key.equals(storedKey)) {
+                return storedValue == value ? this : new BitmapNode(bitmap, cloneAndSet(slots, index + 1, value));
+            }
+            added[0] = true;
+            Object[] copy = slots.clone();
+            copy[index] = null;
+            copy[index + 1] = createNode(shift + BITS, storedKey, storedValue, hash, key, value);
+            return new BitmapNode(bitmap, copy);
+        }
+
+        @Override
+        public Node remove(int hash, int shift, Object key) {
+            int bit = bitpos(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            Object storedKey = slots[index];
+            Object storedValue = slots[index + 1];
+            if (storedKey == null) {
+                Node child = (Node) storedValue;
+                Node newChild = child.remove(hash, shift + BITS, key);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild == null) {
+                    return without(bit, index);
+                }
+                Object[] childSlots = newChild.slots();
+                if (childSlots.length == 2 && childSlots[0] != null) {
+                    // A single remaining entry is pulled up to keep the trie shallow
+                    Object[] copy = slots.clone();
+                    copy[index] = childSlots[0];
+                    copy[index + 1] = childSlots[1];
+                    return new BitmapNode(bitmap, copy);
+                }
+                return new BitmapNode(bitmap, cloneAndSet(slots, index + 1, newChild));
+            }
+            return key.equals(storedKey) ? without(bit, index) : this;
+        }
+
+        private Node without(int bit, int index) {
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] copy = new Object[slots.length - 2];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index + 2, copy, index, slots.length - index - 2);
+            return new BitmapNode(bitmap ^ bit, copy);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < slots.length; i += 2) {
+                if (slots[i] == null) {
+                    ((Node) slots[i + 1]).forEach(action);
+                } else {
+                    action.accept(slots[i], slots[i + 1]);
+                }
+            }
+        }
+    }
+
+    private record CollisionNode(int hash, Object[] slots) implements Node {
+
+        @Override
+        public Object find(int hash, int shift, Object key) {
+            if (hash != this.hash) {
+                return NOT_FOUND;
+            }
+            int index = indexOf(key);
+            return index < 0 ? NOT_FOUND : slots[index + 1];
+        }
+
+        @Override
+        public Node put(int hash, int shift, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                return new BitmapNode(bitpos(this.hash, shift), new Object[]{null, this})
+                        .put(hash, shift, key, value, added);
+            }
+            int index = indexOf(key);
+            if (index >= 0) {
+                return slots[index + 1] == value ? this : new CollisionNode(hash, cloneAndSet(slots, index + 1, value));
+            }
+            Object[] copy = new Object[slots.length + 2];
+            System.arraycopy(slots, 0, copy, 0, slots.length);
+            copy[slots.length] = key;
+            copy[slots.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        public Node remove(int hash, int shift, Object key) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            if (index < 0) {
+                return this;
+            }
+            if (slots.length == 2) {
+                return null;
+            }
+            Object[] copy = new Object[slots.length - 2];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index + 2, copy, index, slots.length - index - 2);
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        public void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < slots.length; i += 2) {
+                action.accept(slots[i], slots[i + 1]);
+            }
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < slots.length; i += 2) {
+                if (key.equals(slots[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+        private final Deque<Object[]> slotStack = new ArrayDeque<>();
+        private final Deque<Integer> positionStack = new ArrayDeque<>();
+        private Map.Entry<K, V> next;
+
+        EntryIterator(Node root) {
+            slotStack.push(root.slots());
+            positionStack.push(0);
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> current = next;
+            advance();
+            return current;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            while (!slotStack.isEmpty()) {
+                Object[] slots = slotStack.peek();
+                int position = positionStack.pop();
+                if (position >= slots.length) {
+                    slotStack.pop();
+                    continue;
+                }
+                positionStack.push(position + 2);
+                if (slots[position] == null) {
+                    slotStack.push(((Node) slots[position + 1]).slots());
+                    positionStack.push(0);
+                } else {
+                    next = new AbstractMap.SimpleImmutableEntry<>((K) slots[position], (V) slots[position + 1]);
+                    return;
+                }
+            }
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.organizer.common.collection;
+
+import com.organizer.common.concurrent.RingBuffer;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size-bounded cache with W-TinyLFU admission and eviction.
+ * New entries land in a small LRU window. Entries leaving the window compete for a place in the
+ * main area, a segmented LRU of a probation and a protected queue, against the main area's
+ * eviction victim; a {@link FrequencySketch} of recent accesses decides which of the two stays.
+ * The window absorbs bursts of new keys while the frequency filter keeps one-off reads from
+ * flushing entries that are read over and over.
+ * <p>
+ * {@link #get} never blocks: it reads a concurrent map and records the access in one of several
+ * striped read buffers. The queues and the sketch are only touched under a lock, by the writes
+ * and by whichever thread finds its read buffer full, which replays the buffered reads in bulk.
+ * A read that finds its buffer full while another thread holds the lock is dropped from the
+ * access history, which only makes the eviction policy slightly less precise.
+ * The lock is internal; callers that need compound operations to be atomic use their own.
+ */
+public final class TinyLfuCache<K, V> {
+
+    private static final int READ_BUFFERS = 16;
+    private static final int READ_BUFFER_SIZE = 32;
+
+    private final ConcurrentHashMap<K, Node<K, V>> nodes;
+    private final RingBuffer<K>[] readBuffers;
+    private final ReentrantLock evictionLock;
+    private final FrequencySketch sketch;
+    private final Queue<K, V> window;
+    private final Queue<K, V> probation;
+    private final Queue<K, V> protectedQueue;
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private long evictions;
+
+    /**
+     * @param maximumSize the number of entries the cache holds at most
+     */
+    public TinyLfuCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 4 / 5;
+        this.nodes = new ConcurrentHashMap<>();
+        this.readBuffers = newReadBuffers();
+        this.evictionLock = new ReentrantLock();
+        this.sketch = new FrequencySketch(maximumSize);
+        this.window = new Queue<>();
+        this.probation = new Queue<>();
+        this.protectedQueue = new Queue<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * @return the cached value, or {@code null} on a miss
+     */
+    public V get(K key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Node<K, V> node = nodes.get(key);
+        if (node == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        recordRead(key);
+        return node == null ? null : node.value;
+    }
+
+    public void put(K key, V value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            Node<K, V> node = nodes.get(key);
+            if (node != null) {
+                node.value = value;
+                onAccess(node);
+                return;
+            }
+            node = new Node<>(key, value);
+            nodes.put(key, node);
+            window.addLast(node);
+            if (window.size > windowMaximum) {
+                Node<K, V> candidate = window.removeFirst();
+                probation.addLast(candidate);
+                if (nodes.size() > maximumSize) {
+                    evict(candidate);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        evictionLock.lock();
+        try {
+            Node<K, V> node = nodes.remove(key);
+            if (node != null) {
+                node.queue.remove(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            nodes.clear();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public CacheStats stats() {
+        evictionLock.lock();
+        try {
+            return new CacheStats(hits.sum(), misses.sum(), evictions);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Buffers the access in the calling thread's read buffer. A full buffer is drained on the spot
+     * if the lock is free; otherwise the access is dropped rather than waiting for the lock.
+     */
+    private void recordRead(K key) {
+        RingBuffer<K> buffer = readBuffers[(int) Thread.currentThread().threadId() & (READ_BUFFERS - 1)];
+        if (buffer.offer(key) || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            drainReadBuffers();
+            buffer.offer(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Replays the buffered reads into the sketch and the queues. Called with the lock held, so the
+     * buffers only ever have one consumer at a time.
+     */
+    private void drainReadBuffers() {
+        for (RingBuffer<K> buffer : readBuffers) {
+            buffer.drainTo(this::onRead, READ_BUFFER_SIZE);
+        }
+    }
+
+    private void onRead(K key) {
+        sketch.increment(key);
+        Node<K, V> node = nodes.get(key);
+        if (node != null) {
+            onAccess(node);
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.queue == probation) {
+            probation.remove(node);
+            protectedQueue.addLast(node);
+            if (protectedQueue.size > protectedMaximum) {
+                probation.addLast(protectedQueue.removeFirst());
+            }
+        } else {
+            node.queue.moveToLast(node);
+        }
+    }
+
+    /**
+     * Drops either the candidate that just left the window or the main area's victim,
+     * whichever has been accessed less often recently.
+     */
+    private void evict(Node<K, V> candidate) {
+        Node<K, V> victim = probation.first();
+        if (victim == candidate) {
+            // Nothing else on probation, so the victim comes from the protected queue
+            victim = protectedQueue.first() != null ? protectedQueue.first() : candidate;
+        }
+        Node<K, V> evicted = sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+        evicted.queue.remove(evicted);
+        nodes.remove(evicted.key);
+        evictions++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> RingBuffer<K>[] newReadBuffers() {
+        RingBuffer<K>[] buffers = (RingBuffer<K>[]) new RingBuffer<?>[READ_BUFFERS];
+        for (int i = 0; i < READ_BUFFERS; i++) {
+            buffers[i] = new RingBuffer<>(READ_BUFFER_SIZE);
+        }
+        return buffers;
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private volatile V value;
+        private Queue<K, V> queue;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Intrusive doubly linked LRU queue, least recently used first.
+     */
+    private static final class Queue<K, V> {
+
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private int size;
+
+        Node<K, V> first() {
+            return head;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.queue = this;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        Node<K, V> removeFirst() {
+            Node<K, V> first = head;
+            remove(first);
+            return first;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.queue = null;
+            size--;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.organizer.common.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Map from UUIDs to non-negative {@code int} values, stored as primitives in flat arrays.
+ * Keys are kept as their two {@code long} halves, so an entry costs 20 bytes per slot instead of
+ * a key record, a {@link UUID}, a boxed value and a hash map node. Linear probing with
+ * backward-shift deletion keeps probe sequences short without tombstones.
+ * Not thread-safe; callers synchronize externally.
+ */
+public final class UuidIntHashMap {
+
+    /**
+     * Returned by lookups and updates when the key is absent.
+     */
+    public static final int NO_VALUE = -1;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public UuidIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of entries the map should hold before it grows
+     */
+    public UuidIntHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of slots, which together with {@link #size()} gives the load
+     */
+    public int capacity() {
+        return values.length;
+    }
+
+    public int get(UUID key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    public int get(long msb, long lsb) {
+        int slot = slotOf(msb, lsb);
+        return slot < 0 ? NO_VALUE : values[slot];
+    }
+
+    public boolean containsKey(UUID key) {
+        return get(key) != NO_VALUE;
+    }
+
+    public int put(UUID key, int value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    /**
+     * @return the previous value, or {@link #NO_VALUE} if the key was absent
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public int put(long msb, long lsb, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value cannot be negative");
+        }
+        int slot = hash(msb, lsb) & mask;
+        while (values[slot] != NO_VALUE) {
+            if (keys[2 * slot] == msb && keys[2 * slot + 1] == lsb) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[2 * slot] = msb;
+        keys[2 * slot + 1] = lsb;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(values.length * 2);
+        }
+        return NO_VALUE;
+    }
+
+    public int remove(UUID key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        return remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /**
+     * @return the removed value, or {@link #NO_VALUE} if the key was absent
+     */
+    public int remove(long msb, long lsb) {
+        int slot = slotOf(msb, lsb);
+        if (slot < 0) {
+            return NO_VALUE;
+        }
+        int removed = values[slot];
+        size--;
+        // Pull later entries of the probe run back so lookups never stop early at the hole
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (values[next] != NO_VALUE) {
+            int home = hash(keys[2 * next], keys[2 * next + 1]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[2 * hole] = keys[2 * next];
+                keys[2 * hole + 1] = keys[2 * next + 1];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[hole] = NO_VALUE;
+        return removed;
+    }
+
+    public void clear() {
+        Arrays.fill(values, NO_VALUE);
+        size = 0;
+    }
+
+    private int slotOf(long msb, long lsb) {
+        int slot = hash(msb, lsb) & mask;
+        while (values[slot] != NO_VALUE) {
+            if (keys[2 * slot] == msb && keys[2 * slot + 1] == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (oldValues[slot] != NO_VALUE) {
+                int target = hash(oldKeys[2 * slot], oldKeys[2 * slot + 1]) & mask;
+                while (values[target] != NO_VALUE) {
+                    target = (target + 1) & mask;
+                }
+                keys[2 * target] = oldKeys[2 * slot];
+                keys[2 * target + 1] = oldKeys[2 * slot + 1];
+                values[target] = oldValues[slot];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Map cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        keys = new long[2 * capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NO_VALUE);
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * 0.7f);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long wanted = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.7));
+        return wanted >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
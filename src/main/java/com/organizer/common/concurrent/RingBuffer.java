@@ -0,0 +1,105 @@
+package com.organizer.common.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer.
+ * Each slot carries a sequence number that tells producers whether it is free for their lap of the
+ * ring and tells the consumer whether it has been filled, so producers only contend on one
+ * compare-and-set of the tail. The consumer never takes part in that contention: it frees each
+ * slot with a single volatile write of its sequence, never a compare-and-set, and keeps its
+ * head to itself.
+ * {@link #offer} may be called from any thread; {@link #poll}, {@link #drainTo} and
+ * {@link #isEmpty} only from the one consumer thread.
+ */
+public final class RingBuffer<T> {
+
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail;
+    private final int mask;
+    private long head;
+
+    /**
+     * @param capacity the number of slots, a power of two
+     */
+    public RingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        this.slots = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.tail = new AtomicLong();
+        this.mask = capacity - 1;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * @return {@code false} if the buffer is full
+     */
+    public boolean offer(T item) {
+        if (item == null) {
+            throw new NullPointerException("Item cannot be null");
+        }
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long lag = sequences.get(index) - position;
+            if (lag == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = item;
+                    // Publishes the item to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (lag < 0) {
+                return false;
+            }
+            // Otherwise another producer claimed this position first; retry with the new tail
+        }
+    }
+
+    /**
+     * @return the oldest item, or {@code null} if none is published yet
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        T item = (T) slots[index];
+        slots[index] = null;
+        // Frees the slot for the producers' next lap
+        sequences.set(index, head + slots.length);
+        head++;
+        return item;
+    }
+
+    /**
+     * Hands up to {@code max} published items to {@code sink} in queue order.
+     *
+     * @return the number of items drained
+     */
+    public int drainTo(Consumer<? super T> sink, int max) {
+        int drained = 0;
+        T item;
+        while (drained < max && (item = poll()) != null) {
+            sink.accept(item);
+            drained++;
+        }
+        return drained;
+    }
+
+    public boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+}
@@ -0,0 +1,39 @@
+package com.organizer.common.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs each submitted call on its own virtual thread.
+ * A call that blocks on I/O or a lock parks its virtual thread and frees the carrier, so many
+ * thousands of calls can be in flight on a handful of platform threads.
+ */
+public final class VirtualThreadExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+
+    public VirtualThreadExecutor(String name) {
+        Objects.requireNonNull(name, "Executor name cannot be null");
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    /**
+     * @return a future completed with the call's result, or exceptionally with what it threw
+     * @throws java.util.concurrent.RejectedExecutionException if the executor is closed
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        Objects.requireNonNull(call, "Call cannot be null");
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+
+    /**
+     * Stops accepting calls and waits for the ones in flight to finish.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,64 @@
+package com.organizer.common.id;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Generator of time-ordered version 7 UUIDs (RFC 9562).
+ * The first 48 bits hold the Unix time in milliseconds and the 12 bits after the version
+ * hold a counter, so ids sort by creation time and land next to each other in sorted and
+ * on-disk indexes. The remaining 62 bits are random.
+ * <p>
+ * State is kept per thread and randomness comes from {@link ThreadLocalRandom}, so threads
+ * never contend. Ids from one thread are strictly increasing: the counter starts at a random
+ * value in the lower half of its range each millisecond, and when it runs out, or the clock
+ * steps back, the timestamp is advanced past the last one used.
+ */
+public final class TimeOrderedUuidGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final int COUNTER_MAX = (1 << COUNTER_BITS) - 1;
+    private static final long VERSION = 7L << COUNTER_BITS;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> state;
+
+    public TimeOrderedUuidGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock supplies the current Unix time in milliseconds
+     */
+    public TimeOrderedUuidGenerator(LongSupplier clock) {
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+        this.state = ThreadLocal.withInitial(State::new);
+    }
+
+    public UUID next() {
+        State current = state.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = clock.getAsLong();
+        if (now > current.millis) {
+            current.millis = now;
+            current.counter = random.nextInt(COUNTER_MAX / 2 + 1);
+        } else if (current.counter < COUNTER_MAX) {
+            current.counter++;
+        } else {
+            current.millis++;
+            current.counter = random.nextInt(COUNTER_MAX / 2 + 1);
+        }
+        long msb = (current.millis << 16) | VERSION | current.counter;
+        long lsb = VARIANT | (random.nextLong() & RANDOM_MASK);
+        return new UUID(msb, lsb);
+    }
+
+    private static final class State {
+        private long millis = Long.MIN_VALUE;
+        private int counter;
+    }
+}
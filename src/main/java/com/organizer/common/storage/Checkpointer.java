@@ -0,0 +1,50 @@
+package com.organizer.common.storage;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a checkpoint, such as a snapshot, periodically on a background daemon thread.
+ * A failed run is logged and the next one is still attempted.
+ */
+public final class Checkpointer implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(Checkpointer.class.getName());
+
+    private final ScheduledExecutorService scheduler;
+
+    public Checkpointer(String name, Duration interval, Runnable checkpoint) {
+        Objects.requireNonNull(name, "Name cannot be null");
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        Objects.requireNonNull(checkpoint, "Checkpoint cannot be null");
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(name).daemon(true).factory());
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Checkpoint " + name + " failed", e);
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops scheduling and waits for a running checkpoint to finish.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.organizer.common.storage;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Durability helpers for directory entries.
+ */
+final class Directories {
+
+    private static final boolean WINDOWS = System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+
+    private Directories() {
+    }
+
+    /**
+     * Syncs {@code directory} itself, so files created in it or renamed into it survive a crash.
+     * Syncing a file only covers its content, not the directory entry pointing to it.
+     * Windows cannot open a directory for syncing and persists entries with the file metadata instead.
+     */
+    static void sync(Path directory) throws IOException {
+        if (WINDOWS) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+}
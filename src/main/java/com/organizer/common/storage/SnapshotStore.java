@@ -0,0 +1,132 @@
+package com.organizer.common.storage;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Directory of point-in-time snapshots that pair with a {@link WriteAheadLog}.
+ * A snapshot is tagged with the log segment it precedes: loading it and replaying the log
+ * from that segment onwards restores the full state.
+ * <p>
+ * Snapshots are written to a temporary file, synced and atomically renamed, and carry a
+ * trailing CRC32C, so a crash while writing one leaves the previous snapshot in effect.
+ * The directory is synced after the rename, so the new snapshot survives a crash once
+ * {@link #write} returns.
+ */
+public final class SnapshotStore {
+
+    private static final int MAGIC = 0x534E4150;
+    private static final String SUFFIX = ".snap";
+    private static final String TEMP_SUFFIX = ".snap.tmp";
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface Reader {
+        void read(DataInputStream in) throws IOException;
+    }
+
+    private final Path directory;
+
+    public SnapshotStore(Path directory) {
+        Objects.requireNonNull(directory, "Snapshot directory cannot be null");
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path temp : files.filter(p -> p.getFileName().toString().endsWith(TEMP_SUFFIX)).toList()) {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open snapshot directory " + directory, e);
+        }
+    }
+
+    /**
+     * Writes a snapshot that precedes log segment {@code segment} and deletes older snapshots.
+     */
+    public void write(long segment, Writer body) {
+        Path target = directory.resolve(name(segment, SUFFIX));
+        Path temp = directory.resolve(name(segment, TEMP_SUFFIX));
+        try {
+            try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+                BufferedOutputStream buffered = new BufferedOutputStream(file, 1 << 16);
+                CheckedOutputStream checked = new CheckedOutputStream(buffered, new CRC32C());
+                DataOutputStream out = new DataOutputStream(checked);
+                out.writeInt(MAGIC);
+                out.writeLong(segment);
+                body.write(out);
+                // The trailing checksum covers everything before it, so it bypasses the checked stream
+                new DataOutputStream(buffered).writeInt((int) checked.getChecksum().getValue());
+                buffered.flush();
+                file.getFD().sync();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            // Older snapshots may only go once the rename itself is durable
+            Directories.sync(directory);
+            for (long older : list()) {
+                if (older < segment) {
+                    Files.deleteIfExists(directory.resolve(name(older, SUFFIX)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write snapshot " + target, e);
+        }
+    }
+
+    /**
+     * Feeds the newest snapshot to {@code body}.
+     *
+     * @return the log segment to replay from, {@code 0} when there is no snapshot
+     */
+    public long loadLatest(Reader body) {
+        try {
+            List<Long> snapshots = list();
+            if (snapshots.isEmpty()) {
+                return 0L;
+            }
+            long segment = snapshots.getLast();
+            Path file = directory.resolve(name(segment, SUFFIX));
+            try (InputStream raw = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+                CheckedInputStream checked = new CheckedInputStream(raw, new CRC32C());
+                DataInputStream in = new DataInputStream(checked);
+                if (in.readInt() != MAGIC || in.readLong() != segment) {
+                    throw new IOException("Not a snapshot: " + file);
+                }
+                body.read(in);
+                int expected = (int) checked.getChecksum().getValue();
+                if (new DataInputStream(raw).readInt() != expected) {
+                    throw new IOException("Snapshot checksum mismatch: " + file);
+                }
+            }
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load snapshot from " + directory, e);
+        }
+    }
+
+    private List<Long> list() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name, 0, name.length() - SUFFIX.length(), 10))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String name(long segment, String suffix) {
+        return String.format("%020d%s", segment, suffix);
+    }
+}
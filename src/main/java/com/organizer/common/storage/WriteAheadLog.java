@@ -0,0 +1,372 @@
+package com.organizer.common.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of opaque records with group commit.
+ * Appends are queued in call order and a single writer thread drains whatever is queued,
+ * writes it in one go and issues one {@code fsync} for the whole batch, so the cost of a
+ * sync is shared by every caller waiting at that moment.
+ * <p>
+ * The log is a directory of numbered segment files. {@link #rotate()} starts a new segment,
+ * so that once a snapshot covers everything before it the older segments can be deleted.
+ * Each record is framed as {@code [length][crc32c][payload]} with a non-empty payload. A torn,
+ * corrupted or zero-filled tail left by a crash is detected on open and cut off. New segment
+ * files are made durable by syncing the log directory as well.
+ */
+public final class WriteAheadLog implements AutoCloseable {
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int MAX_BATCH_RECORDS = 4_096;
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final LinkedBlockingQueue<Entry> queue;
+    private final Thread writer;
+    private final ReadWriteLock closeLock;
+    private FileChannel channel;
+    private long segment;
+    private volatile boolean closed;
+    private UncheckedIOException failure;
+
+    private WriteAheadLog(Path directory, FileChannel channel, long segment) {
+        this.directory = directory;
+        this.channel = channel;
+        this.segment = segment;
+        this.queue = new LinkedBlockingQueue<>();
+        this.closeLock = new ReentrantReadWriteLock();
+        this.writer = Thread.ofPlatform()
+                .name("wal-writer-" + directory.getFileName())
+                .daemon(true)
+                .start(this::writeLoop);
+    }
+
+    /**
+     * Opens the log, feeding every intact record of segment {@code fromSegment} onwards to
+     * {@code replay} in append order before returning. Older segments are deleted.
+     *
+     * @param directory   the log directory, created if missing
+     * @param fromSegment the first segment not covered by a snapshot, {@code 0} without one
+     * @param replay      receives the payload of each recovered record
+     * @throws UncheckedIOException if the log cannot be opened or a sealed segment is corrupted
+     */
+    public static WriteAheadLog open(Path directory, long fromSegment, Consumer<byte[]> replay) {
+        Objects.requireNonNull(directory, "Log directory cannot be null");
+        Objects.requireNonNull(replay, "Replay consumer cannot be null");
+        try {
+            Files.createDirectories(directory);
+            List<Long> segments = listSegments(directory);
+            for (long stale : segments) {
+                if (stale < fromSegment) {
+                    Files.deleteIfExists(segmentFile(directory, stale));
+                }
+            }
+            segments.removeIf(s -> s < fromSegment);
+            if (segments.isEmpty()) {
+                segments.add(fromSegment);
+            }
+
+            long last = segments.getLast();
+            for (long sealed : segments.subList(0, segments.size() - 1)) {
+                Path file = segmentFile(directory, sealed);
+                try (InputStream in = Files.newInputStream(file)) {
+                    if (replay(in, replay) != Files.size(file)) {
+                        throw new IOException("Sealed log segment is corrupted: " + file);
+                    }
+                }
+            }
+
+            Path lastFile = segmentFile(directory, last);
+            FileChannel channel = FileChannel.open(lastFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Directories.sync(directory);
+            long validLength;
+            try (InputStream in = Files.newInputStream(lastFile)) {
+                validLength = replay(in, replay);
+            }
+            channel.truncate(validLength);
+            channel.position(validLength);
+            return new WriteAheadLog(directory, channel, last);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open write-ahead log " + directory, e);
+        }
+    }
+
+    /**
+     * Reads every intact record of a log stream.
+     *
+     * @return the number of bytes covered by intact records
+     */
+    private static long replay(InputStream stream, Consumer<byte[]> replay) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 1 << 16));
+        long validLength = 0;
+        CRC32C crc = new CRC32C();
+        while (true) {
+            int length;
+            int checksum;
+            byte[] payload;
+            try {
+                length = in.readInt();
+                checksum = in.readInt();
+                // Payloads are never empty, so a zero length is a zero-filled tail, whose checksum would match
+                if (length <= 0) {
+                    return validLength;
+                }
+                payload = in.readNBytes(length);
+                if (payload.length < length) {
+                    return validLength;
+                }
+            } catch (EOFException e) {
+                return validLength;
+            }
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                return validLength;
+            }
+            replay.accept(payload);
+            validLength += HEADER_BYTES + length;
+        }
+    }
+
+    /**
+     * Queues a record. The returned future completes once the record is on stable storage,
+     * or exceptionally with an {@link UncheckedIOException} if writing it failed.
+     *
+     * @throws IllegalArgumentException if {@code payload} is empty
+     */
+    public CompletableFuture<Void> append(byte[] payload) {
+        Objects.requireNonNull(payload, "Payload cannot be null");
+        if (payload.length == 0) {
+            throw new IllegalArgumentException("Payload cannot be empty");
+        }
+        Append append = new Append(payload, new CompletableFuture<>());
+        enqueue(append);
+        return append.durable();
+    }
+
+    /**
+     * Appends a record and waits until it is durable.
+     */
+    public void appendAndSync(byte[] payload) {
+        await(append(payload));
+    }
+
+    /**
+     * Seals the current segment and directs all later appends to a new one.
+     * Records appended before this call end up in earlier segments. The call only queues
+     * the switch, so callers can hold their own write lock across it without stalling
+     * writers for the duration of a sync.
+     *
+     * @return a future of the number of the new segment, completed once the switch happened
+     */
+    public CompletableFuture<Long> rotate() {
+        Rotation rotation = new Rotation(new CompletableFuture<>());
+        enqueue(rotation);
+        return rotation.segment();
+    }
+
+    /**
+     * Deletes the segments that precede {@code segment}, typically once a snapshot covers them.
+     */
+    public void deleteSegmentsBefore(long segment) {
+        try {
+            for (long existing : listSegments(directory)) {
+                if (existing < segment) {
+                    Files.deleteIfExists(segmentFile(directory, existing));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete log segments in " + directory, e);
+        }
+    }
+
+    /**
+     * Waits for a future returned by {@link #append} or {@link #rotate}, unwrapping I/O failures.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io;
+            }
+            throw e;
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Write-ahead log is closed");
+            }
+            queue.add(entry);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>();
+        List<Append> run = new ArrayList<>();
+        while (!closed || !queue.isEmpty()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH_RECORDS - 1);
+                for (Entry entry : batch) {
+                    switch (entry) {
+                        case Append append -> run.add(append);
+                        case Rotation rotation -> {
+                            writeRun(run);
+                            run.clear();
+                            switchSegment(rotation);
+                        }
+                        case Poison ignored -> {
+                        }
+                    }
+                }
+                writeRun(run);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+                run.clear();
+            }
+        }
+    }
+
+    private void writeRun(List<Append> run) {
+        if (run.isEmpty()) {
+            return;
+        }
+        if (failure != null) {
+            // After a failed write the file tail is unknown, so nothing more may be acknowledged
+            run.forEach(append -> append.durable().completeExceptionally(failure));
+            return;
+        }
+        try {
+            int size = 0;
+            for (Append append : run) {
+                size += HEADER_BYTES + append.payload().length;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            CRC32C crc = new CRC32C();
+            for (Append append : run) {
+                crc.reset();
+                crc.update(append.payload());
+                buffer.putInt(append.payload().length);
+                buffer.putInt((int) crc.getValue());
+                buffer.put(append.payload());
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            for (Append append : run) {
+                append.durable().complete(null);
+            }
+        } catch (IOException e) {
+            failure = new UncheckedIOException("Cannot write to write-ahead log", e);
+            run.forEach(append -> append.durable().completeExceptionally(failure));
+        }
+    }
+
+    private void switchSegment(Rotation rotation) {
+        if (failure != null) {
+            rotation.segment().completeExceptionally(failure);
+            return;
+        }
+        try {
+            long next = segment + 1;
+            FileChannel nextChannel = FileChannel.open(segmentFile(directory, next),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            Directories.sync(directory);
+            channel.force(true);
+            channel.close();
+            channel = nextChannel;
+            segment = next;
+            rotation.segment().complete(next);
+        } catch (IOException e) {
+            failure = new UncheckedIOException("Cannot rotate write-ahead log", e);
+            rotation.segment().completeExceptionally(failure);
+        }
+    }
+
+    private static List<Long> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name, 0, name.length() - SEGMENT_SUFFIX.length(), 10))
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private static Path segmentFile(Path directory, long segment) {
+        return directory.resolve(String.format("%020d%s", segment, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Stops accepting appends, waits for queued records to be written and closes the file.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(new Poison());
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close write-ahead log", e);
+        }
+    }
+
+    private sealed interface Entry {
+    }
+
+    private record Append(byte[] payload, CompletableFuture<Void> durable) implements Entry {
+    }
+
+    private record Rotation(CompletableFuture<Long> segment) implements Entry {
+    }
+
+    private record Poison() implements Entry {
+    }
+}
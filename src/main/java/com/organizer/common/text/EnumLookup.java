@@ -0,0 +1,84 @@
+package com.organizer.common.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Exception-free, case-insensitive lookup of enum constants by name or by an alias such as a
+ * display name. The accepted spellings are bucketed by length when the lookup is built, so a
+ * parse compares the input against at most a couple of candidates, reads it in place from any
+ * {@link CharSequence} and returns a precomputed {@link Optional} without allocating.
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private final char[][][] formsByLength;
+    private final List<List<Optional<E>>> constantsByLength;
+
+    /**
+     * @param constants the constants to look up, normally {@code values()}
+     * @param alias     a second accepted spelling of each constant besides its name
+     */
+    public EnumLookup(E[] constants, Function<E, String> alias) {
+        Objects.requireNonNull(constants, "Constants cannot be null");
+        Objects.requireNonNull(alias, "Alias cannot be null");
+        List<List<char[]>> forms = new ArrayList<>();
+        List<List<Optional<E>>> matches = new ArrayList<>();
+        for (E constant : constants) {
+            add(forms, matches, constant.name(), constant);
+            String other = alias.apply(constant);
+            if (other != null && !other.equalsIgnoreCase(constant.name())) {
+                add(forms, matches, other, constant);
+            }
+        }
+        this.formsByLength = new char[forms.size()][][];
+        for (int length = 0; length < forms.size(); length++) {
+            formsByLength[length] = forms.get(length).toArray(new char[0][]);
+        }
+        this.constantsByLength = matches;
+    }
+
+    private static <E> void add(List<List<char[]>> forms, List<List<Optional<E>>> matches, String form, E constant) {
+        while (forms.size() <= form.length()) {
+            forms.add(new ArrayList<>());
+            matches.add(new ArrayList<>());
+        }
+        char[] folded = new char[form.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(form.charAt(i));
+        }
+        forms.get(form.length()).add(folded);
+        matches.get(form.length()).add(Optional.of(constant));
+    }
+
+    /**
+     * @return the constant spelled by {@code text}, ignoring case, or empty for {@code null} or unknown input
+     */
+    public Optional<E> parse(CharSequence text) {
+        if (text == null || text.length() >= formsByLength.length) {
+            return Optional.empty();
+        }
+        char[][] candidates = formsByLength[text.length()];
+        for (int c = 0; c < candidates.length; c++) {
+            if (matches(candidates[c], text)) {
+                return constantsByLength.get(text.length()).get(c);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean matches(char[] form, CharSequence text) {
+        for (int i = 0; i < form.length; i++) {
+            if (fold(text.charAt(i)) != form[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
@@ -0,0 +1,264 @@
+package com.organizer.common.text;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Exception-free UUID parsing.
+ * Accepts exactly the inputs {@link UUID#fromString} accepts and yields the same value, but
+ * reports malformed input as an empty result rather than by throwing, so rejecting bad input
+ * costs no stack trace. Input is read in place, from a {@link CharSequence} or an ASCII
+ * {@code byte[]}, straight into the two halves of the UUID without intermediate strings or
+ * arrays; a successful parse allocates only the {@link UUID} and its {@link Optional}.
+ * The canonical 36-character form takes a fast path; any other form follows the lenient
+ * five-group rules of {@link UUID#fromString}.
+ */
+public final class UuidParser {
+
+    private static final int CANONICAL_LENGTH = 36;
+    private static final byte[] HEX_DIGITS = hexDigits();
+
+    private UuidParser() {
+    }
+
+    public static Optional<UUID> parse(CharSequence text) {
+        if (text == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(parse(text, 0, text.length()));
+    }
+
+    /**
+     * Parses {@code text} as if it had been {@linkplain String#strip() stripped} first.
+     */
+    public static Optional<UUID> parseStripped(CharSequence text) {
+        if (text == null) {
+            return Optional.empty();
+        }
+        int begin = 0;
+        int end = text.length();
+        while (begin < end && Character.isWhitespace(text.charAt(begin))) {
+            begin++;
+        }
+        while (end > begin && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return Optional.ofNullable(parse(text, begin, end));
+    }
+
+    /**
+     * Parses US-ASCII bytes; any byte outside that range makes the input invalid.
+     */
+    public static Optional<UUID> parse(byte[] ascii, int offset, int length) {
+        if (ascii == null || offset < 0 || length < 0 || offset > ascii.length - length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(parse(new AsciiSequence(ascii, 0, ascii.length), offset, offset + length));
+    }
+
+    /**
+     * @return the parsed UUID, or {@code null} if the range is not a valid UUID
+     */
+    private static UUID parse(CharSequence text, int begin, int end) {
+        UUID canonical = text instanceof String string ? parseCanonical(string, begin, end) : parseCanonical(text, begin, end);
+        return canonical != null ? canonical : parseLenient(text, begin, end);
+    }
+
+    /**
+     * @return the parsed UUID if the range is in the 8-4-4-4-12 form, otherwise {@code null}
+     */
+    private static UUID parseCanonical(CharSequence text, int begin, int end) {
+        if (end - begin == CANONICAL_LENGTH
+                && text.charAt(begin + 8) == '-' && text.charAt(begin + 13) == '-'
+                && text.charAt(begin + 18) == '-' && text.charAt(begin + 23) == '-') {
+            long group1 = hex4(text, begin);
+            long group2 = hex4(text, begin + 4);
+            long group3 = hex4(text, begin + 9);
+            long group4 = hex4(text, begin + 14);
+            long group5 = hex4(text, begin + 19);
+            long group6 = hex4(text, begin + 24);
+            long group7 = hex4(text, begin + 28);
+            long group8 = hex4(text, begin + 32);
+            if ((group1 | group2 | group3 | group4 | group5 | group6 | group7 | group8) >= 0) {
+                return new UUID(group1 << 48 | group2 << 32 | group3 << 16 | group4,
+                        group5 << 48 | group6 << 32 | group7 << 16 | group8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Same as {@link #parseCanonical(CharSequence, int, int)} for a {@code String}, so that its {@code charAt}
+     * calls stay direct however many other kinds of {@code CharSequence} the parser has seen.
+     */
+    private static UUID parseCanonical(String text, int begin, int end) {
+        if (end - begin == CANONICAL_LENGTH
+                && text.charAt(begin + 8) == '-' && text.charAt(begin + 13) == '-'
+                && text.charAt(begin + 18) == '-' && text.charAt(begin + 23) == '-') {
+            long group1 = hex4(text, begin);
+            long group2 = hex4(text, begin + 4);
+            long group3 = hex4(text, begin + 9);
+            long group4 = hex4(text, begin + 14);
+            long group5 = hex4(text, begin + 19);
+            long group6 = hex4(text, begin + 24);
+            long group7 = hex4(text, begin + 28);
+            long group8 = hex4(text, begin + 32);
+            if ((group1 | group2 | group3 | group4 | group5 | group6 | group7 | group8) >= 0) {
+                return new UUID(group1 << 48 | group2 << 32 | group3 << 16 | group4,
+                        group5 << 48 | group6 << 32 | group7 << 16 | group8);
+            }
+        }
+        return null;
+    }
+
+    private static UUID parseLenient(CharSequence text, int begin, int end) {
+        if (end - begin > CANONICAL_LENGTH) {
+            return null;
+        }
+        int dash1 = indexOfDash(text, begin, end);
+        int dash2 = dash1 < 0 ? -1 : indexOfDash(text, dash1 + 1, end);
+        int dash3 = dash2 < 0 ? -1 : indexOfDash(text, dash2 + 1, end);
+        int dash4 = dash3 < 0 ? -1 : indexOfDash(text, dash3 + 1, end);
+        if (dash4 < 0 || indexOfDash(text, dash4 + 1, end) >= 0) {
+            return null;
+        }
+        if (!isLong(text, begin, dash1) || !isLong(text, dash1 + 1, dash2) || !isLong(text, dash2 + 1, dash3)
+                || !isLong(text, dash3 + 1, dash4) || !isLong(text, dash4 + 1, end)) {
+            return null;
+        }
+        long msb = parseLong(text, begin, dash1) & 0xffffffffL;
+        msb <<= 16;
+        msb |= parseLong(text, dash1 + 1, dash2) & 0xffffL;
+        msb <<= 16;
+        msb |= parseLong(text, dash2 + 1, dash3) & 0xffffL;
+        long lsb = parseLong(text, dash3 + 1, dash4) & 0xffffL;
+        lsb <<= 48;
+        lsb |= parseLong(text, dash4 + 1, end) & 0xffffffffffffL;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * @return the value of the four hex digits at {@code begin}, or a negative number if any of them is not one
+     */
+    private static int hex4(CharSequence text, int begin) {
+        return hexDigit(text.charAt(begin)) << 12 | hexDigit(text.charAt(begin + 1)) << 8
+                | hexDigit(text.charAt(begin + 2)) << 4 | hexDigit(text.charAt(begin + 3));
+    }
+
+    private static int hex4(String text, int begin) {
+        return hexDigit(text.charAt(begin)) << 12 | hexDigit(text.charAt(begin + 1)) << 8
+                | hexDigit(text.charAt(begin + 2)) << 4 | hexDigit(text.charAt(begin + 3));
+    }
+
+    private static int hexDigit(char c) {
+        return c < HEX_DIGITS.length ? HEX_DIGITS[c] : -1;
+    }
+
+    /**
+     * @return the value of every ASCII character as a hex digit, {@code -1} for those that are not one
+     */
+    private static byte[] hexDigits() {
+        byte[] digits = new byte[128];
+        Arrays.fill(digits, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            digits['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            digits['a' + i] = (byte) (10 + i);
+            digits['A' + i] = (byte) (10 + i);
+        }
+        return digits;
+    }
+
+    private static int indexOfDash(CharSequence text, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (text.charAt(i) == '-') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Mirrors the checks of {@link Long#parseLong(CharSequence, int, int, int)} in radix 16.
+     */
+    private static boolean isLong(CharSequence text, int begin, int end) {
+        if (begin >= end) {
+            return false;
+        }
+        int i = begin;
+        boolean negative = false;
+        char first = text.charAt(i);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+            } else if (first != '+') {
+                return false;
+            }
+            if (++i == end) {
+                return false;
+            }
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / 16;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(text.charAt(i), 16);
+            if (digit < 0 || result < multmin) {
+                return false;
+            }
+            result *= 16;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        return true;
+    }
+
+    /**
+     * Parses a range already accepted by {@link #isLong}.
+     */
+    private static long parseLong(CharSequence text, int begin, int end) {
+        int i = begin;
+        boolean negative = text.charAt(i) == '-';
+        if (negative || text.charAt(i) == '+') {
+            i++;
+        }
+        long result = 0;
+        for (; i < end; i++) {
+            result = result * 16 - Character.digit(text.charAt(i), 16);
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Read-only character view of a range of ASCII bytes; bytes above {@code 0x7F} map to characters
+     * no rule accepts. Sub-sequences share the array.
+     */
+    private record AsciiSequence(byte[] bytes, int offset, int length) implements CharSequence {
+
+        @Override
+        public char charAt(int index) {
+            byte b = bytes[offset + Objects.checkIndex(index, length)];
+            return b < 0 ? '\uFFFF' : (char) b;
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return new AsciiSequence(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                text.append(charAt(i));
+            }
+            return text.toString();
+        }
+    }
+}
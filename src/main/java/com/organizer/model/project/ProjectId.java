@@ -1,6 +1,9 @@
 package com.organizer.model.project;
 
+import com.organizer.common.text.UuidParser;
+
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 public record ProjectId(UUID value) {
@@ -20,10 +23,21 @@ public record ProjectId(UUID value) {
 
     public static ProjectId of(String string) {
         Objects.requireNonNull(string, "Project ID string cannot be null");
-        UUID uuid = UUID.fromString(string.strip());
+        UUID uuid = UuidParser.parseStripped(string)
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Invalid project ID: %s", string)));
         return new ProjectId(uuid);
     }
 
+    /**
+     * Like {@link #of}, but reports malformed, NIL or {@code null} input as an empty result instead of throwing.
+     * Surrounding whitespace is skipped without copying the input.
+     */
+    public static Optional<ProjectId> tryOf(CharSequence text) {
+        return UuidParser.parseStripped(text)
+                .filter(uuid -> !uuid.equals(NIL))
+                .map(ProjectId::new);
+    }
+
     @Override
     public String toString() {
         return value.toString();
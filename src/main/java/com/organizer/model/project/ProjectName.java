@@ -1,16 +1,16 @@
 package com.organizer.model.project;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 public record ProjectName(String name) {
 
-    private static final Pattern PATTERN = Pattern.compile("^.{1,50}$");
+    private static final int MAX_LENGTH = 50;
 
     public ProjectName {
         Objects.requireNonNull(name, "Project name cannot be null");
         var projectName = name.strip();
-        if (!PATTERN.matcher(projectName).matches()) {
+        if (!isValid(projectName)) {
             throw new IllegalArgumentException(String.format("Invalid project name: %s", projectName));
         }
         name = projectName;
@@ -20,4 +20,35 @@ public record ProjectName(String name) {
         return new ProjectName(name);
     }
 
+    /**
+     * Like {@link #of}, but reports invalid or {@code null} input as an empty result instead of throwing.
+     */
+    public static Optional<ProjectName> tryOf(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        var projectName = name.strip();
+        return isValid(projectName) ? Optional.of(new ProjectName(projectName)) : Optional.empty();
+    }
+
+    /**
+     * Hand-rolled equivalent of {@code ^.{1,50}$}: 1 to 50 code points, none of them a line terminator.
+     */
+    private static boolean isValid(String name) {
+        int codePoints = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+            if (Character.isHighSurrogate(c) && i + 1 < name.length() && Character.isLowSurrogate(name.charAt(i + 1))) {
+                i++;
+            }
+            if (++codePoints > MAX_LENGTH) {
+                return false;
+            }
+        }
+        return codePoints > 0;
+    }
+
 }
@@ -7,6 +7,7 @@ import java.util.Objects;
 public final class Task {
 
     private final TaskId id;
+    private final long version;
     private TaskName name;
     private TaskDescription description;
     private TaskPriority priority;
@@ -18,15 +19,7 @@ public final class Task {
     }
 
     public Task(TaskId id, TaskName name, TaskDescription description) {
-        Objects.requireNonNull(id, "Task ID cannot be null");
-        this.id = id;
-        Objects.requireNonNull(name, "Task name cannot be null");
-        this.name = name;
-        Objects.requireNonNull(description, "Task description cannot be null");
-        this.description = description;
-        this.priority = TaskPriority.MEDIUM;
-        this.status = TaskStatus.TODO;
-        this.assignedUser = null;
+        this(id, name, description, TaskPriority.MEDIUM, TaskStatus.TODO, null);
     }
 
     public Task(TaskName name, TaskDescription description, TaskPriority priority, TaskStatus status, User assignedUser) {
@@ -34,18 +27,40 @@ public final class Task {
     }
 
     public Task(TaskId id, TaskName name, TaskDescription description, TaskPriority priority, TaskStatus status, User assignedUser) {
-        this(id, name, description);
+        this(id, name, description, priority, status, assignedUser, 0);
+    }
+
+    /**
+     * @param version the number of times the task has been updated, used by stores to detect
+     *                concurrent modifications; a new task starts at {@code 0}
+     * @throws IllegalArgumentException if {@code version} is negative
+     */
+    public Task(TaskId id, TaskName name, TaskDescription description, TaskPriority priority, TaskStatus status, User assignedUser, long version) {
+        Objects.requireNonNull(id, "Task ID cannot be null");
+        this.id = id;
+        Objects.requireNonNull(name, "Task name cannot be null");
+        this.name = name;
+        Objects.requireNonNull(description, "Task description cannot be null");
+        this.description = description;
         Objects.requireNonNull(priority, "Task priority cannot be null");
         this.priority = priority;
         Objects.requireNonNull(status, "Task status cannot be null");
         this.status = status;
         this.assignedUser = assignedUser;
+        if (version < 0) {
+            throw new IllegalArgumentException("Task version cannot be negative");
+        }
+        this.version = version;
     }
 
     public TaskId getId() {
         return id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public TaskName getName() {
         return name;
     }
@@ -114,6 +129,7 @@ public final class Task {
                 ", priority=" + priority +
                 ", status=" + status +
                 ", assignedUser=" + assignedUser +
+                ", version=" + version +
                 '}';
     }
 }
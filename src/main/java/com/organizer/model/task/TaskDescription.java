@@ -1,15 +1,15 @@
 package com.organizer.model.task;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 public record TaskDescription(String description) {
 
-    private static final Pattern PATTERN = Pattern.compile("^.{1,500}$", Pattern.DOTALL);
+    private static final int MAX_LENGTH = 500;
 
     public TaskDescription {
         Objects.requireNonNull(description, "Task description cannot be null");
-        if (!PATTERN.matcher(description).matches()) {
+        if (!isValid(description)) {
             throw new IllegalArgumentException("Invalid task description! Description must be between 1 and 500 characters.");
         }
     }
@@ -17,4 +17,25 @@ public record TaskDescription(String description) {
     public static TaskDescription of(String description) {
         return new TaskDescription(description);
     }
+
+    /**
+     * Like {@link #of}, but reports invalid or {@code null} input as an empty result instead of throwing.
+     */
+    public static Optional<TaskDescription> tryOf(String description) {
+        if (description == null || !isValid(description)) {
+            return Optional.empty();
+        }
+        return Optional.of(new TaskDescription(description));
+    }
+
+    /**
+     * Hand-rolled equivalent of {@code ^.{1,500}$} with {@code DOTALL}: 1 to 500 code points of any kind.
+     */
+    private static boolean isValid(String description) {
+        int length = description.length();
+        if (length == 0 || length > 2 * MAX_LENGTH) {
+            return false;
+        }
+        return length <= MAX_LENGTH || description.codePointCount(0, length) <= MAX_LENGTH;
+    }
 }
@@ -1,9 +1,12 @@
 package com.organizer.model.task;
 
+import com.organizer.common.text.UuidParser;
+
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
-public record TaskId(UUID value) {
+public record TaskId(UUID value) implements Comparable<TaskId> {
 
     private static final UUID NIL = new UUID(0L, 0L);
 
@@ -20,10 +23,26 @@ public record TaskId(UUID value) {
 
     public static TaskId of(String string) {
         Objects.requireNonNull(string, "Task ID string cannot be null");
-        UUID uuid = UUID.fromString(string.strip());
+        UUID uuid = UuidParser.parseStripped(string)
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Invalid task ID: %s", string)));
         return new TaskId(uuid);
     }
 
+    /**
+     * Like {@link #of}, but reports malformed, NIL or {@code null} input as an empty result instead of throwing.
+     * Surrounding whitespace is skipped without copying the input.
+     */
+    public static Optional<TaskId> tryOf(CharSequence text) {
+        return UuidParser.parseStripped(text)
+                .filter(uuid -> !uuid.equals(NIL))
+                .map(TaskId::new);
+    }
+
+    @Override
+    public int compareTo(TaskId other) {
+        return value.compareTo(other.value);
+    }
+
     @Override
     public String toString() {
         return value.toString();
@@ -1,16 +1,16 @@
 package com.organizer.model.task;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 public record TaskName(String name) {
 
-    private static final Pattern PATTERN = Pattern.compile("^.{1,50}$");
+    private static final int MAX_LENGTH = 50;
 
     public TaskName {
         Objects.requireNonNull(name, "Task name cannot be null");
         var taskName = name.strip();
-        if (!PATTERN.matcher(taskName).matches()) {
+        if (!isValid(taskName)) {
             throw new IllegalArgumentException(String.format("Invalid task name: %s", taskName));
         }
         name = taskName;
@@ -19,4 +19,35 @@ public record TaskName(String name) {
     public static TaskName of(String name) {
         return new TaskName(name);
     }
+
+    /**
+     * Like {@link #of}, but reports invalid or {@code null} input as an empty result instead of throwing.
+     */
+    public static Optional<TaskName> tryOf(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        var taskName = name.strip();
+        return isValid(taskName) ? Optional.of(new TaskName(taskName)) : Optional.empty();
+    }
+
+    /**
+     * Hand-rolled equivalent of {@code ^.{1,50}$}: 1 to 50 code points, none of them a line terminator.
+     */
+    private static boolean isValid(String name) {
+        int codePoints = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+            if (Character.isHighSurrogate(c) && i + 1 < name.length() && Character.isLowSurrogate(name.charAt(i + 1))) {
+                i++;
+            }
+            if (++codePoints > MAX_LENGTH) {
+                return false;
+            }
+        }
+        return codePoints > 0;
+    }
 }
@@ -0,0 +1,214 @@
+package com.organizer.model.task;
+
+import com.organizer.model.user.User;
+
+import java.util.Objects;
+
+/**
+ * A set of field changes to a task: a bitmask of the changed fields plus their new values.
+ * Applying a patch touches only the fields in the mask, and stores with secondary indexes can
+ * check {@link #changes} to skip re-indexing when no indexed field moved.
+ * <p>
+ * A patch of several fields is filled in through a {@link Builder}, which allocates one patch
+ * however many fields it sets; each {@code with} method returns a new patch and suits one-off
+ * single-field patches. Applying a patch allocates exactly one task, the next version: stores hand
+ * the current instance to concurrent readers, so it is never changed in place. What a patch saves
+ * over copying the task and calling its mutators is the second pass over the fields and the
+ * re-indexing of unchanged fields, not the copy itself.
+ */
+public final class TaskPatch {
+
+    public static final int NAME = 1;
+    public static final int DESCRIPTION = 1 << 1;
+    public static final int PRIORITY = 1 << 2;
+    public static final int STATUS = 1 << 3;
+    public static final int ASSIGNEE = 1 << 4;
+
+    /**
+     * The fields task stores keep secondary indexes on.
+     */
+    public static final int INDEXED = PRIORITY | STATUS | ASSIGNEE;
+
+    private static final TaskPatch EMPTY = new TaskPatch(0, null, null, null, null, null);
+
+    private final int fields;
+    private final TaskName name;
+    private final TaskDescription description;
+    private final TaskPriority priority;
+    private final TaskStatus status;
+    private final User assignee;
+
+    private TaskPatch(int fields, TaskName name, TaskDescription description, TaskPriority priority,
+                      TaskStatus status, User assignee) {
+        this.fields = fields;
+        this.name = name;
+        this.description = description;
+        this.priority = priority;
+        this.status = status;
+        this.assignee = assignee;
+    }
+
+    public static TaskPatch empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public TaskPatch withName(TaskName name) {
+        Objects.requireNonNull(name, "Task name cannot be null");
+        return new TaskPatch(fields | NAME, name, description, priority, status, assignee);
+    }
+
+    public TaskPatch withDescription(TaskDescription description) {
+        Objects.requireNonNull(description, "Task description cannot be null");
+        return new TaskPatch(fields | DESCRIPTION, name, description, priority, status, assignee);
+    }
+
+    public TaskPatch withPriority(TaskPriority priority) {
+        Objects.requireNonNull(priority, "Task priority cannot be null");
+        return new TaskPatch(fields | PRIORITY, name, description, priority, status, assignee);
+    }
+
+    public TaskPatch withStatus(TaskStatus status) {
+        Objects.requireNonNull(status, "Task status cannot be null");
+        return new TaskPatch(fields | STATUS, name, description, priority, status, assignee);
+    }
+
+    public TaskPatch withAssignee(User assignee) {
+        Objects.requireNonNull(assignee, "Assigned user cannot be null");
+        return new TaskPatch(fields | ASSIGNEE, name, description, priority, status, assignee);
+    }
+
+    /**
+     * @return the bitmask of changed fields
+     */
+    public int fields() {
+        return fields;
+    }
+
+    /**
+     * @return whether the patch changes any of the fields in {@code mask}
+     */
+    public boolean changes(int mask) {
+        return (fields & mask) != 0;
+    }
+
+    public boolean isEmpty() {
+        return fields == 0;
+    }
+
+    /**
+     * @return the new name, or {@code null} if the patch does not change it
+     */
+    public TaskName name() {
+        return name;
+    }
+
+    /**
+     * @return the new description, or {@code null} if the patch does not change it
+     */
+    public TaskDescription description() {
+        return description;
+    }
+
+    /**
+     * @return the new priority, or {@code null} if the patch does not change it
+     */
+    public TaskPriority priority() {
+        return priority;
+    }
+
+    /**
+     * @return the new status, or {@code null} if the patch does not change it
+     */
+    public TaskStatus status() {
+        return status;
+    }
+
+    /**
+     * @return the new assignee, or {@code null} if the patch does not change it
+     */
+    public User assignee() {
+        return assignee;
+    }
+
+    /**
+     * Returns the next version of {@code task}, built in one constructor call from the patched
+     * values and the task's other fields. {@code task} itself is left untouched.
+     */
+    public Task applyTo(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        return new Task(task.getId(),
+                (fields & NAME) != 0 ? name : task.getName(),
+                (fields & DESCRIPTION) != 0 ? description : task.getDescription(),
+                (fields & PRIORITY) != 0 ? priority : task.getPriority(),
+                (fields & STATUS) != 0 ? status : task.getStatus(),
+                (fields & ASSIGNEE) != 0 ? assignee : task.getAssignedUser(),
+                task.getVersion() + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "TaskPatch{" +
+                "fields=" + Integer.toBinaryString(fields) +
+                ", name=" + name +
+                ", description=" + description +
+                ", priority=" + priority +
+                ", status=" + status +
+                ", assignee=" + assignee +
+                '}';
+    }
+
+    /**
+     * Mutable collector of field changes; {@link #build()} turns them into a patch.
+     * Not thread-safe.
+     */
+    public static final class Builder {
+
+        private int fields;
+        private TaskName name;
+        private TaskDescription description;
+        private TaskPriority priority;
+        private TaskStatus status;
+        private User assignee;
+
+        private Builder() {
+        }
+
+        public Builder name(TaskName name) {
+            this.name = Objects.requireNonNull(name, "Task name cannot be null");
+            fields |= NAME;
+            return this;
+        }
+
+        public Builder description(TaskDescription description) {
+            this.description = Objects.requireNonNull(description, "Task description cannot be null");
+            fields |= DESCRIPTION;
+            return this;
+        }
+
+        public Builder priority(TaskPriority priority) {
+            this.priority = Objects.requireNonNull(priority, "Task priority cannot be null");
+            fields |= PRIORITY;
+            return this;
+        }
+
+        public Builder status(TaskStatus status) {
+            this.status = Objects.requireNonNull(status, "Task status cannot be null");
+            fields |= STATUS;
+            return this;
+        }
+
+        public Builder assignee(User assignee) {
+            this.assignee = Objects.requireNonNull(assignee, "Assigned user cannot be null");
+            fields |= ASSIGNEE;
+            return this;
+        }
+
+        public TaskPatch build() {
+            return fields == 0 ? EMPTY : new TaskPatch(fields, name, description, priority, status, assignee);
+        }
+    }
+}
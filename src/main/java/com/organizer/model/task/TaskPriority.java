@@ -1,11 +1,17 @@
 package com.organizer.model.task;
 
+import com.organizer.common.text.EnumLookup;
+
+import java.util.Optional;
+
 public enum TaskPriority {
 
     LOW("Low"),
     MEDIUM("Medium"),
     HIGH("High");
 
+    private static final EnumLookup<TaskPriority> LOOKUP = new EnumLookup<>(values(), TaskPriority::getDisplayName);
+
     private final String displayName;
 
     TaskPriority(String displayName) {
@@ -15,4 +21,13 @@ public enum TaskPriority {
     public String getDisplayName() {
         return displayName;
     }
+
+    /**
+     * Parses a constant name or display name, ignoring case, without throwing.
+     *
+     * @return the matching priority, or empty for {@code null} or unknown input
+     */
+    public static Optional<TaskPriority> parse(CharSequence text) {
+        return LOOKUP.parse(text);
+    }
 }
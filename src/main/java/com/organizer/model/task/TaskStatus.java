@@ -1,11 +1,17 @@
 package com.organizer.model.task;
 
+import com.organizer.common.text.EnumLookup;
+
+import java.util.Optional;
+
 public enum TaskStatus {
 
     TODO("To Do"),
     IN_PROGRESS("In Progress"),
     DONE("Done");
 
+    private static final EnumLookup<TaskStatus> LOOKUP = new EnumLookup<>(values(), TaskStatus::getDisplayName);
+
     private final String displayName;
 
     TaskStatus(String displayName) {
@@ -15,4 +21,13 @@ public enum TaskStatus {
     public String getDisplayName() {
         return displayName;
     }
+
+    /**
+     * Parses a constant name or display name, ignoring case, without throwing.
+     *
+     * @return the matching status, or empty for {@code null} or unknown input
+     */
+    public static Optional<TaskStatus> parse(CharSequence text) {
+        return LOOKUP.parse(text);
+    }
 }
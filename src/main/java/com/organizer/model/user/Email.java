@@ -2,16 +2,14 @@ package com.organizer.model.user;
 
 import java.util.Locale;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 public record Email(String emailAddress) {
 
-    private static final Pattern PATTERN = Pattern.compile("^[A-Za-z0-9._%+\\-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
-
     public Email {
         Objects.requireNonNull(emailAddress, "Email cannot be null");
         var email = emailAddress.strip().toLowerCase(Locale.ROOT);
-        if (!PATTERN.matcher(email).matches()) {
+        if (!isValid(email)) {
             throw new IllegalArgumentException(String.format("Invalid email: %s", email));
         }
         emailAddress = email;
@@ -21,6 +19,60 @@ public record Email(String emailAddress) {
         return new Email(emailAddress);
     }
 
+    /**
+     * Like {@link #of}, but reports invalid or {@code null} input as an empty result instead of throwing.
+     */
+    public static Optional<Email> tryOf(String emailAddress) {
+        if (emailAddress == null) {
+            return Optional.empty();
+        }
+        var email = emailAddress.strip().toLowerCase(Locale.ROOT);
+        return isValid(email) ? Optional.of(new Email(email)) : Optional.empty();
+    }
+
+    /**
+     * Hand-rolled equivalent of {@code ^[A-Za-z0-9._%+\-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$}.
+     * Since the top-level domain holds letters only, it must follow the last dot of the domain.
+     */
+    private static boolean isValid(String email) {
+        int at = email.indexOf('@');
+        if (at <= 0) {
+            return false;
+        }
+        for (int i = 0; i < at; i++) {
+            char c = email.charAt(i);
+            if (!isAlphanumeric(c) && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') {
+                return false;
+            }
+        }
+        int lastDot = -1;
+        for (int i = at + 1; i < email.length(); i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isAlphanumeric(c) && c != '-') {
+                return false;
+            }
+        }
+        if (lastDot <= at + 1 || email.length() - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < email.length(); i++) {
+            if (!isLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+
     @Override
     public String toString() {
         int at = emailAddress.indexOf('@');
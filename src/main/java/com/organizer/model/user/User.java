@@ -5,6 +5,7 @@ import java.util.Objects;
 public final class User {
 
     private final UserId id;
+    private final long version;
     private Username username;
     private Email email;
 
@@ -21,18 +22,35 @@ public final class User {
     }
 
     public User(UserId id, Username username, Email email) {
+        this(id, username, email, 0);
+    }
+
+    /**
+     * @param version the number of times the user has been updated, used by stores to detect
+     *                concurrent modifications; a new user starts at {@code 0}
+     * @throws IllegalArgumentException if {@code version} is negative
+     */
+    public User(UserId id, Username username, Email email, long version) {
         Objects.requireNonNull(id, "User ID cannot be null");
         this.id = id;
         Objects.requireNonNull(username, "Username cannot be null");
         this.username = username;
         Objects.requireNonNull(email, "Email cannot be null");
         this.email = email;
+        if (version < 0) {
+            throw new IllegalArgumentException("User version cannot be negative");
+        }
+        this.version = version;
     }
 
     public UserId getId() {
         return id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public Username getUsername() {
         return username;
     }
@@ -73,6 +91,7 @@ public final class User {
                 "id=" + id +
                 ", username='" + username + '\'' +
                 ", email=" + email +
+                ", version=" + version +
                 '}';
     }
 }
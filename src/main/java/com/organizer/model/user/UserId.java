@@ -1,6 +1,9 @@
 package com.organizer.model.user;
 
+import com.organizer.common.text.UuidParser;
+
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 public record UserId(UUID value) {
@@ -20,10 +23,21 @@ public record UserId(UUID value) {
 
     public static UserId of(String string) {
         Objects.requireNonNull(string, "User ID string cannot be null");
-        UUID uuid = UUID.fromString(string.strip());
+        UUID uuid = UuidParser.parseStripped(string)
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Invalid user ID: %s", string)));
         return new UserId(uuid);
     }
 
+    /**
+     * Like {@link #of}, but reports malformed, NIL or {@code null} input as an empty result instead of throwing.
+     * Surrounding whitespace is skipped without copying the input.
+     */
+    public static Optional<UserId> tryOf(CharSequence text) {
+        return UuidParser.parseStripped(text)
+                .filter(uuid -> !uuid.equals(NIL))
+                .map(UserId::new);
+    }
+
     @Override
     public String toString() {
         return value.toString();
@@ -2,16 +2,17 @@ package com.organizer.model.user;
 
 import java.util.Locale;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 public record Username(String username) {
 
-    private static final Pattern PATTERN = Pattern.compile("^[a-z]{4,12}$");
+    private static final int MIN_LENGTH = 4;
+    private static final int MAX_LENGTH = 12;
 
     public Username {
         Objects.requireNonNull(username, "Username cannot be null");
         var name = username.strip().toLowerCase(Locale.ROOT);
-        if (!PATTERN.matcher(name).matches()) {
+        if (!isValid(name)) {
             throw new IllegalArgumentException(String.format("Invalid username: %s", name));
         }
         username = name;
@@ -20,4 +21,32 @@ public record Username(String username) {
     public static Username of(String username) {
         return new Username(username);
     }
+
+    /**
+     * Like {@link #of}, but reports invalid or {@code null} input as an empty result instead of throwing.
+     */
+    public static Optional<Username> tryOf(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        var name = username.strip().toLowerCase(Locale.ROOT);
+        return isValid(name) ? Optional.of(new Username(name)) : Optional.empty();
+    }
+
+    /**
+     * Hand-rolled equivalent of {@code ^[a-z]{4,12}$}.
+     */
+    private static boolean isValid(String username) {
+        int length = username.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = username.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
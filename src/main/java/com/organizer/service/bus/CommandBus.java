@@ -0,0 +1,285 @@
+package com.organizer.service.bus;
+
+import com.organizer.common.concurrent.RingBuffer;
+import com.organizer.service.task.port.GeneratorId;
+import com.organizer.service.task.port.TaskStore;
+import com.organizer.service.task.usecase.create.CreateTaskResult;
+import com.organizer.service.task.usecase.create.CreateTasksService;
+import com.organizer.service.task.usecase.create.CreateTasksUseCase;
+import com.organizer.service.task.usecase.create.command.CreateTaskCommand;
+import com.organizer.service.task.usecase.delete.DeleteTaskCommand;
+import com.organizer.service.task.usecase.delete.DeleteTaskResult;
+import com.organizer.service.task.usecase.delete.DeleteTaskService;
+import com.organizer.service.task.usecase.delete.DeleteTaskUseCase;
+import com.organizer.service.task.usecase.update.UpdateTaskCommand;
+import com.organizer.service.task.usecase.update.UpdateTaskResult;
+import com.organizer.service.task.usecase.update.UpdateTaskService;
+import com.organizer.service.task.usecase.update.UpdateTaskUseCase;
+import com.organizer.service.user.port.IdGenerator;
+import com.organizer.service.user.port.UserStore;
+import com.organizer.service.user.usecase.create.CreateUserCommand;
+import com.organizer.service.user.usecase.create.CreateUserResult;
+import com.organizer.service.user.usecase.create.CreateUserService;
+import com.organizer.service.user.usecase.create.CreateUserUseCase;
+import com.organizer.service.user.usecase.delete.DeleteUserCommand;
+import com.organizer.service.user.usecase.delete.DeleteUserResult;
+import com.organizer.service.user.usecase.delete.DeleteUserService;
+import com.organizer.service.user.usecase.delete.DeleteUserUseCase;
+import com.organizer.service.user.usecase.update.UpdateUserCommand;
+import com.organizer.service.user.usecase.update.UpdateUserResult;
+import com.organizer.service.user.usecase.update.UpdateUserService;
+import com.organizer.service.user.usecase.update.UpdateUserUseCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Funnels task and user mutations through a single writer thread.
+ * Submitting threads only publish the command into a lock-free {@link RingBuffer}; the writer
+ * drains it in batches and runs the use cases one after another, so the stores never see two
+ * writes at once. Consecutive task creations in a batch go through {@link CreateTasksUseCase}
+ * together and reach the task store as one {@code saveAll}.
+ * <p>
+ * Each submission returns a future of the use case's result. Futures are completed on virtual
+ * threads rather than on the writer, so callbacks chained to them never hold up the next batch.
+ * A use case that throws completes its future exceptionally without affecting the rest of the
+ * batch; if a batched creation throws, its run is replayed one command at a time so only the
+ * commands that throw on their own fail. This relies on {@link TaskStore#saveAll} rejecting a
+ * batch before writing any of it, as the stores here do for invalid tasks. When the buffer is full, submitting threads wait for the writer to catch up; when it is
+ * empty, the writer parks until a submission or {@link #close()} wakes it.
+ */
+public final class CommandBus implements AutoCloseable {
+
+    private static final int MAX_BATCH = 256;
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    private final CreateTasksUseCase createTasks;
+    private final UpdateTaskUseCase updateTask;
+    private final DeleteTaskUseCase deleteTask;
+    private final CreateUserUseCase createUser;
+    private final UpdateUserUseCase updateUser;
+    private final DeleteUserUseCase deleteUser;
+    private final RingBuffer<Pending<?>> buffer;
+    private final AtomicInteger submitting;
+    private final Thread writer;
+    private final ExecutorService completions;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+
+    public CommandBus(CreateTasksUseCase createTasks,
+                      UpdateTaskUseCase updateTask,
+                      DeleteTaskUseCase deleteTask,
+                      CreateUserUseCase createUser,
+                      UpdateUserUseCase updateUser,
+                      DeleteUserUseCase deleteUser,
+                      int capacity) {
+        Objects.requireNonNull(createTasks, "Create tasks use case cannot be null");
+        this.createTasks = createTasks;
+        Objects.requireNonNull(updateTask, "Update task use case cannot be null");
+        this.updateTask = updateTask;
+        Objects.requireNonNull(deleteTask, "Delete task use case cannot be null");
+        this.deleteTask = deleteTask;
+        Objects.requireNonNull(createUser, "Create user use case cannot be null");
+        this.createUser = createUser;
+        Objects.requireNonNull(updateUser, "Update user use case cannot be null");
+        this.updateUser = updateUser;
+        Objects.requireNonNull(deleteUser, "Delete user use case cannot be null");
+        this.deleteUser = deleteUser;
+        this.buffer = new RingBuffer<>(capacity);
+        this.submitting = new AtomicInteger();
+        this.completions = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("command-bus-completion-", 0).factory());
+        this.writer = Thread.ofPlatform()
+                .name("command-bus-writer")
+                .daemon(true)
+                .start(this::writeLoop);
+    }
+
+    /**
+     * Wires the default services over the given stores.
+     */
+    public static CommandBus of(TaskStore taskStore, UserStore userStore,
+                                GeneratorId taskIds, IdGenerator userIds, int capacity) {
+        return new CommandBus(
+                new CreateTasksService(taskStore, userStore, taskIds),
+                new UpdateTaskService(taskStore, userStore),
+                new DeleteTaskService(taskStore),
+                new CreateUserService(userStore, userIds),
+                new UpdateUserService(userStore),
+                new DeleteUserService(userStore),
+                capacity);
+    }
+
+    public CompletableFuture<CreateTaskResult> submit(CreateTaskCommand command) {
+        return enqueue(new CreateTask(command, new CompletableFuture<>()));
+    }
+
+    public CompletableFuture<UpdateTaskResult> submit(UpdateTaskCommand command) {
+        return enqueue(new Call<>(() -> updateTask.handle(command), new CompletableFuture<>()));
+    }
+
+    public CompletableFuture<DeleteTaskResult> submit(DeleteTaskCommand command) {
+        return enqueue(new Call<>(() -> deleteTask.handle(command), new CompletableFuture<>()));
+    }
+
+    public CompletableFuture<CreateUserResult> submit(CreateUserCommand command) {
+        return enqueue(new Call<>(() -> createUser.handle(command), new CompletableFuture<>()));
+    }
+
+    public CompletableFuture<UpdateUserResult> submit(UpdateUserCommand command) {
+        return enqueue(new Call<>(() -> updateUser.handle(command), new CompletableFuture<>()));
+    }
+
+    public CompletableFuture<DeleteUserResult> submit(DeleteUserCommand command) {
+        return enqueue(new Call<>(() -> deleteUser.handle(command), new CompletableFuture<>()));
+    }
+
+    /**
+     * @throws IllegalStateException if the bus is closed
+     */
+    private <R> CompletableFuture<R> enqueue(Pending<R> pending) {
+        // Announce the submission before checking for close, so close can wait for it to land
+        submitting.incrementAndGet();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Command bus is closed");
+            }
+            long parkNanos = 1_000L;
+            while (!buffer.offer(pending)) {
+                wakeWriter();
+                LockSupport.parkNanos(parkNanos);
+                parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+            }
+        } finally {
+            submitting.decrementAndGet();
+            // Also wakes a closing writer that waits for this submission to land or give up
+            wakeWriter();
+        }
+        return pending.result();
+    }
+
+    private void wakeWriter() {
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void writeLoop() {
+        List<Pending<?>> batch = new ArrayList<>(MAX_BATCH);
+        while (true) {
+            buffer.drainTo(batch::add, MAX_BATCH);
+            if (!batch.isEmpty()) {
+                apply(batch);
+                batch.clear();
+                continue;
+            }
+            if (closed && submitting.get() == 0 && buffer.isEmpty()) {
+                return;
+            }
+            writerParked = true;
+            // Re-check after announcing the park, so a submission racing with it still wakes us.
+            // Once closed, only a submission that started before close is still worth waiting for.
+            if (buffer.isEmpty() && (!closed || submitting.get() > 0)) {
+                LockSupport.park(this);
+            }
+            writerParked = false;
+        }
+    }
+
+    private void apply(List<Pending<?>> batch) {
+        int i = 0;
+        while (i < batch.size()) {
+            if (batch.get(i) instanceof CreateTask) {
+                int end = i;
+                List<CreateTask> run = new ArrayList<>();
+                while (end < batch.size() && batch.get(end) instanceof CreateTask create) {
+                    run.add(create);
+                    end++;
+                }
+                applyCreateTasks(run);
+                i = end;
+            } else {
+                applyCall((Call<?>) batch.get(i));
+                i++;
+            }
+        }
+    }
+
+    private void applyCreateTasks(List<CreateTask> run) {
+        List<CreateTaskCommand> commands = new ArrayList<>(run.size());
+        for (CreateTask create : run) {
+            commands.add(create.command());
+        }
+        try {
+            List<CreateTaskResult> results = createTasks.handle(commands);
+            for (int i = 0; i < run.size(); i++) {
+                complete(run.get(i).result(), results.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (run.size() == 1) {
+                fail(run.get(0).result(), e);
+                return;
+            }
+            // Find the commands that threw instead of failing the whole run with them
+            for (CreateTask create : run) {
+                applyCreateTasks(List.of(create));
+            }
+        }
+    }
+
+    private <R> void applyCall(Call<R> call) {
+        R result;
+        try {
+            result = call.action().get();
+        } catch (RuntimeException e) {
+            fail(call.result(), e);
+            return;
+        }
+        complete(call.result(), result);
+    }
+
+    private <R> void complete(CompletableFuture<R> future, R result) {
+        future.completeAsync(() -> result, completions);
+    }
+
+    private void fail(CompletableFuture<?> future, RuntimeException e) {
+        completions.execute(() -> future.completeExceptionally(e));
+    }
+
+    /**
+     * Stops accepting commands, applies the ones already submitted, stops the writer and waits
+     * until every future is completed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        completions.close();
+    }
+
+    private sealed interface Pending<R> {
+        CompletableFuture<R> result();
+    }
+
+    /**
+     * Kept apart from other calls so consecutive creations can be applied as one batch.
+     */
+    private record CreateTask(CreateTaskCommand command, CompletableFuture<CreateTaskResult> result)
+            implements Pending<CreateTaskResult> {
+    }
+
+    private record Call<R>(Supplier<R> action, CompletableFuture<R> result) implements Pending<R> {
+    }
+}
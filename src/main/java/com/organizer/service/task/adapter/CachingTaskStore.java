@@ -0,0 +1,158 @@
+package com.organizer.service.task.adapter;
+
+import com.organizer.common.collection.CacheStats;
+import com.organizer.common.collection.TinyLfuCache;
+import com.organizer.model.task.Task;
+import com.organizer.model.task.TaskId;
+import com.organizer.model.task.TaskPatch;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskPage;
+import com.organizer.service.task.port.TaskSnapshot;
+import com.organizer.service.task.port.TaskStore;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Task store decorator that serves {@link #findById} from a {@link TinyLfuCache} in front of a
+ * slower store. Every write goes to the backing store first and then invalidates the tasks it
+ * touched. Queries other than by id always reach the backing store.
+ * <p>
+ * Hits take no lock. A read that misses loads from the backing store, so a write could land in
+ * between. Writes therefore bump an epoch together with the invalidation, and a loaded task is
+ * only cached if no write happened while it was being loaded; only that check and the
+ * invalidation share a lock.
+ */
+public final class CachingTaskStore implements TaskStore {
+
+    private final TaskStore delegate;
+    private final TinyLfuCache<TaskId, Task> cache;
+    private final Object epochLock;
+    private volatile long epoch;
+
+    /**
+     * @param maximumSize the number of tasks the cache holds at most
+     */
+    public CachingTaskStore(TaskStore delegate, int maximumSize) {
+        Objects.requireNonNull(delegate, "Delegate store cannot be null");
+        this.delegate = delegate;
+        this.cache = new TinyLfuCache<>(maximumSize);
+        this.epochLock = new Object();
+    }
+
+    @Override
+    public Optional<Task> findById(TaskId taskId) {
+        if (taskId == null) {
+            return Optional.empty();
+        }
+        Task cached = cache.get(taskId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long start = epoch;
+        Optional<Task> loaded = delegate.findById(taskId);
+        loaded.ifPresent(task -> {
+            synchronized (epochLock) {
+                if (epoch == start) {
+                    cache.put(taskId, task);
+                }
+            }
+        });
+        return loaded;
+    }
+
+    @Override
+    public void save(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        delegate.save(task);
+        invalidate(task.getId());
+    }
+
+    @Override
+    public boolean saveIfVersion(Task task, long expectedVersion) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        boolean saved = delegate.saveIfVersion(task, expectedVersion);
+        if (saved) {
+            invalidate(task.getId());
+        }
+        return saved;
+    }
+
+    @Override
+    public boolean applyPatch(TaskId taskId, TaskPatch patch, long expectedVersion) {
+        Objects.requireNonNull(taskId, "Task ID cannot be null");
+        boolean applied = delegate.applyPatch(taskId, patch, expectedVersion);
+        if (applied) {
+            invalidate(taskId);
+        }
+        return applied;
+    }
+
+    @Override
+    public void saveAll(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        delegate.saveAll(tasks);
+        tasks.forEach(task -> invalidate(task.getId()));
+    }
+
+    @Override
+    public List<Task> updateAll(Collection<TaskId> ids, UnaryOperator<Task> change) {
+        List<Task> updated = delegate.updateAll(ids, change);
+        updated.forEach(task -> invalidate(task.getId()));
+        return updated;
+    }
+
+    @Override
+    public List<Task> updateMatching(TaskFilter filter, UnaryOperator<Task> change) {
+        List<Task> updated = delegate.updateMatching(filter, change);
+        updated.forEach(task -> invalidate(task.getId()));
+        return updated;
+    }
+
+    @Override
+    public void remove(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        delegate.remove(task);
+        invalidate(task.getId());
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public TaskSnapshot currentSnapshot() {
+        return delegate.currentSnapshot();
+    }
+
+    @Override
+    public List<Task> findBy(TaskFilter filter) {
+        return delegate.findBy(filter);
+    }
+
+    @Override
+    public Stream<Task> stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public TaskPage findPage(Optional<TaskId> after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private void invalidate(TaskId taskId) {
+        synchronized (epochLock) {
+            epoch++;
+            cache.invalidate(taskId);
+        }
+    }
+}
@@ -0,0 +1,542 @@
+package com.organizer.service.task.adapter;
+
+import com.organizer.common.collection.UuidIntHashMap;
+import com.organizer.model.task.*;
+import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskPage;
+import com.organizer.service.task.port.TaskStore;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * In-memory task store laid out as columns for analytical scans.
+ * Each task is a row spread over primitive arrays: the id as two {@code long} columns, status and
+ * priority ordinals as {@code byte} columns and the assignee as an {@code int} code into a
+ * dictionary of users. Ids map to rows through a {@link UuidIntHashMap}, so the lookup itself
+ * allocates nothing per task. Filters and aggregations run as plain loops over those arrays and only
+ * build {@link Task} objects for the rows they return.
+ * Rows stay dense: removing a task moves the last row into its place. Users stay in the dictionary
+ * after their last task is reassigned or removed, until {@link #compact()} drops them.
+ * Reads run concurrently; writes are serialized.
+ */
+public final class ColumnarTaskStore implements TaskStore {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final int NO_ASSIGNEE = -1;
+    private static final int ANY = -1;
+    private static final int UNKNOWN = -2;
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final ReadWriteLock lock;
+    private final UuidIntHashMap rowById;
+    private final UuidIntHashMap assigneeCodes;
+    private final List<User> assignees;
+
+    private long[] idMsb;
+    private long[] idLsb;
+    private long[] version;
+    private byte[] status;
+    private byte[] priority;
+    private int[] assignee;
+    private TaskName[] name;
+    private TaskDescription[] description;
+    private int rows;
+
+    public ColumnarTaskStore() {
+        this.lock = new ReentrantReadWriteLock();
+        this.rowById = new UuidIntHashMap(INITIAL_CAPACITY);
+        this.assigneeCodes = new UuidIntHashMap();
+        this.assignees = new ArrayList<>();
+        this.idMsb = new long[INITIAL_CAPACITY];
+        this.idLsb = new long[INITIAL_CAPACITY];
+        this.version = new long[INITIAL_CAPACITY];
+        this.status = new byte[INITIAL_CAPACITY];
+        this.priority = new byte[INITIAL_CAPACITY];
+        this.assignee = new int[INITIAL_CAPACITY];
+        this.name = new TaskName[INITIAL_CAPACITY];
+        this.description = new TaskDescription[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public void save(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        lock.writeLock().lock();
+        try {
+            write(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean saveIfVersion(Task task, long expectedVersion) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        lock.writeLock().lock();
+        try {
+            int row = rowById.get(task.getId().value());
+            if (row == UuidIntHashMap.NO_VALUE || version[row] != expectedVersion) {
+                return false;
+            }
+            write(task);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes only the patched columns of the task's row, so a status flip stores one byte and
+     * the version without materializing the task.
+     */
+    @Override
+    public boolean applyPatch(TaskId taskId, TaskPatch patch, long expectedVersion) {
+        Objects.requireNonNull(taskId, "Task ID cannot be null");
+        Objects.requireNonNull(patch, "Patch cannot be null");
+        lock.writeLock().lock();
+        try {
+            int row = rowById.get(taskId.value());
+            if (row == UuidIntHashMap.NO_VALUE || version[row] != expectedVersion) {
+                return false;
+            }
+            version[row] = expectedVersion + 1;
+            if (patch.changes(TaskPatch.NAME)) {
+                name[row] = patch.name();
+            }
+            if (patch.changes(TaskPatch.DESCRIPTION)) {
+                description[row] = patch.description();
+            }
+            if (patch.changes(TaskPatch.PRIORITY)) {
+                priority[row] = (byte) patch.priority().ordinal();
+            }
+            if (patch.changes(TaskPatch.STATUS)) {
+                status[row] = (byte) patch.status().ordinal();
+            }
+            if (patch.changes(TaskPatch.ASSIGNEE)) {
+                assignee[row] = encode(patch.assignee());
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        tasks.forEach(task -> Objects.requireNonNull(task, "Task cannot be null"));
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(rows + tasks.size());
+            for (Task task : tasks) {
+                write(task);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> updateAll(Collection<TaskId> ids, UnaryOperator<Task> change) {
+        Objects.requireNonNull(ids, "Task ids cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+        lock.writeLock().lock();
+        try {
+            List<Task> updated = new ArrayList<>(ids.size());
+            for (TaskId id : ids) {
+                int row = rowById.get(id.value());
+                if (row != UuidIntHashMap.NO_VALUE) {
+                    updated.add(update(row, change));
+                }
+            }
+            return updated;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> updateMatching(TaskFilter filter, UnaryOperator<Task> change) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+        lock.writeLock().lock();
+        try {
+            int[] matches = scan(filter);
+            List<Task> updated = new ArrayList<>(matches.length);
+            for (int row : matches) {
+                updated.add(update(row, change));
+            }
+            return updated;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites {@code row} in place; the caller holds the write lock.
+     */
+    private Task update(int row, UnaryOperator<Task> change) {
+        Task next = change.apply(materialize(row));
+        version[row] = next.getVersion();
+        status[row] = (byte) next.getStatus().ordinal();
+        priority[row] = (byte) next.getPriority().ordinal();
+        assignee[row] = encode(next.getAssignedUser());
+        name[row] = next.getName();
+        description[row] = next.getDescription();
+        return next;
+    }
+
+    /**
+     * Inserts or overwrites the row of {@code task}; the caller holds the write lock.
+     */
+    private void write(Task task) {
+        UUID id = task.getId().value();
+        int row = rowById.get(id);
+        if (row == UuidIntHashMap.NO_VALUE) {
+            ensureCapacity(rows + 1);
+            row = rows++;
+            rowById.put(id, row);
+        }
+        idMsb[row] = id.getMostSignificantBits();
+        idLsb[row] = id.getLeastSignificantBits();
+        version[row] = task.getVersion();
+        status[row] = (byte) task.getStatus().ordinal();
+        priority[row] = (byte) task.getPriority().ordinal();
+        assignee[row] = encode(task.getAssignedUser());
+        name[row] = task.getName();
+        description[row] = task.getDescription();
+    }
+
+    @Override
+    public void remove(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        lock.writeLock().lock();
+        try {
+            int row = rowById.remove(task.getId().value());
+            if (row == UuidIntHashMap.NO_VALUE) {
+                return;
+            }
+            int last = --rows;
+            if (row != last) {
+                idMsb[row] = idMsb[last];
+                idLsb[row] = idLsb[last];
+                version[row] = version[last];
+                status[row] = status[last];
+                priority[row] = priority[last];
+                assignee[row] = assignee[last];
+                name[row] = name[last];
+                description[row] = description[last];
+                rowById.put(idMsb[row], idLsb[row], row);
+            }
+            name[last] = null;
+            description[last] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Task> findById(TaskId taskId) {
+        if (taskId == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            int row = rowById.get(taskId.value());
+            return row == UuidIntHashMap.NO_VALUE ? Optional.empty() : Optional.of(materialize(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return findBy(TaskFilter.any());
+    }
+
+    @Override
+    public List<Task> findBy(TaskFilter filter) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        lock.readLock().lock();
+        try {
+            int[] matches = scan(filter);
+            List<Task> result = new ArrayList<>(matches.length);
+            for (int row : matches) {
+                result.add(materialize(row));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the two id columns and builds each task only when the stream reaches it, so a stream that is
+     * not consumed to the end never builds the rest. Tasks removed in the meantime are skipped.
+     */
+    @Override
+    public Stream<Task> stream() {
+        long[] ids;
+        lock.readLock().lock();
+        try {
+            ids = new long[2 * rows];
+            for (int row = 0; row < rows; row++) {
+                ids[2 * row] = idMsb[row];
+                ids[2 * row + 1] = idLsb[row];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return IntStream.range(0, ids.length / 2)
+                .mapToObj(i -> findById(new TaskId(new UUID(ids[2 * i], ids[2 * i + 1]))))
+                .flatMap(Optional::stream);
+    }
+
+    /**
+     * Selects the page by comparing the id columns, keeping the smallest ids past the cursor in a heap
+     * bounded by the page size, and builds only the tasks of the page.
+     */
+    @Override
+    public TaskPage findPage(Optional<TaskId> after, int limit) {
+        Objects.requireNonNull(after, "Cursor cannot be null");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        int fetch = limit == Integer.MAX_VALUE ? limit : limit + 1;
+        lock.readLock().lock();
+        try {
+            UUID cursor = after.map(TaskId::value).orElse(null);
+            // Largest id on top, so it is the one to drop when a smaller id turns up
+            PriorityQueue<Integer> page = new PriorityQueue<>(Math.min(fetch, 1024), (a, b) -> compareRows(b, a));
+            for (int row = 0; row < rows; row++) {
+                if (cursor != null && compareRow(row, cursor.getMostSignificantBits(), cursor.getLeastSignificantBits()) <= 0) {
+                    continue;
+                }
+                if (page.size() < fetch) {
+                    page.add(row);
+                } else if (compareRows(row, page.peek()) < 0) {
+                    page.poll();
+                    page.add(row);
+                }
+            }
+            Integer[] inOrder = page.toArray(new Integer[0]);
+            Arrays.sort(inOrder, this::compareRows);
+            List<Task> fetched = new ArrayList<>(inOrder.length);
+            for (int row : inOrder) {
+                fetched.add(materialize(row));
+            }
+            return TaskPage.of(fetched, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Orders rows as {@link TaskId#compareTo} orders their ids.
+     */
+    private int compareRows(int a, int b) {
+        return compareRow(a, idMsb[b], idLsb[b]);
+    }
+
+    private int compareRow(int row, long msb, long lsb) {
+        int byMsb = Long.compare(idMsb[row], msb);
+        return byMsb != 0 ? byMsb : Long.compare(idLsb[row], lsb);
+    }
+
+    /**
+     * Drops users no task is assigned to any more from the assignee dictionary, renumbering the rest,
+     * and trims the columns to the rows in use.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            int[] codes = new int[assignees.size()];
+            Arrays.fill(codes, NO_ASSIGNEE);
+            List<User> kept = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                int code = assignee[row];
+                if (code == NO_ASSIGNEE) {
+                    continue;
+                }
+                if (codes[code] == NO_ASSIGNEE) {
+                    codes[code] = kept.size();
+                    kept.add(assignees.get(code));
+                }
+                assignee[row] = codes[code];
+            }
+            assignees.clear();
+            assignees.addAll(kept);
+            assigneeCodes.clear();
+            for (int code = 0; code < kept.size(); code++) {
+                assigneeCodes.put(kept.get(code).getId().value(), code);
+            }
+            int capacity = Math.max(rows, INITIAL_CAPACITY);
+            if (capacity < idMsb.length) {
+                resize(capacity);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the tasks matching {@code filter} without building any of them.
+     */
+    public long count(TaskFilter filter) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        lock.readLock().lock();
+        try {
+            int wantedStatus = filter.status().map(Enum::ordinal).orElse(ANY);
+            int wantedPriority = filter.priority().map(Enum::ordinal).orElse(ANY);
+            int wantedAssignee = assigneeCode(filter);
+            if (wantedAssignee == UNKNOWN) {
+                return 0;
+            }
+            long count = 0;
+            for (int row = 0; row < rows; row++) {
+                if ((wantedStatus == ANY || status[row] == wantedStatus)
+                        && (wantedPriority == ANY || priority[row] == wantedPriority)
+                        && (wantedAssignee == ANY || assignee[row] == wantedAssignee)) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts tasks per status and priority in a single pass over the two byte columns.
+     * Every status and priority is present in the result, with zero counts where no task matches.
+     */
+    public Map<TaskStatus, Map<TaskPriority, Long>> countByStatusAndPriority() {
+        long[] counts = new long[STATUSES.length * PRIORITIES.length];
+        lock.readLock().lock();
+        try {
+            // Locals let the JIT keep the columns in registers for the whole loop
+            byte[] statuses = status;
+            byte[] priorities = priority;
+            for (int row = 0, end = rows; row < end; row++) {
+                counts[statuses[row] * PRIORITIES.length + priorities[row]]++;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Map<TaskStatus, Map<TaskPriority, Long>> result = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus s : STATUSES) {
+            Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+            for (TaskPriority p : PRIORITIES) {
+                byPriority.put(p, counts[s.ordinal() * PRIORITIES.length + p.ordinal()]);
+            }
+            result.put(s, byPriority);
+        }
+        return result;
+    }
+
+    /**
+     * Counts assigned tasks per assignee; unassigned tasks are left out.
+     */
+    public Map<UserId, Long> countByAssignee() {
+        lock.readLock().lock();
+        try {
+            long[] counts = new long[assignees.size()];
+            for (int row = 0; row < rows; row++) {
+                if (assignee[row] != NO_ASSIGNEE) {
+                    counts[assignee[row]]++;
+                }
+            }
+            Map<UserId, Long> result = new HashMap<>();
+            for (int code = 0; code < counts.length; code++) {
+                if (counts[code] > 0) {
+                    result.put(assignees.get(code).getId(), counts[code]);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the rows matching {@code filter}; the caller holds the read lock
+     */
+    private int[] scan(TaskFilter filter) {
+        int wantedStatus = filter.status().map(Enum::ordinal).orElse(ANY);
+        int wantedPriority = filter.priority().map(Enum::ordinal).orElse(ANY);
+        int wantedAssignee = assigneeCode(filter);
+        if (wantedAssignee == UNKNOWN) {
+            return new int[0];
+        }
+        int[] matches = new int[rows];
+        int found = 0;
+        for (int row = 0; row < rows; row++) {
+            if ((wantedStatus == ANY || status[row] == wantedStatus)
+                    && (wantedPriority == ANY || priority[row] == wantedPriority)
+                    && (wantedAssignee == ANY || assignee[row] == wantedAssignee)) {
+                matches[found++] = row;
+            }
+        }
+        return Arrays.copyOf(matches, found);
+    }
+
+    /**
+     * @return {@link #ANY} without an assignee criterion, {@link #UNKNOWN} if the
+     * requested assignee has never been seen, otherwise its dictionary code
+     */
+    private int assigneeCode(TaskFilter filter) {
+        if (filter.assignee().isEmpty()) {
+            return ANY;
+        }
+        int code = assigneeCodes.get(filter.assignee().get().value());
+        return code == UuidIntHashMap.NO_VALUE ? UNKNOWN : code;
+    }
+
+    private int encode(User user) {
+        if (user == null) {
+            return NO_ASSIGNEE;
+        }
+        int code = assigneeCodes.get(user.getId().value());
+        if (code == UuidIntHashMap.NO_VALUE) {
+            code = assignees.size();
+            assignees.add(user);
+            assigneeCodes.put(user.getId().value(), code);
+        } else {
+            // Keep the most recently saved details of the user
+            assignees.set(code, user);
+        }
+        return code;
+    }
+
+    private Task materialize(int row) {
+        User user = assignee[row] == NO_ASSIGNEE ? null : assignees.get(assignee[row]);
+        return new Task(new TaskId(new UUID(idMsb[row], idLsb[row])), name[row], description[row],
+                PRIORITIES[priority[row]], STATUSES[status[row]], user, version[row]);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= idMsb.length) {
+            return;
+        }
+        resize(Math.max(required, idMsb.length * 2));
+    }
+
+    private void resize(int capacity) {
+        idMsb = Arrays.copyOf(idMsb, capacity);
+        idLsb = Arrays.copyOf(idLsb, capacity);
+        version = Arrays.copyOf(version, capacity);
+        status = Arrays.copyOf(status, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        assignee = Arrays.copyOf(assignee, capacity);
+        name = Arrays.copyOf(name, capacity);
+        description = Arrays.copyOf(description, capacity);
+    }
+}
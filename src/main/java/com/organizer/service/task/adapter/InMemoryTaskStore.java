@@ -1,41 +1,289 @@
 package com.organizer.service.task.adapter;
 
+import com.organizer.common.collection.PersistentHashMap;
 import com.organizer.model.task.Task;
 import com.organizer.model.task.TaskId;
+import com.organizer.model.task.TaskPatch;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskPage;
+import com.organizer.service.task.port.TaskSnapshot;
 import com.organizer.service.task.port.TaskStore;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
+/**
+ * Thread-safe in-memory task store with secondary indexes.
+ * Tasks are spread over a fixed set of stripes by id hash. Each stripe holds its tasks in a
+ * {@link PersistentHashMap} that is the only place tasks are kept: writers replace their stripe's
+ * version under the stripe's lock, so writers to different stripes never contend, and
+ * {@link #findById}, {@link #findAll} and {@link #currentSnapshot()} all read those versions.
+ * A separate ordered set of ids serves pages by keyset cursors, and the {@link TaskIndex}
+ * changes together with the stripe. Reads never block; only taking a snapshot briefly holds
+ * writers back, while it collects the current version of every stripe.
+ */
 public final class InMemoryTaskStore implements TaskStore {
 
-    private final HashMap<TaskId, Task> taskById;
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final ConcurrentSkipListSet<TaskId> ids;
+    private final TaskIndex index;
 
     public InMemoryTaskStore() {
-        this.taskById = new HashMap<>();
+        this.ids = new ConcurrentSkipListSet<>();
+        this.index = new TaskIndex();
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
     }
 
     @Override
     public void save(Task task) {
         Objects.requireNonNull(task, "Task cannot be null");
-        taskById.put(task.getId(), task);
+        synchronized (stripeFor(task.getId())) {
+            put(task);
+            index.update(task);
+        }
+    }
+
+    @Override
+    public boolean saveIfVersion(Task task, long expectedVersion) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        synchronized (stripeFor(task.getId())) {
+            Task current = get(task.getId());
+            if (current == null || current.getVersion() != expectedVersion) {
+                return false;
+            }
+            put(task);
+            index.update(task);
+            return true;
+        }
+    }
+
+    /**
+     * Applies the patch under the task's stripe lock and touches the index only if an indexed field changed.
+     */
+    @Override
+    public boolean applyPatch(TaskId taskId, TaskPatch patch, long expectedVersion) {
+        Objects.requireNonNull(taskId, "Task ID cannot be null");
+        Objects.requireNonNull(patch, "Patch cannot be null");
+        synchronized (stripeFor(taskId)) {
+            Task current = get(taskId);
+            if (current == null || current.getVersion() != expectedVersion) {
+                return false;
+            }
+            Task next = patch.applyTo(current);
+            put(next);
+            index.update(next, patch.fields());
+            return true;
+        }
     }
 
     @Override
     public void remove(Task task) {
         Objects.requireNonNull(task, "Task cannot be null");
-        taskById.remove(task.getId());
+        synchronized (stripeFor(task.getId())) {
+            delete(task.getId());
+            index.remove(task.getId());
+        }
+    }
+
+    /**
+     * Updates each task under its stripe lock, so a concurrent save cannot slip in between the
+     * read and the write. The index only moves tasks whose status, priority or assignee changed.
+     */
+    @Override
+    public List<Task> updateAll(Collection<TaskId> ids, UnaryOperator<Task> change) {
+        Objects.requireNonNull(ids, "Task ids cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+        List<Task> updated = new ArrayList<>(ids.size());
+        for (TaskId id : ids) {
+            Task task = update(id, TaskFilter.any(), change);
+            if (task != null) {
+                updated.add(task);
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public List<Task> updateMatching(TaskFilter filter, UnaryOperator<Task> change) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+        List<Task> updated = new ArrayList<>();
+        for (Task candidate : findBy(filter)) {
+            Task task = update(candidate.getId(), filter, change);
+            if (task != null) {
+                updated.add(task);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * @return the updated task, or {@code null} if the task is gone or no longer matches {@code filter}
+     */
+    private Task update(TaskId id, TaskFilter filter, UnaryOperator<Task> change) {
+        synchronized (stripeFor(id)) {
+            Task current = get(id);
+            if (current == null || !filter.matches(current)) {
+                return null;
+            }
+            Task next = change.apply(current);
+            put(next);
+            index.update(next);
+            return next;
+        }
     }
 
     @Override
     public Optional<Task> findById(TaskId taskId) {
-        return Optional.ofNullable(taskById.get(taskId));
+        if (taskId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(get(taskId));
     }
 
+    /**
+     * Returns all tasks of one {@linkplain #currentSnapshot() snapshot}.
+     */
     @Override
     public List<Task> findAll() {
-        return List.copyOf(taskById.values());
+        return currentSnapshot().findAll();
+    }
+
+    /**
+     * Collects the current version of every stripe while holding all stripe locks, so the snapshot
+     * is one point in time. Writers wait only for the stripe versions to be read, never for a copy.
+     */
+    @Override
+    public TaskSnapshot currentSnapshot() {
+        List<PersistentHashMap<TaskId, Task>> versions = new ArrayList<>(STRIPES);
+        collect(0, versions);
+        return new Version(versions);
+    }
+
+    /**
+     * Locks stripe {@code from} and recurses into the next one, reading every version once all are held.
+     */
+    private void collect(int from, List<PersistentHashMap<TaskId, Task>> versions) {
+        if (from == STRIPES) {
+            for (Stripe stripe : stripes) {
+                versions.add(stripe.tasks);
+            }
+            return;
+        }
+        synchronized (stripes[from]) {
+            collect(from + 1, versions);
+        }
+    }
+
+    @Override
+    public List<Task> findBy(TaskFilter filter) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        if (filter.equals(TaskFilter.any())) {
+            return findAll();
+        }
+        return List.copyOf(index.find(filter, this::get));
+    }
+
+    /**
+     * Walks the stripes one after another, each at its version when the walk reaches it.
+     */
+    @Override
+    public Stream<Task> stream() {
+        return Arrays.stream(stripes).flatMap(stripe -> stripe.tasks.values());
+    }
+
+    @Override
+    public TaskPage findPage(Optional<TaskId> after, int limit) {
+        Objects.requireNonNull(after, "Cursor cannot be null");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        var tail = after.isPresent() ? ids.tailSet(after.get(), false) : ids;
+        List<Task> fetched = new ArrayList<>(Math.min(limit + 1, 1024));
+        for (TaskId id : tail) {
+            Task task = get(id);
+            // Skips a task removed since its id was read
+            if (task == null) {
+                continue;
+            }
+            fetched.add(task);
+            if (fetched.size() > limit) {
+                break;
+            }
+        }
+        return TaskPage.of(fetched, limit);
+    }
+
+    private Task get(TaskId taskId) {
+        return stripeFor(taskId).tasks.get(taskId);
+    }
+
+    /**
+     * Publishes a new version of the task's stripe; the caller holds the stripe's lock.
+     */
+    private void put(Task task) {
+        Stripe stripe = stripeFor(task.getId());
+        stripe.tasks = stripe.tasks.put(task.getId(), task);
+        ids.add(task.getId());
+    }
+
+    private void delete(TaskId taskId) {
+        Stripe stripe = stripeFor(taskId);
+        ids.remove(taskId);
+        stripe.tasks = stripe.tasks.remove(taskId);
+    }
+
+    private Stripe stripeFor(TaskId taskId) {
+        return stripes[stripeOf(taskId)];
+    }
+
+    private static int stripeOf(TaskId taskId) {
+        int h = taskId.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    /**
+     * The tasks of one stripe. The stripe is also the lock that serializes writes to them.
+     */
+    private static final class Stripe {
+
+        private volatile PersistentHashMap<TaskId, Task> tasks = PersistentHashMap.empty();
+    }
+
+    /**
+     * @param stripes the version of every stripe, in stripe order
+     */
+    private record Version(List<PersistentHashMap<TaskId, Task>> stripes) implements TaskSnapshot {
+
+        @Override
+        public Optional<Task> findById(TaskId taskId) {
+            return Optional.ofNullable(taskId == null ? null : stripes.get(stripeOf(taskId)).get(taskId));
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (PersistentHashMap<TaskId, Task> stripe : stripes) {
+                size += stripe.size();
+            }
+            return size;
+        }
+
+        @Override
+        public Stream<Task> stream() {
+            return stripes.stream().flatMap(PersistentHashMap::values);
+        }
     }
 }
@@ -0,0 +1,732 @@
+package com.organizer.service.task.adapter;
+
+import com.organizer.model.task.*;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
+import com.organizer.model.user.Username;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Task store that keeps tasks off the heap in memory-mapped files.
+ * <p>
+ * {@code tasks.dat} is an append-only sequence of fixed-layout binary records: the id longs,
+ * the priority and status ordinals as bytes, the assignee id longs, the version and
+ * UTF-8 strings prefixed by an unsigned 16-bit length. Tasks with a string longer than
+ * {@value #MAX_STRING_BYTES} bytes are rejected before anything is written. Saving a task appends a new record and marks the previous one dead; {@link #compact()}
+ * drops dead records. {@code tasks.idx} is an open-addressing hash table of
+ * {@code (id msb, id lsb, record offset)} slots that {@link #findById} probes directly.
+ * <p>
+ * {@link Task} objects are only built when a caller reads one; filters are evaluated against
+ * the record bytes. Reopening maps the existing files as they are, so the page cache is reused;
+ * the index is rebuilt from the data file only if the two disagree after a crash.
+ * Records are made durable by {@link #flush()} or {@link #close()}, otherwise by the OS.
+ * Reads run concurrently; writes are serialized.
+ */
+public final class MappedTaskStore implements TaskStore, AutoCloseable {
+
+    private static final int DATA_MAGIC = 0x54534B32;
+    private static final int INDEX_MAGIC = 0x54494458;
+
+    private static final int CHUNK_SHIFT = 26;
+    private static final int CHUNK_BYTES = 1 << CHUNK_SHIFT;
+    private static final int DATA_HEADER = 16;
+    private static final int DATA_END = 8;
+
+    private static final int LENGTH = 0;
+    private static final int FLAGS = 4;
+    private static final int PRIORITY = 5;
+    private static final int STATUS = 6;
+    private static final int ID_MSB = 8;
+    private static final int ID_LSB = 16;
+    private static final int USER_MSB = 24;
+    private static final int USER_LSB = 32;
+    private static final int VERSION = 40;
+    private static final int STRINGS = 48;
+    private static final byte LIVE = 1;
+    private static final byte ASSIGNED = 2;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private static final int INDEX_HEADER = 32;
+    private static final int INDEX_CAPACITY = 4;
+    private static final int INDEX_SIZE = 8;
+    private static final int INDEX_TOMBSTONES = 12;
+    private static final int INDEX_DATA_END = 16;
+    private static final int SLOT_BYTES = 24;
+    private static final int MIN_CAPACITY = 1 << 10;
+    private static final int MAX_CAPACITY = 1 << 26;
+    private static final long EMPTY = 0;
+    private static final long TOMBSTONE = -1;
+
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final Path dataFile;
+    private final Path indexFile;
+    private final ReadWriteLock lock;
+    private DataFile data;
+    private MappedByteBuffer index;
+    private int capacity;
+    private int size;
+    private int tombstones;
+    private boolean closed;
+
+    public MappedTaskStore(Path directory) {
+        Objects.requireNonNull(directory, "Store directory cannot be null");
+        this.dataFile = directory.resolve("tasks.dat");
+        this.indexFile = directory.resolve("tasks.idx");
+        this.lock = new ReentrantReadWriteLock();
+        try {
+            Files.createDirectories(directory);
+            this.data = DataFile.open(dataFile);
+            if (!openIndex()) {
+                rebuildIndex();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open task store " + directory, e);
+        }
+    }
+
+    @Override
+    public void save(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        Strings strings = Strings.of(task);
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            append(task, strings);
+            index.putLong(INDEX_DATA_END, data.end);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean saveIfVersion(Task task, long expectedVersion) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        Strings strings = Strings.of(task);
+        UUID id = task.getId().value();
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            int slot = slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (slot < 0) {
+                return false;
+            }
+            ByteBuffer chunk = data.chunk(slotOffset(slot));
+            if (chunk.getLong(DataFile.within(slotOffset(slot)) + VERSION) != expectedVersion) {
+                return false;
+            }
+            append(task, strings);
+            index.putLong(INDEX_DATA_END, data.end);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        tasks.forEach(task -> Objects.requireNonNull(task, "Task cannot be null"));
+        // Every task is checked before the first one is written
+        List<Strings> encoded = tasks.stream().map(Strings::of).toList();
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            int i = 0;
+            for (Task task : tasks) {
+                append(task, encoded.get(i++));
+            }
+            index.putLong(INDEX_DATA_END, data.end);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a record for {@code task} and points the index at it; the caller holds the write lock
+     * and publishes the new data end.
+     */
+    private void append(Task task, Strings strings) {
+        ensureIndexRoom();
+        long offset = write(task, strings);
+        UUID id = task.getId().value();
+        long previous = indexPut(id.getMostSignificantBits(), id.getLeastSignificantBits(), offset);
+        if (previous != EMPTY) {
+            markDead(previous);
+        }
+    }
+
+    @Override
+    public void remove(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        UUID id = task.getId().value();
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            int slot = slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (slot < 0) {
+                return;
+            }
+            markDead(slotOffset(slot));
+            index.putLong(slotPosition(slot) + 16, TOMBSTONE);
+            size--;
+            tombstones++;
+            index.putInt(INDEX_SIZE, size);
+            index.putInt(INDEX_TOMBSTONES, tombstones);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Task> findById(TaskId taskId) {
+        if (taskId == null) {
+            return Optional.empty();
+        }
+        UUID id = taskId.value();
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            int slot = slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return slot < 0 ? Optional.empty() : Optional.of(decode(slotOffset(slot)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return findBy(TaskFilter.any());
+    }
+
+    /**
+     * Scans the records, decoding only the tasks that match.
+     */
+    @Override
+    public List<Task> findBy(TaskFilter filter) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            List<Task> result = new ArrayList<>();
+            for (int slot = 0; slot < capacity; slot++) {
+                long offset = slotOffset(slot);
+                if (offset > 0 && matches(offset, filter)) {
+                    result.add(decode(offset));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Streams the tasks present at the time of the call, decoding each one only when it is consumed.
+     * Tasks removed in the meantime are skipped.
+     */
+    @Override
+    public Stream<Task> stream() {
+        long[] ids;
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            ids = new long[2 * size];
+            int next = 0;
+            for (int slot = 0; slot < capacity; slot++) {
+                if (slotOffset(slot) > 0) {
+                    ids[next++] = index.getLong(slotPosition(slot));
+                    ids[next++] = index.getLong(slotPosition(slot) + 8);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return IntStream.range(0, ids.length / 2)
+                .mapToObj(i -> findById(new TaskId(new UUID(ids[2 * i], ids[2 * i + 1]))))
+                .flatMap(Optional::stream);
+    }
+
+    /**
+     * Rewrites the data file with live records only and rebuilds the index.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            Path temp = dataFile.resolveSibling(dataFile.getFileName() + ".tmp");
+            Files.deleteIfExists(temp);
+            try (DataFile target = DataFile.open(temp)) {
+                for (int slot = 0; slot < capacity; slot++) {
+                    long offset = slotOffset(slot);
+                    if (offset > 0) {
+                        target.copy(data, offset);
+                    }
+                }
+                target.force();
+            }
+            data.close();
+            Files.move(temp, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            data = DataFile.open(dataFile);
+            rebuildIndex();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact task store " + dataFile, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forces both files to storage.
+     */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            data.force();
+            index.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            data.force();
+            index.force();
+            data.close();
+            closed = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close task store " + dataFile, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Task store is closed");
+        }
+    }
+
+    // Records
+
+    private long write(Task task, Strings strings) {
+        byte[] name = strings.name();
+        byte[] description = strings.description();
+        User user = task.getAssignedUser();
+        byte[] username = strings.username();
+        byte[] email = strings.email();
+        int length = align(STRINGS + 4 * Short.BYTES + name.length + description.length + username.length + email.length);
+
+        long offset = data.allocate(length);
+        ByteBuffer chunk = data.chunk(offset);
+        int at = DataFile.within(offset);
+        UUID id = task.getId().value();
+        chunk.putInt(at + LENGTH, length);
+        chunk.put(at + PRIORITY, (byte) task.getPriority().ordinal());
+        chunk.put(at + STATUS, (byte) task.getStatus().ordinal());
+        chunk.putLong(at + ID_MSB, id.getMostSignificantBits());
+        chunk.putLong(at + ID_LSB, id.getLeastSignificantBits());
+        chunk.putLong(at + VERSION, task.getVersion());
+        if (user != null) {
+            chunk.putLong(at + USER_MSB, user.getId().value().getMostSignificantBits());
+            chunk.putLong(at + USER_LSB, user.getId().value().getLeastSignificantBits());
+        }
+        int position = at + STRINGS;
+        position = putString(chunk, position, name);
+        position = putString(chunk, position, description);
+        position = putString(chunk, position, username);
+        putString(chunk, position, email);
+        // The flags go last so a torn record never looks live
+        chunk.put(at + FLAGS, user == null ? LIVE : (byte) (LIVE | ASSIGNED));
+        data.commit(offset + length);
+        return offset;
+    }
+
+    private Task decode(long offset) {
+        ByteBuffer chunk = data.chunk(offset);
+        int at = DataFile.within(offset);
+        TaskId id = new TaskId(new UUID(chunk.getLong(at + ID_MSB), chunk.getLong(at + ID_LSB)));
+        int position = at + STRINGS;
+        String name = getString(chunk, position);
+        position += Short.BYTES + stringLength(chunk, position);
+        String description = getString(chunk, position);
+        position += Short.BYTES + stringLength(chunk, position);
+        User user = null;
+        if ((chunk.get(at + FLAGS) & ASSIGNED) != 0) {
+            String username = getString(chunk, position);
+            position += Short.BYTES + stringLength(chunk, position);
+            UserId userId = new UserId(new UUID(chunk.getLong(at + USER_MSB), chunk.getLong(at + USER_LSB)));
+            user = new User(userId, Username.of(username), Email.of(getString(chunk, position)));
+        }
+        return new Task(id, TaskName.of(name), TaskDescription.of(description),
+                PRIORITIES[chunk.get(at + PRIORITY)], STATUSES[chunk.get(at + STATUS)], user, chunk.getLong(at + VERSION));
+    }
+
+    private boolean matches(long offset, TaskFilter filter) {
+        ByteBuffer chunk = data.chunk(offset);
+        int at = DataFile.within(offset);
+        if (filter.status().isPresent() && filter.status().get().ordinal() != chunk.get(at + STATUS)) {
+            return false;
+        }
+        if (filter.priority().isPresent() && filter.priority().get().ordinal() != chunk.get(at + PRIORITY)) {
+            return false;
+        }
+        if (filter.assignee().isPresent()) {
+            UUID assignee = filter.assignee().get().value();
+            return (chunk.get(at + FLAGS) & ASSIGNED) != 0
+                    && chunk.getLong(at + USER_MSB) == assignee.getMostSignificantBits()
+                    && chunk.getLong(at + USER_LSB) == assignee.getLeastSignificantBits();
+        }
+        return true;
+    }
+
+    private void markDead(long offset) {
+        ByteBuffer chunk = data.chunk(offset);
+        int at = DataFile.within(offset);
+        chunk.put(at + FLAGS, (byte) (chunk.get(at + FLAGS) & ~LIVE));
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException(
+                    "Task field of " + bytes.length + " UTF-8 bytes exceeds the stored maximum of " + MAX_STRING_BYTES);
+        }
+        return bytes;
+    }
+
+    private static int putString(ByteBuffer chunk, int position, byte[] bytes) {
+        chunk.putShort(position, (short) bytes.length);
+        chunk.put(position + Short.BYTES, bytes);
+        return position + Short.BYTES + bytes.length;
+    }
+
+    private static int stringLength(ByteBuffer chunk, int position) {
+        return Short.toUnsignedInt(chunk.getShort(position));
+    }
+
+    private static String getString(ByteBuffer chunk, int position) {
+        byte[] bytes = new byte[stringLength(chunk, position)];
+        chunk.get(position + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The strings of a task as the UTF-8 bytes a record stores, each checked against the length prefix.
+     */
+    private record Strings(byte[] name, byte[] description, byte[] username, byte[] email) {
+
+        static Strings of(Task task) {
+            User user = task.getAssignedUser();
+            return new Strings(utf8(task.getName().name()), utf8(task.getDescription().description()),
+                    user == null ? new byte[0] : utf8(user.getUsername().username()),
+                    user == null ? new byte[0] : utf8(user.getEmail().emailAddress()));
+        }
+    }
+
+    private static int align(int length) {
+        return (length + 7) & ~7;
+    }
+
+    // Index
+
+    private boolean openIndex() throws IOException {
+        if (!Files.exists(indexFile)) {
+            return false;
+        }
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < INDEX_HEADER) {
+                return false;
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+        int storedCapacity = mapped.getInt(INDEX_CAPACITY);
+        if (mapped.getInt(0) != INDEX_MAGIC
+                || (long) INDEX_HEADER + (long) storedCapacity * SLOT_BYTES != mapped.capacity()
+                || mapped.getLong(INDEX_DATA_END) != data.end) {
+            return false;
+        }
+        index = mapped;
+        capacity = storedCapacity;
+        size = mapped.getInt(INDEX_SIZE);
+        tombstones = mapped.getInt(INDEX_TOMBSTONES);
+        return true;
+    }
+
+    /**
+     * Replaces the index with an empty one of the given capacity; the caller re-inserts the entries.
+     */
+    private MappedByteBuffer createIndex(int newCapacity) throws IOException {
+        Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, INDEX_HEADER + (long) newCapacity * SLOT_BYTES);
+        }
+        mapped.putInt(0, INDEX_MAGIC);
+        mapped.putInt(INDEX_CAPACITY, newCapacity);
+        Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return mapped;
+    }
+
+    private void install(MappedByteBuffer mapped, int newCapacity) {
+        index = mapped;
+        capacity = newCapacity;
+        size = 0;
+        tombstones = 0;
+        index.putLong(INDEX_DATA_END, -1);
+    }
+
+    private void rebuildIndex() throws IOException {
+        int live = 0;
+        for (long offset = data.first(); offset < data.end; offset = data.next(offset)) {
+            if ((data.chunk(offset).get(DataFile.within(offset) + FLAGS) & LIVE) != 0) {
+                live++;
+            }
+        }
+        int newCapacity = capacityFor(live);
+        install(createIndex(newCapacity), newCapacity);
+        for (long offset = data.first(); offset < data.end; offset = data.next(offset)) {
+            ByteBuffer chunk = data.chunk(offset);
+            int at = DataFile.within(offset);
+            if ((chunk.get(at + FLAGS) & LIVE) != 0) {
+                // A crash between appending and marking the old version dead leaves two live records
+                long previous = indexPut(chunk.getLong(at + ID_MSB), chunk.getLong(at + ID_LSB), offset);
+                if (previous != EMPTY) {
+                    markDead(previous);
+                }
+            }
+        }
+        index.putLong(INDEX_DATA_END, data.end);
+    }
+
+    private void ensureIndexRoom() {
+        if ((long) (size + tombstones + 1) * 10 <= (long) capacity * 7) {
+            return;
+        }
+        MappedByteBuffer old = index;
+        int oldCapacity = capacity;
+        int newCapacity = capacityFor(size + 1);
+        try {
+            install(createIndex(newCapacity), newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot grow task index " + indexFile, e);
+        }
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int position = INDEX_HEADER + slot * SLOT_BYTES;
+            long offset = old.getLong(position + 16);
+            if (offset > 0) {
+                indexPut(old.getLong(position), old.getLong(position + 8), offset);
+            }
+        }
+        index.putLong(INDEX_DATA_END, data.end);
+    }
+
+    private static int capacityFor(int entries) {
+        long wanted = Math.max(MIN_CAPACITY, (long) entries * 3);
+        if (wanted > MAX_CAPACITY) {
+            throw new IllegalStateException("Task index cannot hold more than " + (MAX_CAPACITY * 7L / 10) + " tasks");
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+
+    /**
+     * @return the previous record offset of the id, or {@link #EMPTY} if it was absent
+     */
+    private long indexPut(long msb, long lsb, long offset) {
+        int mask = capacity - 1;
+        int slot = hash(msb, lsb) & mask;
+        int reusable = -1;
+        while (true) {
+            long stored = slotOffset(slot);
+            if (stored == EMPTY) {
+                int target = reusable >= 0 ? reusable : slot;
+                if (reusable >= 0) {
+                    tombstones--;
+                    index.putInt(INDEX_TOMBSTONES, tombstones);
+                }
+                int position = slotPosition(target);
+                index.putLong(position, msb);
+                index.putLong(position + 8, lsb);
+                index.putLong(position + 16, offset);
+                size++;
+                index.putInt(INDEX_SIZE, size);
+                return EMPTY;
+            }
+            if (stored == TOMBSTONE) {
+                if (reusable < 0) {
+                    reusable = slot;
+                }
+            } else if (index.getLong(slotPosition(slot)) == msb && index.getLong(slotPosition(slot) + 8) == lsb) {
+                index.putLong(slotPosition(slot) + 16, offset);
+                return stored;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int slotOf(long msb, long lsb) {
+        int mask = capacity - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (true) {
+            long stored = slotOffset(slot);
+            if (stored == EMPTY) {
+                return -1;
+            }
+            if (stored != TOMBSTONE
+                    && index.getLong(slotPosition(slot)) == msb && index.getLong(slotPosition(slot) + 8) == lsb) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private long slotOffset(int slot) {
+        return index.getLong(slotPosition(slot) + 16);
+    }
+
+    private static int slotPosition(int slot) {
+        return INDEX_HEADER + slot * SLOT_BYTES;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    /**
+     * The data file, mapped in fixed-size chunks because a single mapping is limited to 2 GB.
+     * Records never straddle a chunk; the gap before a chunk boundary is filled with a dead record.
+     */
+    private static final class DataFile implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final List<MappedByteBuffer> chunks;
+        private long end;
+
+        private DataFile(FileChannel channel) {
+            this.channel = channel;
+            this.chunks = new ArrayList<>();
+        }
+
+        static DataFile open(Path file) throws IOException {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            DataFile data = new DataFile(channel);
+            boolean fresh = channel.size() == 0;
+            data.ensureMapped(Math.max(channel.size(), DATA_HEADER));
+            ByteBuffer header = data.chunks.getFirst();
+            if (fresh) {
+                header.putInt(0, DATA_MAGIC);
+                header.putLong(DATA_END, DATA_HEADER);
+            } else if (header.getInt(0) != DATA_MAGIC) {
+                channel.close();
+                throw new IOException("Not a task data file: " + file);
+            }
+            data.end = header.getLong(DATA_END);
+            return data;
+        }
+
+        static int within(long offset) {
+            return (int) (offset & (CHUNK_BYTES - 1));
+        }
+
+        ByteBuffer chunk(long offset) {
+            return chunks.get((int) (offset >>> CHUNK_SHIFT));
+        }
+
+        long first() {
+            return DATA_HEADER;
+        }
+
+        long next(long offset) {
+            return offset + chunk(offset).getInt(within(offset) + LENGTH);
+        }
+
+        /**
+         * Returns where a record of {@code length} bytes can be written, padding up to the next chunk if needed.
+         */
+        long allocate(int length) {
+            int remaining = CHUNK_BYTES - within(end);
+            if (length > remaining) {
+                ByteBuffer chunk = chunk(end);
+                chunk.putInt(within(end) + LENGTH, remaining);
+                chunk.put(within(end) + FLAGS, (byte) 0);
+                end += remaining;
+            }
+            try {
+                ensureMapped(end + length);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot grow task data file", e);
+            }
+            return end;
+        }
+
+        /**
+         * Publishes everything written below {@code newEnd}.
+         */
+        void commit(long newEnd) {
+            end = newEnd;
+            chunks.getFirst().putLong(DATA_END, end);
+        }
+
+        void copy(DataFile source, long offset) {
+            ByteBuffer from = source.chunk(offset);
+            int at = within(offset);
+            int length = from.getInt(at + LENGTH);
+            long target = allocate(length);
+            chunk(target).put(within(target), from, at, length);
+            commit(target + length);
+        }
+
+        private void ensureMapped(long limit) throws IOException {
+            while ((long) chunks.size() * CHUNK_BYTES < limit) {
+                chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) chunks.size() * CHUNK_BYTES, CHUNK_BYTES));
+            }
+        }
+
+        void force() {
+            chunks.forEach(MappedByteBuffer::force);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.organizer.service.task.adapter;
+
+import com.organizer.model.task.Task;
+import com.organizer.model.task.TaskId;
+import com.organizer.model.task.TaskPatch;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskPage;
+import com.organizer.service.task.port.TaskSnapshot;
+import com.organizer.service.task.port.TaskStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Task store that partitions tasks by {@link TaskId} hash across independent {@link InMemoryTaskStore}
+ * shards. Each shard has its own locks, indexes and published versions, so writers to different
+ * shards never contend. Writes go to the one shard owning the task; {@link #findAll}, {@link #findBy},
+ * {@link #count} and the other queries over many tasks run on every shard in parallel on a
+ * {@link ForkJoinPool} and merge the results.
+ * <p>
+ * Results of queries over many tasks are consistent per shard, not across shards.
+ */
+public final class ShardedTaskStore implements TaskStore {
+
+    private final InMemoryTaskStore[] shards;
+    private final ForkJoinPool pool;
+
+    /**
+     * Runs queries on the {@linkplain ForkJoinPool#commonPool() common pool}.
+     */
+    public ShardedTaskStore(int shardCount) {
+        this(shardCount, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param shardCount the number of shards, usually about the number of cores
+     * @param pool       the pool queries fan out on
+     */
+    public ShardedTaskStore(int shardCount, ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.pool = pool;
+        this.shards = new InMemoryTaskStore[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new InMemoryTaskStore();
+        }
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public void save(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        shardFor(task.getId()).save(task);
+    }
+
+    @Override
+    public boolean saveIfVersion(Task task, long expectedVersion) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        return shardFor(task.getId()).saveIfVersion(task, expectedVersion);
+    }
+
+    @Override
+    public boolean applyPatch(TaskId taskId, TaskPatch patch, long expectedVersion) {
+        Objects.requireNonNull(taskId, "Task ID cannot be null");
+        return shardFor(taskId).applyPatch(taskId, patch, expectedVersion);
+    }
+
+    /**
+     * Splits the batch by shard, keeping the order of the tasks within each shard, and saves the parts in parallel.
+     */
+    @Override
+    public void saveAll(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        tasks.forEach(task -> Objects.requireNonNull(task, "Task cannot be null"));
+        List<List<Task>> parts = partition(tasks, Task::getId);
+        scatter(i -> {
+            if (!parts.get(i).isEmpty()) {
+                shards[i].saveAll(parts.get(i));
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<Task> updateAll(Collection<TaskId> ids, UnaryOperator<Task> change) {
+        Objects.requireNonNull(ids, "Task ids cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+        List<List<TaskId>> parts = partition(ids, Function.identity());
+        Map<TaskId, Task> updated = new HashMap<>();
+        for (List<Task> part : scatter(i -> shards[i].updateAll(parts.get(i), change))) {
+            part.forEach(task -> updated.put(task.getId(), task));
+        }
+        List<Task> inOrder = new ArrayList<>(updated.size());
+        for (TaskId id : ids) {
+            Task task = updated.get(id);
+            if (task != null) {
+                inOrder.add(task);
+            }
+        }
+        return inOrder;
+    }
+
+    @Override
+    public List<Task> updateMatching(TaskFilter filter, UnaryOperator<Task> change) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+        return concat(scatter(i -> shards[i].updateMatching(filter, change)));
+    }
+
+    @Override
+    public void remove(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        shardFor(task.getId()).remove(task);
+    }
+
+    @Override
+    public Optional<Task> findById(TaskId taskId) {
+        if (taskId == null) {
+            return Optional.empty();
+        }
+        return shardFor(taskId).findById(taskId);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return concat(scatter(i -> shards[i].findAll()));
+    }
+
+    @Override
+    public List<Task> findBy(TaskFilter filter) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        return concat(scatter(i -> shards[i].findBy(filter)));
+    }
+
+    /**
+     * Counts the tasks matching {@code filter}, each shard counting its own in parallel through its indexes.
+     */
+    public long count(TaskFilter filter) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        boolean any = filter.equals(TaskFilter.any());
+        long count = 0;
+        for (int shardCount : scatter(i -> any ? shards[i].currentSnapshot().size() : shards[i].findBy(filter).size())) {
+            count += shardCount;
+        }
+        return count;
+    }
+
+    /**
+     * Combines the current version of every shard; each shard's part is taken in constant time.
+     */
+    @Override
+    public TaskSnapshot currentSnapshot() {
+        TaskSnapshot[] parts = new TaskSnapshot[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            parts[i] = shards[i].currentSnapshot();
+        }
+        return new Sharded(parts);
+    }
+
+    @Override
+    public Stream<Task> stream() {
+        return Arrays.stream(shards).flatMap(TaskStore::stream);
+    }
+
+    /**
+     * Fetches a page past the cursor from every shard in parallel and merges them in {@link TaskId} order.
+     * Each shard returns one task more than the limit, so the merge knows whether another page exists.
+     */
+    @Override
+    public TaskPage findPage(Optional<TaskId> after, int limit) {
+        Objects.requireNonNull(after, "Cursor cannot be null");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        int fetch = limit == Integer.MAX_VALUE ? limit : limit + 1;
+        List<Task> fetched = concat(scatter(i -> shards[i].findPage(after, fetch).tasks())).stream()
+                .sorted(Comparator.comparing(Task::getId))
+                .limit(fetch)
+                .toList();
+        return TaskPage.of(fetched, limit);
+    }
+
+    /**
+     * Runs {@code query} for every shard index, in parallel on the pool when there is more than one shard.
+     *
+     * @return the results in shard order
+     */
+    private <R> List<R> scatter(IntFunction<R> query) {
+        if (shards.length == 1) {
+            return Collections.singletonList(query.apply(0));
+        }
+        List<ForkJoinTask<R>> tasks = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            int shard = i;
+            tasks.add(pool.submit(() -> query.apply(shard)));
+        }
+        List<R> results = new ArrayList<>(shards.length);
+        for (ForkJoinTask<R> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    private <T> List<List<T>> partition(Collection<T> items, Function<T, TaskId> idOf) {
+        List<List<T>> parts = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            parts.add(new ArrayList<>());
+        }
+        for (T item : items) {
+            parts.get(indexOf(idOf.apply(item))).add(item);
+        }
+        return parts;
+    }
+
+    private static List<Task> concat(List<List<Task>> parts) {
+        int size = 0;
+        for (List<Task> part : parts) {
+            size += part.size();
+        }
+        List<Task> all = new ArrayList<>(size);
+        parts.forEach(all::addAll);
+        return List.copyOf(all);
+    }
+
+    private InMemoryTaskStore shardFor(TaskId taskId) {
+        return shards[indexOf(taskId)];
+    }
+
+    private int indexOf(TaskId taskId) {
+        return shardIndex(taskId, shards.length);
+    }
+
+    /**
+     * Picks the shard from a 64-bit mix of the whole id rather than from {@link TaskId#hashCode()}.
+     * Each {@link InMemoryTaskStore} picks its lock stripe from the low bits of that hash, so a shard chosen
+     * from the same bits would only ever see the stripes matching its index and shards would add no lock
+     * parallelism. The high half of the mix is scaled to {@code [0, shardCount)} by multiplication, which
+     * stays uniform for any shard count.
+     */
+    static int shardIndex(TaskId taskId, int shardCount) {
+        UUID id = taskId.value();
+        long mixed = id.getMostSignificantBits() * 0x9E3779B97F4A7C15L + id.getLeastSignificantBits();
+        mixed = (mixed ^ (mixed >>> 33)) * 0xFF51AFD7ED558CCDL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        mixed ^= mixed >>> 33;
+        return (int) (((mixed >>> 32) * shardCount) >>> 32);
+    }
+
+    private record Sharded(TaskSnapshot[] parts) implements TaskSnapshot {
+
+        @Override
+        public Optional<Task> findById(TaskId taskId) {
+            if (taskId == null) {
+                return Optional.empty();
+            }
+            return parts[shardIndex(taskId, parts.length)].findById(taskId);
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (TaskSnapshot part : parts) {
+                size += part.size();
+            }
+            return size;
+        }
+
+        @Override
+        public Stream<Task> stream() {
+            return Arrays.stream(parts).flatMap(TaskSnapshot::stream);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.organizer.service.task.adapter;
+
+import com.organizer.model.task.Task;
+import com.organizer.model.task.TaskId;
+import com.organizer.model.task.TaskPatch;
+import com.organizer.model.task.TaskPriority;
+import com.organizer.model.task.TaskStatus;
+import com.organizer.model.user.UserId;
+import com.organizer.service.task.port.TaskFilter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Secondary indexes by status, priority and assignee.
+ * Task ids are bucketed in a status x priority grid, once globally and once per assignee,
+ * so any combination of the three criteria resolves to at most nine buckets.
+ * Callers must serialize {@link #update} and {@link #remove} per task id.
+ */
+final class TaskIndex {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final Map<TaskId, Key> keyById;
+    private final Grid global;
+    private final ConcurrentHashMap<UserId, Grid> byAssignee;
+
+    TaskIndex() {
+        this.keyById = new ConcurrentHashMap<>();
+        this.global = new Grid();
+        this.byAssignee = new ConcurrentHashMap<>();
+    }
+
+    void update(Task task) {
+        Key key = Key.of(task);
+        Key previous = keyById.put(task.getId(), key);
+        if (key.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            unlink(task.getId(), previous);
+        }
+        link(task.getId(), key);
+    }
+
+    /**
+     * Like {@link #update(Task)} for a task changed by a patch touching {@code changedFields},
+     * skipping the index entirely when none of them is indexed.
+     */
+    void update(Task task, int changedFields) {
+        if ((changedFields & TaskPatch.INDEXED) != 0) {
+            update(task);
+        }
+    }
+
+    void remove(TaskId taskId) {
+        Key previous = keyById.remove(taskId);
+        if (previous != null) {
+            unlink(taskId, previous);
+        }
+    }
+
+    /**
+     * Finds the tasks matching {@code filter}, each at most once and as {@code resolver} returns it.
+     * The scan is weakly consistent with concurrent writes: a task moved into a bucket that was already
+     * scanned is missed, and one moved into a bucket not yet scanned is returned once.
+     */
+    List<Task> find(TaskFilter filter, Function<TaskId, Task> resolver) {
+        Grid grid = filter.assignee().isPresent() ? byAssignee.get(filter.assignee().get()) : global;
+        List<Task> result = new ArrayList<>();
+        if (grid == null) {
+            return result;
+        }
+        // Only a scan over several buckets can meet a task twice
+        Set<TaskId> seen = filter.status().isPresent() && filter.priority().isPresent() ? null : new HashSet<>();
+        for (TaskStatus status : STATUSES) {
+            if (filter.status().isPresent() && filter.status().get() != status) {
+                continue;
+            }
+            for (TaskPriority priority : PRIORITIES) {
+                if (filter.priority().isPresent() && filter.priority().get() != priority) {
+                    continue;
+                }
+                Set<TaskId> bucket = grid.bucket(status, priority);
+                if (bucket == null) {
+                    continue;
+                }
+                for (TaskId taskId : bucket) {
+                    Task task = resolver.apply(taskId);
+                    // A concurrent write may have moved the task since it was bucketed
+                    if (task != null && filter.matches(task) && (seen == null || seen.add(taskId))) {
+                        result.add(task);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void link(TaskId taskId, Key key) {
+        global.add(key, taskId);
+        if (key.assignee() != null) {
+            byAssignee.compute(key.assignee(), (userId, grid) -> {
+                Grid target = grid == null ? new Grid() : grid;
+                target.add(key, taskId);
+                return target;
+            });
+        }
+    }
+
+    private void unlink(TaskId taskId, Key key) {
+        global.remove(key, taskId);
+        if (key.assignee() != null) {
+            byAssignee.computeIfPresent(key.assignee(), (userId, grid) -> {
+                grid.remove(key, taskId);
+                return grid.isEmpty() ? null : grid;
+            });
+        }
+    }
+
+    private record Key(TaskStatus status, TaskPriority priority, UserId assignee) {
+
+        static Key of(Task task) {
+            UserId assignee = task.getAssignedUser() == null ? null : task.getAssignedUser().getId();
+            return new Key(task.getStatus(), task.getPriority(), assignee);
+        }
+    }
+
+    private static final class Grid {
+
+        private final AtomicReferenceArray<Set<TaskId>> buckets =
+                new AtomicReferenceArray<>(STATUSES.length * PRIORITIES.length);
+
+        Set<TaskId> bucket(TaskStatus status, TaskPriority priority) {
+            return buckets.get(indexOf(status, priority));
+        }
+
+        void add(Key key, TaskId taskId) {
+            int index = indexOf(key.status(), key.priority());
+            Set<TaskId> bucket = buckets.get(index);
+            if (bucket == null) {
+                buckets.compareAndSet(index, null, ConcurrentHashMap.newKeySet());
+                bucket = buckets.get(index);
+            }
+            bucket.add(taskId);
+        }
+
+        void remove(Key key, TaskId taskId) {
+            Set<TaskId> bucket = bucket(key.status(), key.priority());
+            if (bucket != null) {
+                bucket.remove(taskId);
+            }
+        }
+
+        boolean isEmpty() {
+            for (int i = 0; i < buckets.length(); i++) {
+                Set<TaskId> bucket = buckets.get(i);
+                if (bucket != null && !bucket.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int indexOf(TaskStatus status, TaskPriority priority) {
+            return status.ordinal() * PRIORITIES.length + priority.ordinal();
+        }
+    }
+}
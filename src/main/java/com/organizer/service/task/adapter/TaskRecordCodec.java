@@ -0,0 +1,134 @@
+package com.organizer.service.task.adapter;
+
+import com.organizer.model.task.*;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
+import com.organizer.model.user.Username;
+
+import java.io.*;
+import java.util.UUID;
+
+/**
+ * Binary encoding of task mutations for durable task stores.
+ * Strings are stored as modified UTF-8 with a 16-bit length, so a task with a string longer than
+ * {@value #MAX_STRING_BYTES} encoded bytes is rejected when it is encoded.
+ */
+final class TaskRecordCodec {
+
+    private static final byte SAVE = 1;
+    private static final byte REMOVE = 2;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private TaskRecordCodec() {
+    }
+
+    sealed interface Mutation {
+    }
+
+    record Saved(Task task) implements Mutation {
+    }
+
+    record Removed(TaskId taskId) implements Mutation {
+    }
+
+    static byte[] encodeSave(Task task) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(SAVE);
+            writeTask(out, task);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static byte[] encodeRemove(TaskId taskId) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(17);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(REMOVE);
+            writeUuid(out, taskId.value());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Mutation decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte operation = in.readByte();
+            return switch (operation) {
+                case SAVE -> new Saved(readTask(in));
+                case REMOVE -> new Removed(new TaskId(readUuid(in)));
+                default -> throw new IllegalArgumentException("Unknown task record operation: " + operation);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void writeTask(DataOutput out, Task task) throws IOException {
+        checkLength(task.getName().name());
+        checkLength(task.getDescription().description());
+        User assigned = task.getAssignedUser();
+        if (assigned != null) {
+            checkLength(assigned.getUsername().username());
+            checkLength(assigned.getEmail().emailAddress());
+        }
+        writeUuid(out, task.getId().value());
+        out.writeLong(task.getVersion());
+        out.writeUTF(task.getName().name());
+        out.writeUTF(task.getDescription().description());
+        out.writeByte(task.getPriority().ordinal());
+        out.writeByte(task.getStatus().ordinal());
+        User user = task.getAssignedUser();
+        out.writeBoolean(user != null);
+        if (user != null) {
+            writeUuid(out, user.getId().value());
+            out.writeUTF(user.getUsername().username());
+            out.writeUTF(user.getEmail().emailAddress());
+        }
+    }
+
+    static Task readTask(DataInput in) throws IOException {
+        TaskId id = new TaskId(readUuid(in));
+        long version = in.readLong();
+        TaskName name = TaskName.of(in.readUTF());
+        TaskDescription description = TaskDescription.of(in.readUTF());
+        TaskPriority priority = PRIORITIES[in.readByte()];
+        TaskStatus status = STATUSES[in.readByte()];
+        User user = null;
+        if (in.readBoolean()) {
+            UserId userId = new UserId(readUuid(in));
+            user = new User(userId, Username.of(in.readUTF()), Email.of(in.readUTF()));
+        }
+        return new Task(id, name, description, priority, status, user, version);
+    }
+
+    /**
+     * Rejects a string {@link DataOutput#writeUTF} cannot write, before any of the task is written.
+     */
+    private static void checkLength(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            length += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+        }
+        if (length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException(
+                    "Task field of " + length + " encoded bytes exceeds the logged maximum of " + MAX_STRING_BYTES);
+        }
+    }
+
+    private static void writeUuid(DataOutput out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
@@ -0,0 +1,18 @@
+package com.organizer.service.task.adapter;
+
+import com.organizer.common.id.TimeOrderedUuidGenerator;
+import com.organizer.model.task.TaskId;
+import com.organizer.service.task.port.GeneratorId;
+
+/**
+ * Generates time-ordered task ids, which keep inserts into sorted and on-disk stores local.
+ */
+public final class UUIDv7Generator implements GeneratorId {
+
+    private final TimeOrderedUuidGenerator uuids = new TimeOrderedUuidGenerator();
+
+    @Override
+    public TaskId generateId() {
+        return new TaskId(uuids.next());
+    }
+}
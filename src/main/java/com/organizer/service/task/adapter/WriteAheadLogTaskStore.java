@@ -0,0 +1,334 @@
+package com.organizer.service.task.adapter;
+
+import com.organizer.common.storage.Checkpointer;
+import com.organizer.common.storage.SnapshotStore;
+import com.organizer.common.storage.WriteAheadLog;
+import com.organizer.model.task.Task;
+import com.organizer.model.task.TaskId;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskPage;
+import com.organizer.service.task.port.TaskSnapshot;
+import com.organizer.service.task.port.TaskStore;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Durable task store.
+ * Every save and remove is appended to a {@link WriteAheadLog}; writes return once their record
+ * is synced, and concurrent writers share a single {@code fsync} through the log's group commit.
+ * A write is visible to readers as soon as it is applied, which can be before its record is synced.
+ * If a sync fails, such a write would be gone after a restart, so the store fails permanently:
+ * the failing call and every later call throw, and reopening the store recovers what is durable.
+ * <p>
+ * {@link #snapshot()} writes the current tasks to a {@link SnapshotStore} and deletes the log
+ * segments it covers, so startup loads the latest snapshot and replays only the log tail.
+ * The snapshot is exact: it is captured together with the log rotation while no writer is between
+ * logging and applying a write, so it holds precisely the writes logged before the rotation. It
+ * is only written once the rotation, and so every one of those writes, is durable.
+ */
+public final class WriteAheadLogTaskStore implements TaskStore, AutoCloseable {
+
+    private static final int STRIPES = 64;
+
+    private final InMemoryTaskStore tasks;
+    private final SnapshotStore snapshots;
+    private final WriteAheadLog log;
+    private final ReadWriteLock rotationLock;
+    private final Object[] locks;
+    private final Checkpointer checkpointer;
+    private volatile RuntimeException failure;
+
+    /**
+     * Opens a store without periodic snapshots.
+     */
+    public WriteAheadLogTaskStore(Path directory) {
+        this(directory, Optional.empty());
+    }
+
+    /**
+     * Opens a store that snapshots itself in the background every {@code snapshotInterval}.
+     */
+    public WriteAheadLogTaskStore(Path directory, Duration snapshotInterval) {
+        this(directory, Optional.of(snapshotInterval));
+    }
+
+    private WriteAheadLogTaskStore(Path directory, Optional<Duration> snapshotInterval) {
+        Objects.requireNonNull(directory, "Store directory cannot be null");
+        this.tasks = new InMemoryTaskStore();
+        this.snapshots = new SnapshotStore(directory.resolve("snapshots"));
+        long fromSegment = snapshots.loadLatest(this::loadSnapshot);
+        this.log = WriteAheadLog.open(directory.resolve("wal"), fromSegment, this::replay);
+        this.rotationLock = new ReentrantReadWriteLock();
+        this.locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.checkpointer = snapshotInterval
+                .map(interval -> new Checkpointer("task-store-snapshot", interval, this::snapshot))
+                .orElse(null);
+    }
+
+    private void loadSnapshot(DataInputStream in) throws IOException {
+        while (in.readBoolean()) {
+            tasks.save(TaskRecordCodec.readTask(in));
+        }
+    }
+
+    private void replay(byte[] record) {
+        switch (TaskRecordCodec.decode(record)) {
+            case TaskRecordCodec.Saved saved -> tasks.save(saved.task());
+            case TaskRecordCodec.Removed removed -> tasks.findById(removed.taskId()).ifPresent(tasks::remove);
+        }
+    }
+
+    @Override
+    public void save(Task task) {
+        checkUsable();
+        Objects.requireNonNull(task, "Task cannot be null");
+        byte[] record = TaskRecordCodec.encodeSave(task);
+        CompletableFuture<Void> durable;
+        rotationLock.readLock().lock();
+        try {
+            // Log order and apply order must agree per task, or a restart could resurrect a stale version
+            synchronized (lockFor(task.getId())) {
+                durable = log.append(record);
+                tasks.save(task);
+            }
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+        awaitDurable(durable);
+    }
+
+    @Override
+    public boolean saveIfVersion(Task task, long expectedVersion) {
+        checkUsable();
+        Objects.requireNonNull(task, "Task cannot be null");
+        byte[] record = TaskRecordCodec.encodeSave(task);
+        CompletableFuture<Void> durable;
+        rotationLock.readLock().lock();
+        try {
+            synchronized (lockFor(task.getId())) {
+                Task current = tasks.findById(task.getId()).orElse(null);
+                if (current == null || current.getVersion() != expectedVersion) {
+                    return false;
+                }
+                durable = log.append(record);
+                tasks.save(task);
+            }
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+        awaitDurable(durable);
+        return true;
+    }
+
+    /**
+     * Appends one record per task and waits for them together, so the whole batch normally
+     * shares a single {@code fsync} instead of paying one per task.
+     */
+    @Override
+    public void saveAll(Collection<Task> batch) {
+        checkUsable();
+        Objects.requireNonNull(batch, "Tasks cannot be null");
+        List<byte[]> records = new ArrayList<>(batch.size());
+        for (Task task : batch) {
+            Objects.requireNonNull(task, "Task cannot be null");
+            records.add(TaskRecordCodec.encodeSave(task));
+        }
+        List<CompletableFuture<Void>> durable = new ArrayList<>(records.size());
+        rotationLock.readLock().lock();
+        try {
+            int i = 0;
+            for (Task task : batch) {
+                synchronized (lockFor(task.getId())) {
+                    durable.add(log.append(records.get(i++)));
+                    tasks.save(task);
+                }
+            }
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+        for (CompletableFuture<Void> future : durable) {
+            awaitDurable(future);
+        }
+    }
+
+    @Override
+    public List<Task> updateAll(Collection<TaskId> ids, UnaryOperator<Task> change) {
+        checkUsable();
+        Objects.requireNonNull(ids, "Task ids cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+        return update(ids, TaskFilter.any(), change);
+    }
+
+    @Override
+    public List<Task> updateMatching(TaskFilter filter, UnaryOperator<Task> change) {
+        checkUsable();
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+        return update(tasks.findBy(filter).stream().map(Task::getId).toList(), filter, change);
+    }
+
+    /**
+     * Reads, changes, logs and applies each task under its stripe lock, then waits for all
+     * records together so the batch shares a group commit.
+     */
+    private List<Task> update(Collection<TaskId> ids, TaskFilter filter, UnaryOperator<Task> change) {
+        List<Task> updated = new ArrayList<>(ids.size());
+        List<CompletableFuture<Void>> durable = new ArrayList<>(ids.size());
+        rotationLock.readLock().lock();
+        try {
+            for (TaskId id : ids) {
+                synchronized (lockFor(id)) {
+                    Task current = tasks.findById(id).orElse(null);
+                    if (current == null || !filter.matches(current)) {
+                        continue;
+                    }
+                    Task next = change.apply(current);
+                    durable.add(log.append(TaskRecordCodec.encodeSave(next)));
+                    tasks.save(next);
+                    updated.add(next);
+                }
+            }
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+        for (CompletableFuture<Void> future : durable) {
+            awaitDurable(future);
+        }
+        return updated;
+    }
+
+    @Override
+    public void remove(Task task) {
+        checkUsable();
+        Objects.requireNonNull(task, "Task cannot be null");
+        byte[] record = TaskRecordCodec.encodeRemove(task.getId());
+        CompletableFuture<Void> durable;
+        rotationLock.readLock().lock();
+        try {
+            synchronized (lockFor(task.getId())) {
+                durable = log.append(record);
+                tasks.remove(task);
+            }
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+        awaitDurable(durable);
+    }
+
+    /**
+     * Writes a snapshot of all tasks and truncates the log behind it.
+     * Writers are only held back while the log rotation is queued and the in-memory snapshot is
+     * taken, not while the snapshot is written.
+     */
+    public synchronized void snapshot() {
+        checkUsable();
+        CompletableFuture<Long> rotation;
+        TaskSnapshot captured;
+        rotationLock.writeLock().lock();
+        try {
+            // Every write applied so far was appended before this marker, and no other was applied
+            rotation = log.rotate();
+            captured = tasks.currentSnapshot();
+        } finally {
+            rotationLock.writeLock().unlock();
+        }
+        long segment = awaitDurable(rotation);
+        snapshots.write(segment, out -> writeSnapshot(out, captured));
+        log.deleteSegmentsBefore(segment);
+    }
+
+    private static void writeSnapshot(DataOutputStream out, TaskSnapshot captured) throws IOException {
+        Iterator<Task> iterator = captured.stream().iterator();
+        while (iterator.hasNext()) {
+            out.writeBoolean(true);
+            TaskRecordCodec.writeTask(out, iterator.next());
+        }
+        out.writeBoolean(false);
+    }
+
+    @Override
+    public Optional<Task> findById(TaskId taskId) {
+        checkUsable();
+        return tasks.findById(taskId);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        checkUsable();
+        return tasks.findAll();
+    }
+
+    @Override
+    public TaskSnapshot currentSnapshot() {
+        checkUsable();
+        return tasks.currentSnapshot();
+    }
+
+    @Override
+    public List<Task> findBy(TaskFilter filter) {
+        checkUsable();
+        return tasks.findBy(filter);
+    }
+
+    @Override
+    public Stream<Task> stream() {
+        checkUsable();
+        return tasks.stream();
+    }
+
+    @Override
+    public TaskPage findPage(Optional<TaskId> after, int limit) {
+        checkUsable();
+        return tasks.findPage(after, limit);
+    }
+
+    /**
+     * Waits for a log write and fails the store permanently if it did not become durable.
+     */
+    private <T> T awaitDurable(CompletableFuture<T> future) {
+        try {
+            return WriteAheadLog.await(future);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    private void checkUsable() {
+        RuntimeException cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("Task store failed on a log write; reopen it to recover", cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (checkpointer != null) {
+            checkpointer.close();
+        }
+        log.close();
+    }
+
+    private Object lockFor(TaskId taskId) {
+        int h = taskId.hashCode();
+        return locks[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+}
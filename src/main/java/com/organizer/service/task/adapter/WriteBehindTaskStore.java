@@ -0,0 +1,424 @@
+package com.organizer.service.task.adapter;
+
+import com.organizer.common.storage.WriteAheadLog;
+import com.organizer.model.task.Task;
+import com.organizer.model.task.TaskId;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskPage;
+import com.organizer.service.task.port.TaskSnapshot;
+import com.organizer.service.task.port.TaskStore;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Task store decorator that acknowledges writes once they are in a local {@link WriteAheadLog}
+ * and passes them on to a slower backing store in batches.
+ * Writes are buffered per task id, so repeated saves of a task between two flushes reach the
+ * backing store as one. A background thread flushes once {@code maxBatch} tasks are buffered or
+ * {@code maxDelay} after the first buffered write, whichever comes first; {@link #flush()} and
+ * {@link #close()} flush on demand. Once a batch is in the backing store, the log segments
+ * holding it are deleted. Writes still in the log when the process stops are replayed and
+ * flushed when the store is opened again.
+ * <p>
+ * At most {@value #PENDING_BATCHES} batches' worth of tasks are buffered, counting the batch being
+ * flushed; a write of another task waits until a flush completes and makes room, so writers slow down to the pace of the backing store instead
+ * of buffering without bound while it is slow or down.
+ * <p>
+ * {@link #findById} sees buffered writes. It reads the backing store without holding the buffer
+ * lock, so a slow backing store only delays that one lookup. Queries over many tasks flush first,
+ * since the backing store answers them.
+ */
+public final class WriteBehindTaskStore implements TaskStore, AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(WriteBehindTaskStore.class.getName());
+    private static final int PENDING_BATCHES = 4;
+
+    private final TaskStore delegate;
+    private final WriteAheadLog log;
+    private final int maxBatch;
+    private final int maxPending;
+    private final long maxDelayNanos;
+    private final ReentrantLock bufferLock;
+    private final Condition batchReady;
+    private final Condition spaceAvailable;
+    private final Object flushLock;
+    private final Thread flusher;
+    private Map<TaskId, TaskRecordCodec.Mutation> pending;
+    private Map<TaskId, TaskRecordCodec.Mutation> flushing;
+    private long flushedBatches;
+    private boolean closed;
+
+    /**
+     * @param logDirectory the directory of the local log, created if missing
+     * @param maxBatch     the number of buffered tasks that triggers a flush; writers wait once
+     *                     {@value #PENDING_BATCHES} times as many are buffered
+     * @param maxDelay     how long a write may stay buffered before it is flushed
+     */
+    public WriteBehindTaskStore(TaskStore delegate, Path logDirectory, int maxBatch, Duration maxDelay) {
+        Objects.requireNonNull(delegate, "Delegate store cannot be null");
+        Objects.requireNonNull(logDirectory, "Log directory cannot be null");
+        Objects.requireNonNull(maxDelay, "Max delay cannot be null");
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("Max batch must be positive");
+        }
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("Max delay must be positive");
+        }
+        this.delegate = delegate;
+        this.maxBatch = maxBatch;
+        this.maxPending = (int) Math.min(Integer.MAX_VALUE, (long) PENDING_BATCHES * maxBatch);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.bufferLock = new ReentrantLock();
+        this.batchReady = bufferLock.newCondition();
+        this.spaceAvailable = bufferLock.newCondition();
+        this.flushLock = new Object();
+        this.pending = new LinkedHashMap<>();
+        this.flushing = Map.of();
+        this.log = WriteAheadLog.open(logDirectory, 0, this::replay);
+        // Writes acknowledged before a crash go to the backing store before anything else
+        flush();
+        this.flusher = Thread.ofPlatform()
+                .name("write-behind-" + logDirectory.getFileName())
+                .daemon(true)
+                .start(this::flushLoop);
+    }
+
+    private void replay(byte[] record) {
+        TaskRecordCodec.Mutation mutation = TaskRecordCodec.decode(record);
+        pending.put(idOf(mutation), mutation);
+    }
+
+    @Override
+    public void save(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        CompletableFuture<Void> durable;
+        bufferLock.lock();
+        try {
+            durable = buffer(new TaskRecordCodec.Saved(task));
+        } finally {
+            bufferLock.unlock();
+        }
+        WriteAheadLog.await(durable);
+    }
+
+    @Override
+    public boolean saveIfVersion(Task task, long expectedVersion) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        CompletableFuture<Void> durable;
+        bufferLock.lock();
+        try {
+            Task current = currentTask(task.getId()).orElse(null);
+            if (current == null || current.getVersion() != expectedVersion) {
+                return false;
+            }
+            durable = buffer(new TaskRecordCodec.Saved(task));
+        } finally {
+            bufferLock.unlock();
+        }
+        WriteAheadLog.await(durable);
+        return true;
+    }
+
+    /**
+     * Logs the whole batch under one lock acquisition, unless it has to wait for room in the buffer,
+     * and waits for it together, so it normally shares a single {@code fsync}.
+     */
+    @Override
+    public void saveAll(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        tasks.forEach(task -> Objects.requireNonNull(task, "Task cannot be null"));
+        List<CompletableFuture<Void>> durable = new ArrayList<>(tasks.size());
+        bufferLock.lock();
+        try {
+            for (Task task : tasks) {
+                durable.add(buffer(new TaskRecordCodec.Saved(task)));
+            }
+        } finally {
+            bufferLock.unlock();
+        }
+        for (CompletableFuture<Void> future : durable) {
+            WriteAheadLog.await(future);
+        }
+    }
+
+    @Override
+    public void remove(Task task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        CompletableFuture<Void> durable;
+        bufferLock.lock();
+        try {
+            durable = buffer(new TaskRecordCodec.Removed(task.getId()));
+        } finally {
+            bufferLock.unlock();
+        }
+        WriteAheadLog.await(durable);
+    }
+
+    /**
+     * Logs and buffers a write; the caller holds the buffer lock, so log order and buffer order agree.
+     * A write of a task that is not buffered yet first waits while the buffer is full.
+     */
+    private CompletableFuture<Void> buffer(TaskRecordCodec.Mutation mutation) {
+        TaskId taskId = idOf(mutation);
+        while (!closed && pending.size() + flushing.size() >= maxPending && !pending.containsKey(taskId)) {
+            try {
+                spaceAvailable.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the write-behind buffer", e);
+            }
+        }
+        if (closed) {
+            throw new IllegalStateException("Write-behind task store is closed");
+        }
+        byte[] record = switch (mutation) {
+            case TaskRecordCodec.Saved saved -> TaskRecordCodec.encodeSave(saved.task());
+            case TaskRecordCodec.Removed removed -> TaskRecordCodec.encodeRemove(removed.taskId());
+        };
+        CompletableFuture<Void> durable = log.append(record);
+        pending.put(taskId, mutation);
+        if (pending.size() == 1 || pending.size() >= maxBatch) {
+            batchReady.signal();
+        }
+        return durable;
+    }
+
+    @Override
+    public Optional<Task> findById(TaskId taskId) {
+        if (taskId == null) {
+            return Optional.empty();
+        }
+        bufferLock.lock();
+        try {
+            return currentTask(taskId);
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the task as of the latest write, buffered or not. The caller holds the buffer lock;
+     * it is released while the backing store is read, and the buffer is checked again afterwards.
+     * If a batch was flushed in between, the read may predate it and is repeated.
+     */
+    private Optional<Task> currentTask(TaskId taskId) {
+        while (true) {
+            TaskRecordCodec.Mutation mutation = buffered(taskId);
+            if (mutation != null) {
+                return taskOf(mutation);
+            }
+            long batches = flushedBatches;
+            Optional<Task> stored;
+            bufferLock.unlock();
+            try {
+                stored = delegate.findById(taskId);
+            } finally {
+                bufferLock.lock();
+            }
+            if (batches == flushedBatches && buffered(taskId) == null) {
+                return stored;
+            }
+        }
+    }
+
+    private TaskRecordCodec.Mutation buffered(TaskId taskId) {
+        TaskRecordCodec.Mutation mutation = pending.get(taskId);
+        return mutation != null ? mutation : flushing.get(taskId);
+    }
+
+    private static Optional<Task> taskOf(TaskRecordCodec.Mutation mutation) {
+        return switch (mutation) {
+            case TaskRecordCodec.Saved saved -> Optional.of(saved.task());
+            case TaskRecordCodec.Removed ignored -> Optional.empty();
+        };
+    }
+
+    @Override
+    public List<Task> findAll() {
+        flush();
+        return delegate.findAll();
+    }
+
+    @Override
+    public TaskSnapshot currentSnapshot() {
+        flush();
+        return delegate.currentSnapshot();
+    }
+
+    @Override
+    public List<Task> findBy(TaskFilter filter) {
+        flush();
+        return delegate.findBy(filter);
+    }
+
+    @Override
+    public Stream<Task> stream() {
+        flush();
+        return delegate.stream();
+    }
+
+    @Override
+    public TaskPage findPage(Optional<TaskId> after, int limit) {
+        flush();
+        return delegate.findPage(after, limit);
+    }
+
+    /**
+     * Passes every buffered write on to the backing store and waits until it is there.
+     * If the backing store fails, the writes stay buffered for the next flush.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<TaskId, TaskRecordCodec.Mutation> batch;
+            CompletableFuture<Long> rotation;
+            bufferLock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new LinkedHashMap<>();
+                flushing = batch;
+                // Every buffered write was appended before this marker
+                rotation = log.rotate();
+            } finally {
+                bufferLock.unlock();
+            }
+            long segment = WriteAheadLog.await(rotation);
+            try {
+                writeBatch(batch.values());
+            } catch (RuntimeException e) {
+                bufferLock.lock();
+                try {
+                    // Newer writes to the same tasks supersede the failed ones
+                    batch.forEach(pending::putIfAbsent);
+                    flushing = Map.of();
+                    flushedBatches++;
+                    // Writers waiting on a task of the batch may go ahead now that it is pending again
+                    spaceAvailable.signalAll();
+                } finally {
+                    bufferLock.unlock();
+                }
+                throw e;
+            }
+            bufferLock.lock();
+            try {
+                flushing = Map.of();
+                flushedBatches++;
+                spaceAvailable.signalAll();
+            } finally {
+                bufferLock.unlock();
+            }
+            log.deleteSegmentsBefore(segment);
+        }
+    }
+
+    private void writeBatch(Collection<TaskRecordCodec.Mutation> batch) {
+        List<Task> saved = new ArrayList<>(batch.size());
+        for (TaskRecordCodec.Mutation mutation : batch) {
+            switch (mutation) {
+                case TaskRecordCodec.Saved save -> saved.add(save.task());
+                case TaskRecordCodec.Removed removed -> delegate.findById(removed.taskId()).ifPresent(delegate::remove);
+            }
+        }
+        delegate.saveAll(saved);
+    }
+
+    private void flushLoop() {
+        while (true) {
+            bufferLock.lock();
+            try {
+                while (!closed && pending.isEmpty()) {
+                    batchReady.await();
+                }
+                long deadline = System.nanoTime() + maxDelayNanos;
+                long left = maxDelayNanos;
+                while (!closed && pending.size() < maxBatch && left > 0) {
+                    batchReady.awaitNanos(left);
+                    left = deadline - System.nanoTime();
+                }
+                if (closed) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                bufferLock.unlock();
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                // The batch stays buffered and is retried after the next delay
+                LOGGER.log(System.Logger.Level.WARNING, "Write-behind flush failed", e);
+                pauseAfterFailure();
+            }
+        }
+    }
+
+    /**
+     * Waits out the delay before the next attempt, since a full buffer would otherwise retry at once.
+     */
+    private void pauseAfterFailure() {
+        bufferLock.lock();
+        try {
+            long deadline = System.nanoTime() + maxDelayNanos;
+            long left = maxDelayNanos;
+            while (!closed && left > 0) {
+                batchReady.awaitNanos(left);
+                left = deadline - System.nanoTime();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting writes, flushes everything buffered and closes the local log.
+     */
+    @Override
+    public void close() {
+        bufferLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            batchReady.signalAll();
+            spaceAvailable.signalAll();
+        } finally {
+            bufferLock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } finally {
+            log.close();
+        }
+    }
+
+    private static TaskId idOf(TaskRecordCodec.Mutation mutation) {
+        return switch (mutation) {
+            case TaskRecordCodec.Saved saved -> saved.task().getId();
+            case TaskRecordCodec.Removed removed -> removed.taskId();
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.organizer.service.task.port;
+
+import com.organizer.model.task.Task;
+import com.organizer.model.task.TaskPriority;
+import com.organizer.model.task.TaskStatus;
+import com.organizer.model.user.UserId;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Criteria for indexed task lookups. An empty field matches any value.
+ */
+public record TaskFilter(Optional<TaskStatus> status,
+                         Optional<TaskPriority> priority,
+                         Optional<UserId> assignee) {
+
+    private static final TaskFilter ANY = new TaskFilter(Optional.empty(), Optional.empty(), Optional.empty());
+
+    public TaskFilter {
+        Objects.requireNonNull(status, "Status filter cannot be null");
+        Objects.requireNonNull(priority, "Priority filter cannot be null");
+        Objects.requireNonNull(assignee, "Assignee filter cannot be null");
+    }
+
+    public static TaskFilter any() {
+        return ANY;
+    }
+
+    public TaskFilter withStatus(TaskStatus status) {
+        return new TaskFilter(Optional.of(status), priority, assignee);
+    }
+
+    public TaskFilter withPriority(TaskPriority priority) {
+        return new TaskFilter(status, Optional.of(priority), assignee);
+    }
+
+    public TaskFilter withAssignee(UserId assignee) {
+        return new TaskFilter(status, priority, Optional.of(assignee));
+    }
+
+    public boolean matches(Task task) {
+        if (status.isPresent() && status.get() != task.getStatus()) {
+            return false;
+        }
+        if (priority.isPresent() && priority.get() != task.getPriority()) {
+            return false;
+        }
+        if (assignee.isPresent()) {
+            return task.getAssignedUser() != null && assignee.get().equals(task.getAssignedUser().getId());
+        }
+        return true;
+    }
+}
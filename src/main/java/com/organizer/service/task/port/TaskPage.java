@@ -0,0 +1,33 @@
+package com.organizer.service.task.port;
+
+import com.organizer.model.task.Task;
+import com.organizer.model.task.TaskId;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * One page of tasks in {@link TaskId} order.
+ * {@code next} is the keyset cursor to pass to the following request, empty on the last page.
+ */
+public record TaskPage(List<Task> tasks, Optional<TaskId> next) {
+
+    public TaskPage {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        Objects.requireNonNull(next, "Next cursor cannot be null");
+        tasks = List.copyOf(tasks);
+    }
+
+    /**
+     * Builds a page from up to {@code limit + 1} tasks fetched in order;
+     * the extra task only signals that another page exists.
+     */
+    public static TaskPage of(List<Task> fetched, int limit) {
+        if (fetched.size() <= limit) {
+            return new TaskPage(fetched, Optional.empty());
+        }
+        List<Task> tasks = fetched.subList(0, limit);
+        return new TaskPage(tasks, Optional.of(tasks.getLast().getId()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.organizer.service.task.port;
+
+import com.organizer.model.task.Task;
+import com.organizer.model.task.TaskId;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Immutable point-in-time view of a {@link TaskStore}.
+ * Writes made after the snapshot was taken are not visible to it, so a report can iterate,
+ * filter and aggregate it for as long as it needs without holding writers back.
+ */
+public interface TaskSnapshot {
+
+    Optional<Task> findById(TaskId taskId);
+
+    int size();
+
+    Stream<Task> stream();
+
+    default List<Task> findAll() {
+        return stream().toList();
+    }
+
+    default List<Task> findBy(TaskFilter filter) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        return stream().filter(filter::matches).toList();
+    }
+
+    default long count(TaskFilter filter) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        return stream().filter(filter::matches).count();
+    }
+
+    /**
+     * Builds a snapshot by copying {@code tasks}, for stores that cannot share their state.
+     */
+    static TaskSnapshot copyOf(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        Map<TaskId, Task> byId = new LinkedHashMap<>();
+        tasks.forEach(task -> byId.put(task.getId(), task));
+        return new Copied(Map.copyOf(byId));
+    }
+
+    record Copied(Map<TaskId, Task> tasks) implements TaskSnapshot {
+
+        @Override
+        public Optional<Task> findById(TaskId taskId) {
+            return Optional.ofNullable(taskId == null ? null : tasks.get(taskId));
+        }
+
+        @Override
+        public int size() {
+            return tasks.size();
+        }
+
+        @Override
+        public Stream<Task> stream() {
+            return tasks.values().stream();
+        }
+    }
+}
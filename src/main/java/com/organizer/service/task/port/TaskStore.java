@@ -2,16 +2,152 @@ package com.organizer.service.task.port;
 
 import com.organizer.model.task.Task;
 import com.organizer.model.task.TaskId;
+import com.organizer.model.task.TaskPatch;
+import com.organizer.model.task.TaskPriority;
+import com.organizer.model.task.TaskStatus;
+import com.organizer.model.user.UserId;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 public interface TaskStore {
     void save(Task task);
 
+    /**
+     * Saves {@code task} only if the stored task with the same id is at {@code expectedVersion},
+     * atomically with respect to every other write. The saved task normally carries
+     * {@code expectedVersion + 1}.
+     *
+     * @return {@code false}, leaving the store unchanged, if the task is missing or was changed in between
+     */
+    boolean saveIfVersion(Task task, long expectedVersion);
+
+    /**
+     * Applies {@code patch} to the task with id {@code taskId} if it is still at {@code expectedVersion},
+     * storing the result at {@code expectedVersion + 1}. The default implementation reads the task and
+     * writes the patched copy with {@link #saveIfVersion}; stores override it to write only the
+     * changed fields and to re-index only when {@link TaskPatch#INDEXED} fields change.
+     *
+     * @return {@code false}, leaving the store unchanged, if the task is missing or was changed in between
+     */
+    default boolean applyPatch(TaskId taskId, TaskPatch patch, long expectedVersion) {
+        Objects.requireNonNull(taskId, "Task ID cannot be null");
+        Objects.requireNonNull(patch, "Patch cannot be null");
+        Task current = findById(taskId).orElse(null);
+        if (current == null || current.getVersion() != expectedVersion) {
+            return false;
+        }
+        return saveIfVersion(patch.applyTo(current), expectedVersion);
+    }
+
+    /**
+     * Saves every task of {@code tasks}, as if by calling {@link #save} for each in iteration order.
+     * The default implementation does exactly that; stores override it to pay their per-write
+     * cost, such as a lock acquisition or a log sync, once per batch.
+     */
+    default void saveAll(Collection<Task> tasks) {
+        Objects.requireNonNull(tasks, "Tasks cannot be null");
+        tasks.forEach(this::save);
+    }
+
+    /**
+     * Replaces each existing task among {@code ids} with {@code change} applied to it.
+     * Ids without a task are skipped. {@code change} must return a task with the same id and must not
+     * modify its argument. The default implementation reads every task and writes the results with
+     * {@link #saveAll}; stores override it to read and write each task atomically in one pass.
+     *
+     * @return the updated tasks, in {@code ids} order
+     */
+    default List<Task> updateAll(Collection<TaskId> ids, UnaryOperator<Task> change) {
+        Objects.requireNonNull(ids, "Task ids cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+        List<Task> updated = new ArrayList<>(ids.size());
+        for (TaskId id : ids) {
+            findById(id).map(change).ifPresent(updated::add);
+        }
+        saveAll(updated);
+        return updated;
+    }
+
+    /**
+     * Like {@link #updateAll}, for every task matching {@code filter}.
+     *
+     * @return the updated tasks
+     */
+    default List<Task> updateMatching(TaskFilter filter, UnaryOperator<Task> change) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        Objects.requireNonNull(change, "Change cannot be null");
+        List<Task> updated = findBy(filter).stream().map(change).toList();
+        saveAll(updated);
+        return updated;
+    }
+
     void remove(Task task);
 
     Optional<Task> findById(TaskId taskId);
 
     List<Task> findAll();
+
+    /**
+     * Returns an immutable point-in-time view of all tasks.
+     * The default implementation copies {@link #findAll()}; multi-version stores override it
+     * to hand out their current version in constant time.
+     */
+    default TaskSnapshot currentSnapshot() {
+        return TaskSnapshot.copyOf(findAll());
+    }
+
+    /**
+     * Finds all tasks matching the filter.
+     * The default implementation scans {@link #findAll()}; indexed stores override it
+     * so the cost is proportional to the result size.
+     */
+    default List<Task> findBy(TaskFilter filter) {
+        return findAll().stream().filter(filter::matches).toList();
+    }
+
+    default List<Task> findByStatus(TaskStatus status) {
+        return findBy(TaskFilter.any().withStatus(status));
+    }
+
+    default List<Task> findByPriority(TaskPriority priority) {
+        return findBy(TaskFilter.any().withPriority(priority));
+    }
+
+    default List<Task> findByAssignee(UserId assignee) {
+        return findBy(TaskFilter.any().withAssignee(assignee));
+    }
+
+    /**
+     * Streams all tasks without copying the store first.
+     * The stream is weakly consistent: it reflects some writes made while it is consumed.
+     */
+    default Stream<Task> stream() {
+        return findAll().stream();
+    }
+
+    /**
+     * Returns up to {@code limit} tasks with ids strictly greater than {@code after}, in {@link TaskId} order.
+     * The default implementation sorts a full scan; ordered stores override it.
+     *
+     * @param after the cursor of the previous page, or empty for the first page
+     * @param limit the maximum page size, must be positive
+     */
+    default TaskPage findPage(Optional<TaskId> after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        List<Task> fetched = stream()
+                .filter(task -> after.isEmpty() || task.getId().compareTo(after.get()) > 0)
+                .sorted(Comparator.comparing(Task::getId))
+                .limit(limit + 1L)
+                .toList();
+        return TaskPage.of(fetched, limit);
+    }
 }
@@ -0,0 +1,110 @@
+package com.organizer.service.task.usecase;
+
+import com.organizer.common.concurrent.VirtualThreadExecutor;
+import com.organizer.service.task.port.GeneratorId;
+import com.organizer.service.task.port.TaskStore;
+import com.organizer.service.task.usecase.create.*;
+import com.organizer.service.task.usecase.create.command.CreateTaskCommand;
+import com.organizer.service.task.usecase.delete.*;
+import com.organizer.service.task.usecase.list.ListTasksResult;
+import com.organizer.service.task.usecase.list.ListTasksService;
+import com.organizer.service.task.usecase.list.ListTasksUseCase;
+import com.organizer.service.task.usecase.list.command.ListTasksCommand;
+import com.organizer.service.task.usecase.read.*;
+import com.organizer.service.task.usecase.update.*;
+import com.organizer.service.user.port.UserStore;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking entry point to the task use cases.
+ * Every call runs the synchronous use case on its own virtual thread and returns at once,
+ * so callers are never held up by store I/O such as a write-ahead log sync.
+ */
+public final class AsyncTaskUseCases implements AutoCloseable {
+
+    private final CreateTaskUseCase createTask;
+    private final CreateTasksUseCase createTasks;
+    private final ReadTaskUseCase readTask;
+    private final ListTasksUseCase listTasks;
+    private final UpdateTaskUseCase updateTask;
+    private final BulkUpdateTasksUseCase bulkUpdateTasks;
+    private final DeleteTaskUseCase deleteTask;
+    private final VirtualThreadExecutor executor;
+
+    public AsyncTaskUseCases(CreateTaskUseCase createTask,
+                             CreateTasksUseCase createTasks,
+                             ReadTaskUseCase readTask,
+                             ListTasksUseCase listTasks,
+                             UpdateTaskUseCase updateTask,
+                             BulkUpdateTasksUseCase bulkUpdateTasks,
+                             DeleteTaskUseCase deleteTask) {
+        Objects.requireNonNull(createTask, "Create task use case cannot be null");
+        this.createTask = createTask;
+        Objects.requireNonNull(createTasks, "Create tasks use case cannot be null");
+        this.createTasks = createTasks;
+        Objects.requireNonNull(readTask, "Read task use case cannot be null");
+        this.readTask = readTask;
+        Objects.requireNonNull(listTasks, "List tasks use case cannot be null");
+        this.listTasks = listTasks;
+        Objects.requireNonNull(updateTask, "Update task use case cannot be null");
+        this.updateTask = updateTask;
+        Objects.requireNonNull(bulkUpdateTasks, "Bulk update tasks use case cannot be null");
+        this.bulkUpdateTasks = bulkUpdateTasks;
+        Objects.requireNonNull(deleteTask, "Delete task use case cannot be null");
+        this.deleteTask = deleteTask;
+        this.executor = new VirtualThreadExecutor("task-use-case");
+    }
+
+    /**
+     * Wires the default services over the given stores.
+     */
+    public static AsyncTaskUseCases of(TaskStore taskStore, UserStore userStore, GeneratorId generatorId) {
+        return new AsyncTaskUseCases(
+                new CreateTaskService(taskStore, userStore, generatorId),
+                new CreateTasksService(taskStore, userStore, generatorId),
+                new ReadTaskService(taskStore),
+                new ListTasksService(taskStore),
+                new UpdateTaskService(taskStore, userStore),
+                new BulkUpdateTasksService(taskStore, userStore),
+                new DeleteTaskService(taskStore));
+    }
+
+    public CompletableFuture<CreateTaskResult> createTask(CreateTaskCommand command) {
+        return executor.supply(() -> createTask.handle(command));
+    }
+
+    public CompletableFuture<List<CreateTaskResult>> createTasks(List<CreateTaskCommand> commands) {
+        return executor.supply(() -> createTasks.handle(commands));
+    }
+
+    public CompletableFuture<ReadTaskResult> readTask(ReadTaskCommand command) {
+        return executor.supply(() -> readTask.handle(command));
+    }
+
+    public CompletableFuture<ListTasksResult> listTasks(ListTasksCommand command) {
+        return executor.supply(() -> listTasks.handle(command));
+    }
+
+    public CompletableFuture<UpdateTaskResult> updateTask(UpdateTaskCommand command) {
+        return executor.supply(() -> updateTask.handle(command));
+    }
+
+    public CompletableFuture<BulkUpdateTasksResult> updateTasks(BulkUpdateTasksCommand command) {
+        return executor.supply(() -> bulkUpdateTasks.handle(command));
+    }
+
+    public CompletableFuture<DeleteTaskResult> deleteTask(DeleteTaskCommand command) {
+        return executor.supply(() -> deleteTask.handle(command));
+    }
+
+    /**
+     * Stops accepting calls and waits for the ones in flight to finish.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -0,0 +1,73 @@
+package com.organizer.service.task.usecase.create;
+
+import com.organizer.model.task.Task;
+import com.organizer.model.task.TaskId;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+import com.organizer.service.task.port.GeneratorId;
+import com.organizer.service.task.port.TaskStore;
+import com.organizer.service.task.usecase.create.command.CreateTaskCommand;
+import com.organizer.service.task.usecase.create.parser.CreateTaskParser;
+import com.organizer.service.task.usecase.create.parser.ResultParser;
+import com.organizer.service.task.usecase.create.parser.TaskDraft;
+import com.organizer.service.user.port.UserStore;
+
+import java.util.*;
+
+/**
+ * Creates many tasks in one call.
+ * Each command is validated exactly like {@link CreateTaskService} does, and gets the same error.
+ * Every distinct username is looked up once for the whole batch, and all valid tasks are written
+ * with a single {@link TaskStore#saveAll}, so the store can amortize its per-write cost.
+ */
+public class CreateTasksService implements CreateTasksUseCase {
+
+    private final TaskStore taskStore;
+    private final UserStore userStore;
+    private final GeneratorId generatorId;
+
+    public CreateTasksService(TaskStore taskStore, UserStore userStore, GeneratorId generatorId) {
+        Objects.requireNonNull(taskStore, "Task store cannot be null");
+        this.taskStore = taskStore;
+        Objects.requireNonNull(userStore, "User store cannot be null");
+        this.userStore = userStore;
+        Objects.requireNonNull(generatorId, "Generator ID cannot be null");
+        this.generatorId = generatorId;
+    }
+
+    @Override
+    public List<CreateTaskResult> handle(List<CreateTaskCommand> commands) {
+        Objects.requireNonNull(commands, "Commands cannot be null");
+        List<CreateTaskResult> results = new ArrayList<>(commands.size());
+        List<Task> tasks = new ArrayList<>(commands.size());
+        Map<Username, Optional<User>> usersByName = new HashMap<>();
+
+        for (CreateTaskCommand command : commands) {
+            ResultParser parsed = CreateTaskParser.parse(command);
+            if (parsed instanceof ResultParser.Err(CreateTaskResult.Error error)) {
+                results.add(error);
+                continue;
+            }
+
+            TaskDraft draft = ((ResultParser.Ok<TaskDraft>) parsed).value();
+
+            User taskUser = null;
+            if (draft.hasAssignee()) {
+                taskUser = usersByName.computeIfAbsent(draft.username(), userStore::findByUsername).orElse(null);
+                if (taskUser == null) {
+                    results.add(CreateTaskResult.Error.NON_EXISTING_USER);
+                    continue;
+                }
+            }
+
+            TaskId id = generatorId.generateId();
+            tasks.add(draft.toTask(id, taskUser));
+            results.add(new CreateTaskResult.Ok(id));
+        }
+
+        if (!tasks.isEmpty()) {
+            taskStore.saveAll(tasks);
+        }
+        return results;
+    }
+}
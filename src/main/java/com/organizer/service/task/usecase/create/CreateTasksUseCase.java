@@ -0,0 +1,12 @@
+package com.organizer.service.task.usecase.create;
+
+import com.organizer.service.task.usecase.create.command.CreateTaskCommand;
+
+import java.util.List;
+
+public interface CreateTasksUseCase {
+    /**
+     * @return one result per command, in command order
+     */
+    List<CreateTaskResult> handle(List<CreateTaskCommand> commands);
+}
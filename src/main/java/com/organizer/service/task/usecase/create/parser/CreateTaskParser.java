@@ -0,0 +1,95 @@
+package com.organizer.service.task.usecase.create.parser;
+
+import com.organizer.model.task.TaskDescription;
+import com.organizer.model.task.TaskName;
+import com.organizer.model.task.TaskPriority;
+import com.organizer.model.task.TaskStatus;
+import com.organizer.model.user.Username;
+import com.organizer.service.task.usecase.create.CreateTaskResult;
+import com.organizer.service.task.usecase.create.command.CreateBasicTaskCommand;
+import com.organizer.service.task.usecase.create.command.CreateFullTaskCommand;
+import com.organizer.service.task.usecase.create.command.CreateTaskCommand;
+
+/**
+ * Validates create commands without touching any store.
+ * Shared by the single and batch create use cases so both report the same error for the same input.
+ */
+public final class CreateTaskParser {
+
+    private CreateTaskParser() {
+    }
+
+    /**
+     * @return {@link ResultParser.Ok} holding a {@link TaskDraft}, or {@link ResultParser.Err} with the first problem found
+     */
+    public static ResultParser parse(CreateTaskCommand command) {
+        if (command == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.MISSING_COMMAND);
+        }
+
+        return switch (command) {
+            case CreateFullTaskCommand full -> parseFull(full);
+            case CreateBasicTaskCommand basic -> parseBasic(basic.name(), basic.description());
+        };
+    }
+
+    private static ResultParser parseFull(CreateFullTaskCommand command) {
+        ResultParser basicResult = parseBasic(command.name(), command.description());
+        if (basicResult instanceof ResultParser.Err) {
+            return basicResult;
+        }
+
+        BasicResult basic = ((ResultParser.Ok<TaskDraft>) basicResult).value().basic();
+
+        if (command.priority() == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.MISSING_TASK_PRIORITY);
+        }
+
+        TaskPriority taskPriority = TaskPriority.parse(command.priority()).orElse(null);
+        if (taskPriority == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.INVALID_TASK_PRIORITY_NAME);
+        }
+
+        if (command.status() == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.MISSING_TASK_STATUS);
+        }
+
+        TaskStatus taskStatus = TaskStatus.parse(command.status()).orElse(null);
+        if (taskStatus == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.INVALID_TASK_STATUS_NAME);
+        }
+
+        if (command.username() == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.MISSING_USERNAME);
+        }
+
+        Username username = Username.tryOf(command.username()).orElse(null);
+        if (username == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.INVALID_USERNAME_FORMAT);
+        }
+
+        return new ResultParser.Ok<>(new TaskDraft(basic, taskPriority, taskStatus, username));
+    }
+
+    private static ResultParser parseBasic(String name, String description) {
+        if (name == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.MISSING_TASK_NAME);
+        }
+
+        if (description == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.MISSING_TASK_DESCRIPTION);
+        }
+
+        TaskName taskName = TaskName.tryOf(name).orElse(null);
+        if (taskName == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.INVALID_TASK_NAME_FORMAT);
+        }
+
+        TaskDescription taskDescription = TaskDescription.tryOf(description).orElse(null);
+        if (taskDescription == null) {
+            return new ResultParser.Err(CreateTaskResult.Error.INVALID_TASK_DESCRIPTION_FORMAT);
+        }
+
+        return new ResultParser.Ok<>(new TaskDraft(new BasicResult(taskName, taskDescription), null, null, null));
+    }
+}
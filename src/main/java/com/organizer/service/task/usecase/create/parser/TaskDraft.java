@@ -0,0 +1,26 @@
+package com.organizer.service.task.usecase.create.parser;
+
+import com.organizer.model.task.Task;
+import com.organizer.model.task.TaskId;
+import com.organizer.model.task.TaskPriority;
+import com.organizer.model.task.TaskStatus;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+
+/**
+ * A validated create command whose assignee, if any, has not been looked up yet.
+ * Basic commands leave {@code priority}, {@code status} and {@code username} {@code null}.
+ */
+public record TaskDraft(BasicResult basic, TaskPriority priority, TaskStatus status, Username username) {
+
+    public boolean hasAssignee() {
+        return username != null;
+    }
+
+    public Task toTask(TaskId id, User assignee) {
+        if (!hasAssignee()) {
+            return new Task(id, basic.name(), basic.taskDescription());
+        }
+        return new Task(id, basic.name(), basic.taskDescription(), priority, status, assignee);
+    }
+}
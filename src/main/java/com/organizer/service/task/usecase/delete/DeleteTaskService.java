@@ -25,10 +25,8 @@ public class DeleteTaskService implements DeleteTaskUseCase {
             return DeleteTaskResult.Error.MISSING_TASK_ID;
         }
 
-        TaskId taskId;
-        try {
-            taskId = TaskId.of(command.id());
-        } catch (IllegalArgumentException e) {
+        TaskId taskId = TaskId.tryOf(command.id()).orElse(null);
+        if (taskId == null) {
             return DeleteTaskResult.Error.INVALID_TASK_ID_FORMAT;
         }
         Task task = taskStore.findById(taskId).orElse(null);
@@ -0,0 +1,21 @@
+package com.organizer.service.task.usecase.list;
+
+import com.organizer.model.task.Task;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public sealed interface ListTasksResult {
+    record Page(List<Task> tasks, Optional<String> nextCursor) implements ListTasksResult {
+    }
+
+    record Streamed(Stream<Task> tasks) implements ListTasksResult {
+    }
+
+    enum Error implements ListTasksResult {
+        MISSING_COMMAND,
+        INVALID_CURSOR_FORMAT,
+        INVALID_PAGE_SIZE
+    }
+}
@@ -0,0 +1,52 @@
+package com.organizer.service.task.usecase.list;
+
+import com.organizer.model.task.TaskId;
+import com.organizer.service.task.port.TaskPage;
+import com.organizer.service.task.port.TaskStore;
+import com.organizer.service.task.usecase.list.command.ListTasksCommand;
+import com.organizer.service.task.usecase.list.command.ListTasksPageCommand;
+import com.organizer.service.task.usecase.list.command.StreamTasksCommand;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class ListTasksService implements ListTasksUseCase {
+
+    public static final int MAX_PAGE_SIZE = 1_000;
+
+    private final TaskStore taskStore;
+
+    public ListTasksService(TaskStore taskStore) {
+        Objects.requireNonNull(taskStore, "Task store cannot be null");
+        this.taskStore = taskStore;
+    }
+
+    @Override
+    public ListTasksResult handle(ListTasksCommand command) {
+        if (command == null) {
+            return ListTasksResult.Error.MISSING_COMMAND;
+        }
+
+        return switch (command) {
+            case ListTasksPageCommand page -> handlePage(page.cursor(), page.limit());
+            case StreamTasksCommand ignored -> new ListTasksResult.Streamed(taskStore.stream());
+        };
+    }
+
+    private ListTasksResult handlePage(String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return ListTasksResult.Error.INVALID_PAGE_SIZE;
+        }
+
+        Optional<TaskId> after = Optional.empty();
+        if (cursor != null) {
+            after = TaskId.tryOf(cursor);
+            if (after.isEmpty()) {
+                return ListTasksResult.Error.INVALID_CURSOR_FORMAT;
+            }
+        }
+
+        TaskPage page = taskStore.findPage(after, limit);
+        return new ListTasksResult.Page(page.tasks(), page.next().map(TaskId::toString));
+    }
+}
@@ -0,0 +1,7 @@
+package com.organizer.service.task.usecase.list;
+
+import com.organizer.service.task.usecase.list.command.ListTasksCommand;
+
+public interface ListTasksUseCase {
+    ListTasksResult handle(ListTasksCommand command);
+}
@@ -0,0 +1,4 @@
+package com.organizer.service.task.usecase.list.command;
+
+public sealed interface ListTasksCommand permits ListTasksPageCommand, StreamTasksCommand {
+}
@@ -0,0 +1,8 @@
+package com.organizer.service.task.usecase.list.command;
+
+/**
+ * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page
+ * @param limit  the maximum number of tasks to return
+ */
+public record ListTasksPageCommand(String cursor, int limit) implements ListTasksCommand {
+}
@@ -25,10 +25,8 @@ public class ReadTaskService implements ReadTaskUseCase {
             return ReadTaskResult.Error.MISSING_TASK_ID;
         }
 
-        TaskId taskId;
-        try {
-            taskId = TaskId.of(command.id());
-        } catch (IllegalArgumentException e) {
+        TaskId taskId = TaskId.tryOf(command.id()).orElse(null);
+        if (taskId == null) {
             return ReadTaskResult.Error.INVALID_TASK_ID_FORMAT;
         }
 
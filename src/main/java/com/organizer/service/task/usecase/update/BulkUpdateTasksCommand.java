@@ -0,0 +1,5 @@
+package com.organizer.service.task.usecase.update;
+
+public sealed interface BulkUpdateTasksCommand permits UpdateTasksByIdCommand, UpdateTasksByFilterCommand {
+    TaskChanges changes();
+}
@@ -0,0 +1,27 @@
+package com.organizer.service.task.usecase.update;
+
+import java.util.List;
+
+public sealed interface BulkUpdateTasksResult {
+    /**
+     * @param results for an id list, one result per requested id in request order;
+     *                for a filter, one {@link UpdateTaskResult.Ok} per updated task
+     */
+    record Ok(List<UpdateTaskResult> results) implements BulkUpdateTasksResult {
+    }
+
+    enum Error implements BulkUpdateTasksResult {
+        MISSING_COMMAND,
+        MISSING_TASK_IDS,
+        NO_FIELDS_PROVIDED,
+        INVALID_TASK_NAME_FORMAT,
+        INVALID_TASK_DESCRIPTION_FORMAT,
+        INVALID_TASK_PRIORITY_FORMAT,
+        INVALID_TASK_STATUS_FORMAT,
+        INVALID_USERNAME_FORMAT,
+        NON_EXISTING_USER,
+        INVALID_FILTER_STATUS_FORMAT,
+        INVALID_FILTER_PRIORITY_FORMAT,
+        INVALID_FILTER_USERNAME_FORMAT,
+    }
+}
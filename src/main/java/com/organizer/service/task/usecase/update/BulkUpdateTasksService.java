@@ -0,0 +1,185 @@
+package com.organizer.service.task.usecase.update;
+
+import com.organizer.model.task.*;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskStore;
+import com.organizer.service.user.port.UserStore;
+
+import java.util.*;
+
+/**
+ * Applies one set of field changes to many tasks.
+ * The changes are validated once, then handed to the store as a single
+ * {@link TaskStore#updateAll} or {@link TaskStore#updateMatching} pass, so each task is read,
+ * changed and written once and indexed stores only re-index tasks whose indexed fields moved.
+ */
+public class BulkUpdateTasksService implements BulkUpdateTasksUseCase {
+
+    private final TaskStore taskStore;
+    private final UserStore userStore;
+
+    public BulkUpdateTasksService(TaskStore taskStore, UserStore userStore) {
+        Objects.requireNonNull(taskStore, "Task store cannot be null");
+        this.taskStore = taskStore;
+        Objects.requireNonNull(userStore, "User store cannot be null");
+        this.userStore = userStore;
+    }
+
+    @Override
+    public BulkUpdateTasksResult handle(BulkUpdateTasksCommand command) {
+        if (command == null) {
+            return BulkUpdateTasksResult.Error.MISSING_COMMAND;
+        }
+
+        if (command instanceof UpdateTasksByIdCommand byId && byId.taskIds() == null) {
+            return BulkUpdateTasksResult.Error.MISSING_TASK_IDS;
+        }
+
+        TaskChanges changes = command.changes();
+        if (changes == null) {
+            return BulkUpdateTasksResult.Error.NO_FIELDS_PROVIDED;
+        }
+
+        checkChangesForOptionalNull(changes);
+
+        if (changes.name().isEmpty() &&
+                changes.description().isEmpty() &&
+                changes.priority().isEmpty() &&
+                changes.status().isEmpty() &&
+                changes.username().isEmpty()) {
+            return BulkUpdateTasksResult.Error.NO_FIELDS_PROVIDED;
+        }
+
+        TaskPatch.Builder builder = TaskPatch.builder();
+        if (changes.name().isPresent()) {
+            TaskName taskName = TaskName.tryOf(changes.name().get()).orElse(null);
+            if (taskName == null) {
+                return BulkUpdateTasksResult.Error.INVALID_TASK_NAME_FORMAT;
+            }
+            builder.name(taskName);
+        }
+
+        if (changes.description().isPresent()) {
+            TaskDescription taskDescription = TaskDescription.tryOf(changes.description().get()).orElse(null);
+            if (taskDescription == null) {
+                return BulkUpdateTasksResult.Error.INVALID_TASK_DESCRIPTION_FORMAT;
+            }
+            builder.description(taskDescription);
+        }
+
+        if (changes.priority().isPresent()) {
+            TaskPriority taskPriority = TaskPriority.parse(changes.priority().get()).orElse(null);
+            if (taskPriority == null) {
+                return BulkUpdateTasksResult.Error.INVALID_TASK_PRIORITY_FORMAT;
+            }
+            builder.priority(taskPriority);
+        }
+
+        if (changes.status().isPresent()) {
+            TaskStatus taskStatus = TaskStatus.parse(changes.status().get()).orElse(null);
+            if (taskStatus == null) {
+                return BulkUpdateTasksResult.Error.INVALID_TASK_STATUS_FORMAT;
+            }
+            builder.status(taskStatus);
+        }
+
+        if (changes.username().isPresent()) {
+            Username username = Username.tryOf(changes.username().get()).orElse(null);
+            if (username == null) {
+                return BulkUpdateTasksResult.Error.INVALID_USERNAME_FORMAT;
+            }
+            User user = userStore.findByUsername(username).orElse(null);
+            if (user == null) {
+                return BulkUpdateTasksResult.Error.NON_EXISTING_USER;
+            }
+            builder.assignee(user);
+        }
+
+        TaskPatch patch = builder.build();
+        return switch (command) {
+            case UpdateTasksByIdCommand byId -> updateById(byId.taskIds(), patch);
+            case UpdateTasksByFilterCommand byFilter -> updateByFilter(byFilter, patch);
+        };
+    }
+
+    private BulkUpdateTasksResult updateById(List<String> rawIds, TaskPatch patch) {
+        List<TaskId> ids = new ArrayList<>(rawIds.size());
+        for (String rawId : rawIds) {
+            ids.add(rawId == null ? null : TaskId.tryOf(rawId).orElse(null));
+        }
+
+        Set<TaskId> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        Set<TaskId> updated = new HashSet<>();
+        for (Task task : taskStore.updateAll(distinct, patch::applyTo)) {
+            updated.add(task.getId());
+        }
+
+        List<UpdateTaskResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            TaskId id = ids.get(i);
+            if (id == null) {
+                results.add(rawIds.get(i) == null
+                        ? UpdateTaskResult.Error.MISSING_TASK_ID
+                        : UpdateTaskResult.Error.INVALID_TASK_ID_FORMAT);
+            } else if (updated.contains(id)) {
+                results.add(new UpdateTaskResult.Ok(id));
+            } else {
+                results.add(UpdateTaskResult.Error.NON_EXISTING_TASK);
+            }
+        }
+        return new BulkUpdateTasksResult.Ok(results);
+    }
+
+    private BulkUpdateTasksResult updateByFilter(UpdateTasksByFilterCommand command, TaskPatch patch) {
+        Objects.requireNonNull(command.status(), "Command cannot be null");
+        Objects.requireNonNull(command.priority(), "Command cannot be null");
+        Objects.requireNonNull(command.username(), "Command cannot be null");
+
+        TaskFilter filter = TaskFilter.any();
+        if (command.status().isPresent()) {
+            TaskStatus status = TaskStatus.parse(command.status().get()).orElse(null);
+            if (status == null) {
+                return BulkUpdateTasksResult.Error.INVALID_FILTER_STATUS_FORMAT;
+            }
+            filter = filter.withStatus(status);
+        }
+
+        if (command.priority().isPresent()) {
+            TaskPriority priority = TaskPriority.parse(command.priority().get()).orElse(null);
+            if (priority == null) {
+                return BulkUpdateTasksResult.Error.INVALID_FILTER_PRIORITY_FORMAT;
+            }
+            filter = filter.withPriority(priority);
+        }
+
+        if (command.username().isPresent()) {
+            Username username = Username.tryOf(command.username().get()).orElse(null);
+            if (username == null) {
+                return BulkUpdateTasksResult.Error.INVALID_FILTER_USERNAME_FORMAT;
+            }
+            User assignee = userStore.findByUsername(username).orElse(null);
+            if (assignee == null) {
+                // Nobody by that name can be assigned to anything
+                return new BulkUpdateTasksResult.Ok(List.of());
+            }
+            filter = filter.withAssignee(assignee.getId());
+        }
+
+        List<UpdateTaskResult> results = new ArrayList<>();
+        for (Task task : taskStore.updateMatching(filter, patch::applyTo)) {
+            results.add(new UpdateTaskResult.Ok(task.getId()));
+        }
+        return new BulkUpdateTasksResult.Ok(results);
+    }
+
+    private void checkChangesForOptionalNull(TaskChanges changes) {
+        Objects.requireNonNull(changes.name(), "Command cannot be null");
+        Objects.requireNonNull(changes.description(), "Command cannot be null");
+        Objects.requireNonNull(changes.priority(), "Command cannot be null");
+        Objects.requireNonNull(changes.status(), "Command cannot be null");
+        Objects.requireNonNull(changes.username(), "Command cannot be null");
+    }
+}
@@ -0,0 +1,5 @@
+package com.organizer.service.task.usecase.update;
+
+public interface BulkUpdateTasksUseCase {
+    BulkUpdateTasksResult handle(BulkUpdateTasksCommand command);
+}
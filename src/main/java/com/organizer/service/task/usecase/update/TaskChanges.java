@@ -0,0 +1,13 @@
+package com.organizer.service.task.usecase.update;
+
+import java.util.Optional;
+
+/**
+ * Fields to set on every task of a bulk update; an empty field is left unchanged.
+ */
+public record TaskChanges(Optional<String> name,
+                          Optional<String> description,
+                          Optional<String> priority,
+                          Optional<String> status,
+                          Optional<String> username) {
+}
@@ -6,20 +6,35 @@ import com.organizer.model.user.Username;
 import com.organizer.service.task.port.TaskStore;
 import com.organizer.service.user.port.UserStore;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 public class UpdateTaskService implements UpdateTaskUseCase {
 
     private final TaskStore taskStore;
     private final UserStore userStore;
+    private final int maxRetries;
 
+    /**
+     * Creates a service that reports {@link UpdateTaskResult.Error#CONCURRENT_MODIFICATION}
+     * as soon as another write to the same task gets in between its read and its save.
+     */
     public UpdateTaskService(TaskStore taskStore, UserStore userStore) {
+        this(taskStore, userStore, 0);
+    }
+
+    /**
+     * @param maxRetries how many times an update that lost a race is re-applied to the newer
+     *                   version before {@link UpdateTaskResult.Error#CONCURRENT_MODIFICATION} is reported
+     */
+    public UpdateTaskService(TaskStore taskStore, UserStore userStore, int maxRetries) {
         Objects.requireNonNull(taskStore, "Task store cannot be null");
         this.taskStore = taskStore;
         Objects.requireNonNull(userStore, "User store cannot be null");
         this.userStore = userStore;
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Max retries cannot be negative");
+        }
+        this.maxRetries = maxRetries;
     }
 
     @Override
@@ -42,10 +57,8 @@ public class UpdateTaskService implements UpdateTaskUseCase {
             return UpdateTaskResult.Error.NO_FIELDS_PROVIDED;
         }
 
-        TaskId taskId;
-        try {
-            taskId = TaskId.of(command.taskId());
-        } catch (IllegalArgumentException e) {
+        TaskId taskId = TaskId.tryOf(command.taskId()).orElse(null);
+        if (taskId == null) {
             return UpdateTaskResult.Error.INVALID_TASK_ID_FORMAT;
         }
 
@@ -54,78 +67,73 @@ public class UpdateTaskService implements UpdateTaskUseCase {
             return UpdateTaskResult.Error.NON_EXISTING_TASK;
         }
 
-        TaskName taskName;
+        TaskPatch.Builder builder = TaskPatch.builder();
         if (command.name().isPresent()) {
-            try {
-                taskName = TaskName.of(command.name().get());
-            } catch (IllegalArgumentException e) {
+            TaskName taskName = TaskName.tryOf(command.name().get()).orElse(null);
+            if (taskName == null) {
                 return UpdateTaskResult.Error.INVALID_TASK_NAME_FORMAT;
             }
-        } else {
-            taskName = currentTask.getName();
+            builder.name(taskName);
         }
 
-        TaskDescription taskDescription;
         if (command.description().isPresent()) {
-            try {
-                taskDescription = TaskDescription.of(command.description().get());
-            } catch (IllegalArgumentException e) {
+            TaskDescription taskDescription = TaskDescription.tryOf(command.description().get()).orElse(null);
+            if (taskDescription == null) {
                 return UpdateTaskResult.Error.INVALID_TASK_DESCRIPTION_FORMAT;
             }
-        } else {
-            taskDescription = currentTask.getDescription();
+            builder.description(taskDescription);
         }
 
-        TaskPriority taskPriority;
         if (command.priority().isPresent()) {
-            try {
-                taskPriority = TaskPriority.valueOf(command.priority().get());
-            } catch (IllegalArgumentException e) {
+            TaskPriority taskPriority = TaskPriority.parse(command.priority().get()).orElse(null);
+            if (taskPriority == null) {
                 return UpdateTaskResult.Error.INVALID_TASK_PRIORITY_FORMAT;
             }
-        } else {
-            taskPriority = currentTask.getPriority();
+            builder.priority(taskPriority);
         }
 
-        TaskStatus taskStatus;
         if (command.status().isPresent()) {
-            try {
-                taskStatus = TaskStatus.valueOf(command.status().get());
-            } catch (IllegalArgumentException e) {
+            TaskStatus taskStatus = TaskStatus.parse(command.status().get()).orElse(null);
+            if (taskStatus == null) {
                 return UpdateTaskResult.Error.INVALID_TASK_STATUS_FORMAT;
             }
-        } else {
-            taskStatus = currentTask.getStatus();
+            builder.status(taskStatus);
         }
 
-        User user;
         if (command.username().isPresent()) {
-            Username username;
-            try {
-                username = Username.of(command.username().get());
-            } catch (IllegalArgumentException e) {
+            Username username = Username.tryOf(command.username().get()).orElse(null);
+            if (username == null) {
                 return UpdateTaskResult.Error.INVALID_USERNAME_FORMAT;
             }
-            user = userStore.findByUsername(username).orElse(null);
+            User user = userStore.findByUsername(username).orElse(null);
             if (user == null) {
                 return UpdateTaskResult.Error.NON_EXISTING_USER;
             }
-        } else {
-            user = currentTask.getAssignedUser();
+            builder.assignee(user);
         }
 
-        Task updatedTask = new Task(taskId, taskName, taskDescription, taskPriority, taskStatus, user);
-        taskStore.save(updatedTask);
-        return new UpdateTaskResult.Ok(taskId);
-
+        TaskPatch patch = builder.build();
+        // The patch does not depend on the current task, so a lost race only needs a fresh version
+        for (int attempt = 0; ; attempt++) {
+            if (taskStore.applyPatch(taskId, patch, currentTask.getVersion())) {
+                return new UpdateTaskResult.Ok(taskId);
+            }
+            if (attempt >= maxRetries) {
+                return UpdateTaskResult.Error.CONCURRENT_MODIFICATION;
+            }
+            currentTask = taskStore.findById(taskId).orElse(null);
+            if (currentTask == null) {
+                return UpdateTaskResult.Error.NON_EXISTING_TASK;
+            }
+        }
     }
 
     private void checkCommandForOptionalNull(UpdateTaskCommand command) {
-        List<Optional<String>> commands = List.of(command.name(), command.description(), command.priority(), command.status(), command.username());
-
-        for (Optional<String> comd : commands) {
-            Objects.requireNonNull(comd, "Command cannot be null");
-        }
+        Objects.requireNonNull(command.name(), "Command cannot be null");
+        Objects.requireNonNull(command.description(), "Command cannot be null");
+        Objects.requireNonNull(command.priority(), "Command cannot be null");
+        Objects.requireNonNull(command.status(), "Command cannot be null");
+        Objects.requireNonNull(command.username(), "Command cannot be null");
     }
 
 }
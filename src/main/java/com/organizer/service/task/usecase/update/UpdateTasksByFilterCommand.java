@@ -0,0 +1,12 @@
+package com.organizer.service.task.usecase.update;
+
+import java.util.Optional;
+
+/**
+ * Updates every task matching all present criteria; an empty criterion matches any task.
+ */
+public record UpdateTasksByFilterCommand(Optional<String> status,
+                                         Optional<String> priority,
+                                         Optional<String> username,
+                                         TaskChanges changes) implements BulkUpdateTasksCommand {
+}
@@ -0,0 +1,6 @@
+package com.organizer.service.task.usecase.update;
+
+import java.util.List;
+
+public record UpdateTasksByIdCommand(List<String> taskIds, TaskChanges changes) implements BulkUpdateTasksCommand {
+}
@@ -0,0 +1,239 @@
+package com.organizer.service.user.adapter;
+
+import com.organizer.common.collection.CountingBloomFilter;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
+import com.organizer.model.user.Username;
+import com.organizer.service.user.port.UserSnapshot;
+import com.organizer.service.user.port.UserStore;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * User store decorator that answers {@link #existsByUsername} and {@link #existsByEmail} from
+ * in-memory {@link CountingBloomFilter}s whenever they can rule a key out, so the usual signup
+ * check for a free username or email never reaches the backing store.
+ * <p>
+ * The filters are rebuilt from the backing store when the decorator is created. Writes go through
+ * the decorator, which adds a user's keys before saving and removes them only after the backing
+ * store dropped them, so "absent" answers are never wrong. The keys each user was added under are
+ * remembered per id, like {@code InMemoryUserStore} does for its indexes, so a user renamed in place
+ * through {@link User#changeUsername} still releases the keys it was added under. Writes to the same
+ * user are serialized by one of a fixed set of striped locks, so the keys being replaced are read
+ * consistently.
+ */
+public final class BloomFilterUserStore implements UserStore {
+
+    private static final int STRIPES = 64;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final UserStore delegate;
+    private final CountingBloomFilter usernames;
+    private final CountingBloomFilter emails;
+    private final Map<UserId, Keys> keysById;
+    private final Object[] locks;
+    private final LongAdder skipped;
+    private final LongAdder falsePositives;
+
+    /**
+     * @param expectedUsers the number of users the filters are sized for; the current content of
+     *                      {@code delegate} is used instead if it is larger
+     */
+    public BloomFilterUserStore(UserStore delegate, int expectedUsers) {
+        Objects.requireNonNull(delegate, "Delegate store cannot be null");
+        this.delegate = delegate;
+        List<User> existing = delegate.findAll();
+        int capacity = Math.max(expectedUsers, existing.size());
+        this.usernames = new CountingBloomFilter(capacity, FALSE_POSITIVE_RATE);
+        this.emails = new CountingBloomFilter(capacity, FALSE_POSITIVE_RATE);
+        this.keysById = new ConcurrentHashMap<>();
+        this.locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.skipped = new LongAdder();
+        this.falsePositives = new LongAdder();
+        for (User user : existing) {
+            Keys keys = Keys.of(user);
+            addKeys(keys);
+            keysById.put(user.getId(), keys);
+        }
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        if (email == null) {
+            return false;
+        }
+        return check(emails.mightContain(email.emailAddress()), () -> delegate.existsByEmail(email));
+    }
+
+    @Override
+    public boolean existsByUsername(Username username) {
+        if (username == null) {
+            return false;
+        }
+        return check(usernames.mightContain(username.username()), () -> delegate.existsByUsername(username));
+    }
+
+    private boolean check(boolean mightContain, BooleanSupplier lookup) {
+        if (!mightContain) {
+            skipped.increment();
+            return false;
+        }
+        boolean exists = lookup.getAsBoolean();
+        if (!exists) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    @Override
+    public void save(User user) {
+        Objects.requireNonNull(user, "user cannot be null");
+        synchronized (lockFor(user.getId())) {
+            Keys keys = Keys.of(user);
+            addKeys(keys);
+            try {
+                delegate.save(user);
+            } catch (RuntimeException e) {
+                removeKeys(keys);
+                throw e;
+            }
+            Keys previous = keysById.put(user.getId(), keys);
+            if (previous != null) {
+                removeKeys(previous);
+            }
+        }
+    }
+
+    @Override
+    public boolean saveIfVersion(User user, long expectedVersion) {
+        Objects.requireNonNull(user, "user cannot be null");
+        synchronized (lockFor(user.getId())) {
+            User current = delegate.findById(user.getId()).orElse(null);
+            if (current == null || current.getVersion() != expectedVersion) {
+                return false;
+            }
+            Keys keys = Keys.of(user);
+            addKeys(keys);
+            boolean saved;
+            try {
+                saved = delegate.saveIfVersion(user, expectedVersion);
+            } catch (RuntimeException e) {
+                removeKeys(keys);
+                throw e;
+            }
+            if (!saved) {
+                removeKeys(keys);
+                return false;
+            }
+            Keys previous = keysById.put(user.getId(), keys);
+            if (previous != null) {
+                removeKeys(previous);
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public void remove(User user) {
+        Objects.requireNonNull(user, "user cannot be null");
+        synchronized (lockFor(user.getId())) {
+            delegate.remove(user);
+            if (delegate.findById(user.getId()).isEmpty()) {
+                Keys previous = keysById.remove(user.getId());
+                if (previous != null) {
+                    removeKeys(previous);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Optional<User> findById(UserId userId) {
+        return delegate.findById(userId);
+    }
+
+    @Override
+    public Optional<User> findByUsername(Username username) {
+        return delegate.findByUsername(username);
+    }
+
+    @Override
+    public Optional<User> findByEmail(Email email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public UserSnapshot currentSnapshot() {
+        return delegate.currentSnapshot();
+    }
+
+    @Override
+    public Stream<User> stream() {
+        return delegate.stream();
+    }
+
+    /**
+     * @return counters of the existence checks answered so far
+     */
+    public Stats stats() {
+        return new Stats(skipped.sum(), falsePositives.sum(),
+                Math.max(usernames.expectedFalsePositiveRate(), emails.expectedFalsePositiveRate()));
+    }
+
+    private void addKeys(Keys keys) {
+        usernames.add(keys.username());
+        emails.add(keys.email());
+    }
+
+    private void removeKeys(Keys keys) {
+        usernames.remove(keys.username());
+        emails.remove(keys.email());
+    }
+
+    private Object lockFor(UserId userId) {
+        int h = userId.hashCode();
+        return locks[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * The keys a user was added to the filters under; users are mutable, so they are copied on write.
+     */
+    private record Keys(String username, String email) {
+
+        static Keys of(User user) {
+            return new Keys(user.getUsername().username(), user.getEmail().emailAddress());
+        }
+    }
+
+    /**
+     * @param skipped                   checks for absent keys answered by the filters alone
+     * @param falsePositives            checks for absent keys the filters let through to the backing store
+     * @param expectedFalsePositiveRate the rate implied by the current filter occupancy
+     */
+    public record Stats(long skipped, long falsePositives, double expectedFalsePositiveRate) {
+
+        /**
+         * @return the observed share of checks for absent keys that still reached the backing store
+         */
+        public double falsePositiveRate() {
+            long negatives = skipped + falsePositives;
+            return negatives == 0 ? 0 : (double) falsePositives / negatives;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.organizer.service.user.adapter;
+
+import com.organizer.common.collection.CacheStats;
+import com.organizer.common.collection.TinyLfuCache;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
+import com.organizer.model.user.Username;
+import com.organizer.service.user.port.UserSnapshot;
+import com.organizer.service.user.port.UserStore;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * User store decorator that serves lookups by id, username and email from {@link TinyLfuCache}s
+ * in front of a slower store. Users are cached once, by id; the username and email caches only
+ * map keys to ids, and a user found through them is returned only if it still carries the key
+ * it was looked up by. A write therefore only has to invalidate the user's id to keep all three
+ * lookups coherent, even when it renames the user or changes the email.
+ * <p>
+ * As in {@code CachingTaskStore}, hits take no lock, writes bump an epoch together with the
+ * invalidation, and a user loaded on a miss is only cached if no write happened while it was being loaded.
+ */
+public final class CachingUserStore implements UserStore {
+
+    private final UserStore delegate;
+    private final TinyLfuCache<UserId, User> users;
+    private final TinyLfuCache<Username, UserId> idsByUsername;
+    private final TinyLfuCache<Email, UserId> idsByEmail;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final Object epochLock;
+    private volatile long epoch;
+
+    /**
+     * @param maximumSize the number of users the cache holds at most
+     */
+    public CachingUserStore(UserStore delegate, int maximumSize) {
+        Objects.requireNonNull(delegate, "Delegate store cannot be null");
+        this.delegate = delegate;
+        this.users = new TinyLfuCache<>(maximumSize);
+        this.idsByUsername = new TinyLfuCache<>(maximumSize);
+        this.idsByEmail = new TinyLfuCache<>(maximumSize);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.epochLock = new Object();
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        if (email != null && cached(idsByEmail, email, User::getEmail) != null) {
+            return true;
+        }
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public boolean existsByUsername(Username username) {
+        if (username != null && cached(idsByUsername, username, User::getUsername) != null) {
+            return true;
+        }
+        return delegate.existsByUsername(username);
+    }
+
+    @Override
+    public Optional<User> findById(UserId userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return readThrough(() -> users.get(userId), () -> delegate.findById(userId));
+    }
+
+    @Override
+    public Optional<User> findByUsername(Username username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        return readThrough(() -> cached(idsByUsername, username, User::getUsername),
+                () -> delegate.findByUsername(username));
+    }
+
+    @Override
+    public Optional<User> findByEmail(Email email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return readThrough(() -> cached(idsByEmail, email, User::getEmail), () -> delegate.findByEmail(email));
+    }
+
+    /**
+     * @param cached looks the user up in the caches, returning {@code null} on a miss
+     */
+    private Optional<User> readThrough(Supplier<User> cached, Supplier<Optional<User>> load) {
+        User user = cached.get();
+        if (user != null) {
+            hits.increment();
+            return Optional.of(user);
+        }
+        long start = epoch;
+        misses.increment();
+        Optional<User> loaded = load.get();
+        loaded.ifPresent(found -> {
+            synchronized (epochLock) {
+                if (epoch == start) {
+                    users.put(found.getId(), found);
+                    idsByUsername.put(found.getUsername(), found.getId());
+                    idsByEmail.put(found.getEmail(), found.getId());
+                }
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * @param keyOf extracts the key from a user, to check the cached user still carries it
+     * @return the cached user {@code key} maps to, or {@code null}
+     */
+    private <K> User cached(TinyLfuCache<K, UserId> index, K key, Function<User, K> keyOf) {
+        UserId id = index.get(key);
+        User user = id == null ? null : users.get(id);
+        return user != null && keyOf.apply(user).equals(key) ? user : null;
+    }
+
+    @Override
+    public void save(User user) {
+        Objects.requireNonNull(user, "user cannot be null");
+        delegate.save(user);
+        invalidate(user.getId());
+    }
+
+    @Override
+    public boolean saveIfVersion(User user, long expectedVersion) {
+        Objects.requireNonNull(user, "user cannot be null");
+        boolean saved = delegate.saveIfVersion(user, expectedVersion);
+        if (saved) {
+            invalidate(user.getId());
+        }
+        return saved;
+    }
+
+    @Override
+    public void remove(User user) {
+        Objects.requireNonNull(user, "user cannot be null");
+        delegate.remove(user);
+        invalidate(user.getId());
+    }
+
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public UserSnapshot currentSnapshot() {
+        return delegate.currentSnapshot();
+    }
+
+    @Override
+    public Stream<User> stream() {
+        return delegate.stream();
+    }
+
+    /**
+     * @return hits and misses of the lookups by id, username and email, and evictions from all caches
+     */
+    public CacheStats stats() {
+        long evictions = users.stats().evictions()
+                + idsByUsername.stats().evictions()
+                + idsByEmail.stats().evictions();
+        return new CacheStats(hits.sum(), misses.sum(), evictions);
+    }
+
+    private void invalidate(UserId userId) {
+        synchronized (epochLock) {
+            epoch++;
+            users.invalidate(userId);
+        }
+    }
+}
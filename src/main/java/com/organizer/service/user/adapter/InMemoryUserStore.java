@@ -1,33 +1,41 @@
 package com.organizer.service.user.adapter;
 
+import com.organizer.common.collection.PersistentHashMap;
 import com.organizer.model.user.Email;
 import com.organizer.model.user.User;
 import com.organizer.model.user.UserId;
 import com.organizer.model.user.Username;
+import com.organizer.service.user.port.UserSnapshot;
 import com.organizer.service.user.port.UserStore;
 
 import java.util.*;
-
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe in-memory user store.
+ * The id, username and email indexes live in one immutable {@link Indexes} value that is replaced
+ * as a whole on every write, so readers never block and never observe a user in one index only.
+ * Writers are serialized, which keeps the username and email uniqueness checks linearizable.
+ */
 public final class InMemoryUserStore implements UserStore {
 
-    private final Map<Username, User> usersByUsername;
-    private final Map<Email, User> usersByEmail;
-    private final Map<UserId, User> usersById;
+    private final ReentrantLock writeLock;
+    private volatile Indexes indexes;
 
     public InMemoryUserStore() {
-        this.usersByUsername = new HashMap<>();
-        this.usersByEmail = new HashMap<>();
-        this.usersById = new HashMap<>();
+        this.writeLock = new ReentrantLock();
+        this.indexes = Indexes.EMPTY;
     }
 
     @Override
     public boolean existsByEmail(Email email) {
-        return usersByEmail.containsKey(email);
+        return indexes.usersByEmail().containsKey(email);
     }
 
     @Override
     public boolean existsByUsername(Username username) {
-        return usersByUsername.containsKey(username);
+        return indexes.usersByUsername().containsKey(username);
     }
 
     /**
@@ -36,64 +44,169 @@ public final class InMemoryUserStore implements UserStore {
      * If the username or email has changed, the old entries will be removed.
      *
      * @param user the user to save or update
+     * @throws IllegalArgumentException if the username or email belongs to another user
      */
 
     @Override
     public void save(User user) {
         Objects.requireNonNull(user, "user cannot be null");
 
-        User owner = usersByUsername.get(user.getUsername());
-        if (owner != null && !owner.getId().equals(user.getId())) {
-            throw new IllegalArgumentException("Username already exists: " + user.getUsername());
+        writeLock.lock();
+        try {
+            write(user);
+        } finally {
+            writeLock.unlock();
         }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the username or email belongs to another user
+     */
+    @Override
+    public boolean saveIfVersion(User user, long expectedVersion) {
+        Objects.requireNonNull(user, "user cannot be null");
+
+        writeLock.lock();
+        try {
+            Indexed current = indexes.usersById().get(user.getId());
+            if (current == null || current.user().getVersion() != expectedVersion) {
+                return false;
+            }
+            write(user);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Checks uniqueness and publishes the new indexes; the caller holds the write lock.
+     */
+    private void write(User user) {
+        Username username = user.getUsername();
+        Email email = user.getEmail();
+        Indexes current = indexes;
 
-        owner = usersByEmail.get(user.getEmail());
+        User owner = current.usersByUsername().get(username);
         if (owner != null && !owner.getId().equals(user.getId())) {
-            throw new IllegalArgumentException("Email already exists: " + user.getEmail());
+            throw new IllegalArgumentException("Username already exists: " + username);
         }
 
-        if (usersById.containsKey(user.getId())) {
-            User existingUser = usersById.get(user.getId());
-            if (existingUser.getUsername().equals(user.getUsername()) && existingUser.getEmail().equals(user.getEmail())) {
-                // No changes in username or email, just return
-                return;
-            } else {
-                usersByUsername.remove(existingUser.getUsername());
-                usersByEmail.remove(existingUser.getEmail());
-            }
+        owner = current.usersByEmail().get(email);
+        if (owner != null && !owner.getId().equals(user.getId())) {
+            throw new IllegalArgumentException("Email already exists: " + email);
         }
-        usersByUsername.put(user.getUsername(), user);
-        usersByEmail.put(user.getEmail(), user);
-        usersById.put(user.getId(), user);
+
+        indexes = current.without(user.getId()).with(new Indexed(user, username, email));
     }
 
     @Override
     public void remove(User user) {
         Objects.requireNonNull(user, "User cannot be null");
 
-        usersByUsername.remove(user.getUsername());
-        usersByEmail.remove(user.getEmail());
-        usersById.remove(user.getId());
+        writeLock.lock();
+        try {
+            indexes = indexes.without(user.getId());
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
     public Optional<User> findById(UserId userId) {
-        return Optional.ofNullable(usersById.get(userId));
+        Indexed indexed = indexes.usersById().get(userId);
+        return indexed == null ? Optional.empty() : Optional.of(indexed.user());
     }
 
     @Override
     public Optional<User> findByUsername(Username username) {
-        return Optional.ofNullable(usersByUsername.get(username));
+        return Optional.ofNullable(indexes.usersByUsername().get(username));
     }
 
     @Override
     public Optional<User> findByEmail(Email email) {
-        return Optional.ofNullable(usersByEmail.get(email));
+        return Optional.ofNullable(indexes.usersByEmail().get(email));
     }
 
     @Override
     public List<User> findAll() {
-        return List.copyOf(usersById.values());
+        return stream().toList();
+    }
+
+    /**
+     * Streams the users of the snapshot current at the time of the call;
+     * later writes are not visible to it.
+     */
+    @Override
+    public Stream<User> stream() {
+        return indexes.usersById().values().map(Indexed::user);
+    }
+
+    /**
+     * Hands out the current indexes in constant time, without copying or blocking writers.
+     */
+    @Override
+    public UserSnapshot currentSnapshot() {
+        return new Version(indexes);
+    }
+
+    /**
+     * The keys a user was indexed under, kept apart from the mutable {@link User}
+     * so a later rename of the same instance cannot leave stale index entries behind.
+     */
+    private record Indexed(User user, Username username, Email email) {
+    }
+
+    private record Indexes(PersistentHashMap<UserId, Indexed> usersById,
+                           PersistentHashMap<Username, User> usersByUsername,
+                           PersistentHashMap<Email, User> usersByEmail) {
+
+        static final Indexes EMPTY = new Indexes(PersistentHashMap.empty(), PersistentHashMap.empty(), PersistentHashMap.empty());
+
+        Indexes with(Indexed indexed) {
+            User user = indexed.user();
+            return new Indexes(usersById.put(user.getId(), indexed),
+                    usersByUsername.put(indexed.username(), user),
+                    usersByEmail.put(indexed.email(), user));
+        }
+
+        Indexes without(UserId userId) {
+            Indexed existing = usersById.get(userId);
+            if (existing == null) {
+                return this;
+            }
+            return new Indexes(usersById.remove(userId),
+                    usersByUsername.remove(existing.username()),
+                    usersByEmail.remove(existing.email()));
+        }
     }
 
+    private record Version(Indexes indexes) implements UserSnapshot {
+
+        @Override
+        public Optional<User> findById(UserId userId) {
+            Indexed indexed = userId == null ? null : indexes.usersById().get(userId);
+            return indexed == null ? Optional.empty() : Optional.of(indexed.user());
+        }
+
+        @Override
+        public Optional<User> findByUsername(Username username) {
+            return Optional.ofNullable(username == null ? null : indexes.usersByUsername().get(username));
+        }
+
+        @Override
+        public Optional<User> findByEmail(Email email) {
+            return Optional.ofNullable(email == null ? null : indexes.usersByEmail().get(email));
+        }
+
+        @Override
+        public int size() {
+            return indexes.usersById().size();
+        }
+
+        @Override
+        public Stream<User> stream() {
+            return indexes.usersById().values().map(Indexed::user);
+        }
+    }
 }
@@ -0,0 +1,18 @@
+package com.organizer.service.user.adapter;
+
+import com.organizer.common.id.TimeOrderedUuidGenerator;
+import com.organizer.model.user.UserId;
+import com.organizer.service.user.port.IdGenerator;
+
+/**
+ * Generates time-ordered user ids, which keep inserts into sorted and on-disk stores local.
+ */
+public final class UUIDv7Generator implements IdGenerator {
+
+    private final TimeOrderedUuidGenerator uuids = new TimeOrderedUuidGenerator();
+
+    @Override
+    public UserId generateId() {
+        return new UserId(uuids.next());
+    }
+}
@@ -0,0 +1,86 @@
+package com.organizer.service.user.adapter;
+
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
+import com.organizer.model.user.Username;
+
+import java.io.*;
+import java.util.UUID;
+
+/**
+ * Binary encoding of user mutations for durable user stores.
+ */
+final class UserRecordCodec {
+
+    private static final byte SAVE = 1;
+    private static final byte REMOVE = 2;
+
+    private UserRecordCodec() {
+    }
+
+    sealed interface Mutation {
+    }
+
+    record Saved(User user) implements Mutation {
+    }
+
+    record Removed(UserId userId) implements Mutation {
+    }
+
+    static byte[] encodeSave(User user) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(SAVE);
+            writeUser(out, user);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static byte[] encodeRemove(UserId userId) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(17);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(REMOVE);
+            writeUuid(out, userId.value());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Mutation decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte operation = in.readByte();
+            return switch (operation) {
+                case SAVE -> new Saved(readUser(in));
+                case REMOVE -> new Removed(new UserId(readUuid(in)));
+                default -> throw new IllegalArgumentException("Unknown user record operation: " + operation);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void writeUser(DataOutput out, User user) throws IOException {
+        writeUuid(out, user.getId().value());
+        out.writeUTF(user.getUsername().username());
+        out.writeUTF(user.getEmail().emailAddress());
+        out.writeLong(user.getVersion());
+    }
+
+    static User readUser(DataInput in) throws IOException {
+        UserId id = new UserId(readUuid(in));
+        return new User(id, Username.of(in.readUTF()), Email.of(in.readUTF()), in.readLong());
+    }
+
+    private static void writeUuid(DataOutput out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
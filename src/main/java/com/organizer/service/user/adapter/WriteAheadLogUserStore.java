@@ -0,0 +1,241 @@
+package com.organizer.service.user.adapter;
+
+import com.organizer.common.storage.Checkpointer;
+import com.organizer.common.storage.SnapshotStore;
+import com.organizer.common.storage.WriteAheadLog;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
+import com.organizer.model.user.Username;
+import com.organizer.service.user.port.UserSnapshot;
+import com.organizer.service.user.port.UserStore;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Durable user store backed by an {@link InMemoryUserStore}, a {@link WriteAheadLog} and a {@link SnapshotStore}.
+ * A write is applied in memory first, which validates username and email uniqueness, and is only
+ * logged if it was accepted. Writes return once their record is synced.
+ * A write is visible to readers as soon as it is applied, which is before its record is synced.
+ * If a sync fails, such a write would be gone after a restart, so the store fails permanently:
+ * the failing call and every later call throw, and reopening the store recovers what is durable.
+ * <p>
+ * Snapshots are exact: the in-memory store publishes immutable snapshots, so the one captured
+ * together with the log rotation matches the log position precisely.
+ */
+public final class WriteAheadLogUserStore implements UserStore, AutoCloseable {
+
+    private final InMemoryUserStore users;
+    private final SnapshotStore snapshots;
+    private final WriteAheadLog log;
+    private final ReentrantLock writeLock;
+    private final Checkpointer checkpointer;
+    private volatile RuntimeException failure;
+
+    /**
+     * Opens a store without periodic snapshots.
+     */
+    public WriteAheadLogUserStore(Path directory) {
+        this(directory, Optional.empty());
+    }
+
+    /**
+     * Opens a store that snapshots itself in the background every {@code snapshotInterval}.
+     */
+    public WriteAheadLogUserStore(Path directory, Duration snapshotInterval) {
+        this(directory, Optional.of(snapshotInterval));
+    }
+
+    private WriteAheadLogUserStore(Path directory, Optional<Duration> snapshotInterval) {
+        Objects.requireNonNull(directory, "Store directory cannot be null");
+        this.users = new InMemoryUserStore();
+        this.snapshots = new SnapshotStore(directory.resolve("snapshots"));
+        long fromSegment = snapshots.loadLatest(this::loadSnapshot);
+        this.log = WriteAheadLog.open(directory.resolve("wal"), fromSegment, this::replay);
+        this.writeLock = new ReentrantLock();
+        this.checkpointer = snapshotInterval
+                .map(interval -> new Checkpointer("user-store-snapshot", interval, this::snapshot))
+                .orElse(null);
+    }
+
+    private void loadSnapshot(DataInputStream in) throws IOException {
+        while (in.readBoolean()) {
+            users.save(UserRecordCodec.readUser(in));
+        }
+    }
+
+    private void replay(byte[] record) {
+        switch (UserRecordCodec.decode(record)) {
+            case UserRecordCodec.Saved saved -> users.save(saved.user());
+            case UserRecordCodec.Removed removed -> users.findById(removed.userId()).ifPresent(users::remove);
+        }
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        checkUsable();
+        return users.existsByEmail(email);
+    }
+
+    @Override
+    public boolean existsByUsername(Username username) {
+        checkUsable();
+        return users.existsByUsername(username);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the username or email belongs to another user
+     */
+    @Override
+    public void save(User user) {
+        checkUsable();
+        Objects.requireNonNull(user, "user cannot be null");
+        byte[] record = UserRecordCodec.encodeSave(user);
+        CompletableFuture<Void> durable;
+        writeLock.lock();
+        try {
+            users.save(user);
+            durable = log.append(record);
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(durable);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the username or email belongs to another user
+     */
+    @Override
+    public boolean saveIfVersion(User user, long expectedVersion) {
+        checkUsable();
+        Objects.requireNonNull(user, "user cannot be null");
+        byte[] record = UserRecordCodec.encodeSave(user);
+        CompletableFuture<Void> durable;
+        writeLock.lock();
+        try {
+            if (!users.saveIfVersion(user, expectedVersion)) {
+                return false;
+            }
+            durable = log.append(record);
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(durable);
+        return true;
+    }
+
+    @Override
+    public void remove(User user) {
+        checkUsable();
+        Objects.requireNonNull(user, "User cannot be null");
+        byte[] record = UserRecordCodec.encodeRemove(user.getId());
+        CompletableFuture<Void> durable;
+        writeLock.lock();
+        try {
+            users.remove(user);
+            durable = log.append(record);
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(durable);
+    }
+
+    /**
+     * Writes a snapshot of all users and truncates the log behind it.
+     */
+    public synchronized void snapshot() {
+        checkUsable();
+        CompletableFuture<Long> rotation;
+        UserSnapshot captured;
+        writeLock.lock();
+        try {
+            rotation = log.rotate();
+            captured = users.currentSnapshot();
+        } finally {
+            writeLock.unlock();
+        }
+        long segment = awaitDurable(rotation);
+        snapshots.write(segment, out -> {
+            Iterator<User> iterator = captured.stream().iterator();
+            while (iterator.hasNext()) {
+                out.writeBoolean(true);
+                UserRecordCodec.writeUser(out, iterator.next());
+            }
+            out.writeBoolean(false);
+        });
+        log.deleteSegmentsBefore(segment);
+    }
+
+    @Override
+    public Optional<User> findById(UserId userId) {
+        checkUsable();
+        return users.findById(userId);
+    }
+
+    @Override
+    public Optional<User> findByUsername(Username username) {
+        checkUsable();
+        return users.findByUsername(username);
+    }
+
+    @Override
+    public Optional<User> findByEmail(Email email) {
+        checkUsable();
+        return users.findByEmail(email);
+    }
+
+    @Override
+    public List<User> findAll() {
+        checkUsable();
+        return users.findAll();
+    }
+
+    @Override
+    public UserSnapshot currentSnapshot() {
+        checkUsable();
+        return users.currentSnapshot();
+    }
+
+    @Override
+    public Stream<User> stream() {
+        checkUsable();
+        return users.stream();
+    }
+
+    /**
+     * Waits for a log write and fails the store permanently if it did not become durable.
+     */
+    private <T> T awaitDurable(CompletableFuture<T> future) {
+        try {
+            return WriteAheadLog.await(future);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    private void checkUsable() {
+        RuntimeException cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("User store failed on a log write; reopen it to recover", cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (checkpointer != null) {
+            checkpointer.close();
+        }
+        log.close();
+    }
+}
@@ -0,0 +1,69 @@
+package com.organizer.service.user.port;
+
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
+import com.organizer.model.user.Username;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Immutable point-in-time view of a {@link UserStore}.
+ * Writes made after the snapshot was taken are not visible to it.
+ */
+public interface UserSnapshot {
+
+    Optional<User> findById(UserId userId);
+
+    Optional<User> findByUsername(Username username);
+
+    Optional<User> findByEmail(Email email);
+
+    int size();
+
+    Stream<User> stream();
+
+    default List<User> findAll() {
+        return stream().toList();
+    }
+
+    /**
+     * Builds a snapshot by copying {@code users}, for stores that cannot share their state.
+     */
+    static UserSnapshot copyOf(Collection<User> users) {
+        Objects.requireNonNull(users, "Users cannot be null");
+        return new Copied(List.copyOf(users));
+    }
+
+    record Copied(List<User> users) implements UserSnapshot {
+
+        @Override
+        public Optional<User> findById(UserId userId) {
+            return stream().filter(user -> user.getId().equals(userId)).findFirst();
+        }
+
+        @Override
+        public Optional<User> findByUsername(Username username) {
+            return stream().filter(user -> user.getUsername().equals(username)).findFirst();
+        }
+
+        @Override
+        public Optional<User> findByEmail(Email email) {
+            return stream().filter(user -> user.getEmail().equals(email)).findFirst();
+        }
+
+        @Override
+        public int size() {
+            return users.size();
+        }
+
+        @Override
+        public Stream<User> stream() {
+            return users.stream();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.organizer.model.user.Username;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserStore {
     boolean existsByEmail(Email email);
@@ -15,6 +16,15 @@ public interface UserStore {
 
     void save(User user);
 
+    /**
+     * Saves {@code user} only if the stored user with the same id is at {@code expectedVersion},
+     * atomically with respect to every other write. The saved user normally carries
+     * {@code expectedVersion + 1}.
+     *
+     * @return {@code false}, leaving the store unchanged, if the user is missing or was changed in between
+     */
+    boolean saveIfVersion(User user, long expectedVersion);
+
     void remove(User user);
 
     Optional<User> findById(UserId userId);
@@ -24,4 +34,20 @@ public interface UserStore {
     Optional<User> findByEmail(Email email);
 
     List<User> findAll();
+
+    /**
+     * Returns an immutable point-in-time view of all users.
+     * The default implementation copies {@link #findAll()}; multi-version stores override it
+     * to hand out their current version in constant time.
+     */
+    default UserSnapshot currentSnapshot() {
+        return UserSnapshot.copyOf(findAll());
+    }
+
+    /**
+     * Streams all users without copying the store first.
+     */
+    default Stream<User> stream() {
+        return findAll().stream();
+    }
 }
@@ -0,0 +1,87 @@
+package com.organizer.service.user.usecase;
+
+import com.organizer.common.concurrent.VirtualThreadExecutor;
+import com.organizer.service.user.port.IdGenerator;
+import com.organizer.service.user.port.UserStore;
+import com.organizer.service.user.usecase.create.CreateUserCommand;
+import com.organizer.service.user.usecase.create.CreateUserResult;
+import com.organizer.service.user.usecase.create.CreateUserService;
+import com.organizer.service.user.usecase.create.CreateUserUseCase;
+import com.organizer.service.user.usecase.delete.DeleteUserCommand;
+import com.organizer.service.user.usecase.delete.DeleteUserResult;
+import com.organizer.service.user.usecase.delete.DeleteUserService;
+import com.organizer.service.user.usecase.delete.DeleteUserUseCase;
+import com.organizer.service.user.usecase.read.ReadUserResult;
+import com.organizer.service.user.usecase.read.ReadUserService;
+import com.organizer.service.user.usecase.read.ReadUserUseCase;
+import com.organizer.service.user.usecase.read.command.ReadUserCommand;
+import com.organizer.service.user.usecase.update.UpdateUserCommand;
+import com.organizer.service.user.usecase.update.UpdateUserResult;
+import com.organizer.service.user.usecase.update.UpdateUserService;
+import com.organizer.service.user.usecase.update.UpdateUserUseCase;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking entry point to the user use cases.
+ * Every call runs the synchronous use case on its own virtual thread and returns at once.
+ */
+public final class AsyncUserUseCases implements AutoCloseable {
+
+    private final CreateUserUseCase createUser;
+    private final ReadUserUseCase readUser;
+    private final UpdateUserUseCase updateUser;
+    private final DeleteUserUseCase deleteUser;
+    private final VirtualThreadExecutor executor;
+
+    public AsyncUserUseCases(CreateUserUseCase createUser,
+                             ReadUserUseCase readUser,
+                             UpdateUserUseCase updateUser,
+                             DeleteUserUseCase deleteUser) {
+        Objects.requireNonNull(createUser, "Create user use case cannot be null");
+        this.createUser = createUser;
+        Objects.requireNonNull(readUser, "Read user use case cannot be null");
+        this.readUser = readUser;
+        Objects.requireNonNull(updateUser, "Update user use case cannot be null");
+        this.updateUser = updateUser;
+        Objects.requireNonNull(deleteUser, "Delete user use case cannot be null");
+        this.deleteUser = deleteUser;
+        this.executor = new VirtualThreadExecutor("user-use-case");
+    }
+
+    /**
+     * Wires the default services over the given store.
+     */
+    public static AsyncUserUseCases of(UserStore userStore, IdGenerator idGenerator) {
+        return new AsyncUserUseCases(
+                new CreateUserService(userStore, idGenerator),
+                new ReadUserService(userStore),
+                new UpdateUserService(userStore),
+                new DeleteUserService(userStore));
+    }
+
+    public CompletableFuture<CreateUserResult> createUser(CreateUserCommand command) {
+        return executor.supply(() -> createUser.handle(command));
+    }
+
+    public CompletableFuture<ReadUserResult> readUser(ReadUserCommand command) {
+        return executor.supply(() -> readUser.handle(command));
+    }
+
+    public CompletableFuture<UpdateUserResult> updateUser(UpdateUserCommand command) {
+        return executor.supply(() -> updateUser.handle(command));
+    }
+
+    public CompletableFuture<DeleteUserResult> deleteUser(DeleteUserCommand command) {
+        return executor.supply(() -> deleteUser.handle(command));
+    }
+
+    /**
+     * Stops accepting calls and waits for the ones in flight to finish.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -25,23 +25,19 @@ public class CreateUserService implements CreateUserUseCase {
             return CreateUserResult.Error.MISSING_COMMAND;
         }
 
-        Username username;
         if (command.username() == null) {
             return CreateUserResult.Error.MISSING_USERNAME;
         }
-        try {
-            username = Username.of(command.username());
-        } catch (IllegalArgumentException e) {
+        Username username = Username.tryOf(command.username()).orElse(null);
+        if (username == null) {
             return CreateUserResult.Error.INVALID_USERNAME_FORMAT;
         }
 
-        Email email;
         if (command.email() == null) {
             return CreateUserResult.Error.MISSING_EMAIL;
         }
-        try {
-            email = Email.of(command.email());
-        } catch (IllegalArgumentException e) {
+        Email email = Email.tryOf(command.email()).orElse(null);
+        if (email == null) {
             return CreateUserResult.Error.INVALID_EMAIL_FORMAT;
         }
 
@@ -56,7 +52,14 @@ public class CreateUserService implements CreateUserUseCase {
         UserId userId = idGenerator.generateId();
 
         User user = new User(userId, username, email);
-        userStore.save(user);
+        try {
+            userStore.save(user);
+        } catch (IllegalArgumentException e) {
+            // Another signup took the username or email after the checks above
+            return userStore.existsByUsername(username)
+                    ? CreateUserResult.Error.USERNAME_ALREADY_EXISTS
+                    : CreateUserResult.Error.EMAIL_ALREADY_EXISTS;
+        }
         return new CreateUserResult.Ok(userId);
     }
 }
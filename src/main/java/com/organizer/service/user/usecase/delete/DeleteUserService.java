@@ -24,10 +24,8 @@ public class DeleteUserService implements DeleteUserUseCase {
             return DeleteUserResult.Error.MISSING_USER_ID;
         }
 
-        UserId userId;
-        try {
-            userId = UserId.of(command.id());
-        } catch (IllegalArgumentException e) {
+        UserId userId = UserId.tryOf(command.id()).orElse(null);
+        if (userId == null) {
             return DeleteUserResult.Error.INVALID_USER_ID_FORMAT;
         }
 
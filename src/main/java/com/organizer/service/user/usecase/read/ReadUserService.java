@@ -37,10 +37,8 @@ public class ReadUserService implements ReadUserUseCase {
             return ReadUserResult.Error.MISSING_USER_ID;
         }
 
-        UserId userId;
-        try {
-            userId = UserId.of(id);
-        } catch (IllegalArgumentException e) {
+        UserId userId = UserId.tryOf(id).orElse(null);
+        if (userId == null) {
             return ReadUserResult.Error.INVALID_USER_ID_FORMAT;
         }
 
@@ -62,17 +60,13 @@ public class ReadUserService implements ReadUserUseCase {
             return ReadUserResult.Error.MISSING_EMAIL;
         }
 
-        Username usernameObj;
-        try {
-            usernameObj = Username.of(username);
-        } catch (IllegalArgumentException e) {
+        Username usernameObj = Username.tryOf(username).orElse(null);
+        if (usernameObj == null) {
             return ReadUserResult.Error.INVALID_USERNAME_FORMAT;
         }
 
-        Email emailObj;
-        try {
-            emailObj = Email.of(email);
-        } catch (IllegalArgumentException e) {
+        Email emailObj = Email.tryOf(email).orElse(null);
+        if (emailObj == null) {
             return ReadUserResult.Error.INVALID_EMAIL_FORMAT;
         }
 
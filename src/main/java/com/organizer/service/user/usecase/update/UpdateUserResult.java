@@ -16,6 +16,7 @@ public sealed interface UpdateUserResult {
         USERNAME_ALREADY_EXISTS,
         INVALID_USERNAME_FORMAT,
         EMAIL_ALREADY_EXISTS,
-        INVALID_EMAIL_FORMAT
+        INVALID_EMAIL_FORMAT,
+        CONCURRENT_MODIFICATION
     }
 }
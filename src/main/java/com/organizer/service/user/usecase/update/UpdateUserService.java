@@ -11,10 +11,27 @@ import java.util.Objects;
 public class UpdateUserService implements UpdateUserUseCase {
 
     private final UserStore userStore;
+    private final int maxRetries;
 
+    /**
+     * Creates a service that reports {@link UpdateUserResult.Error#CONCURRENT_MODIFICATION}
+     * as soon as another write to the same user gets in between its read and its save.
+     */
     public UpdateUserService(UserStore userStore) {
+        this(userStore, 0);
+    }
+
+    /**
+     * @param maxRetries how many times an update that lost a race is re-applied to the newer
+     *                   version before {@link UpdateUserResult.Error#CONCURRENT_MODIFICATION} is reported
+     */
+    public UpdateUserService(UserStore userStore, int maxRetries) {
         Objects.requireNonNull(userStore, "User Store cannot be null");
         this.userStore = userStore;
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Max retries cannot be negative");
+        }
+        this.maxRetries = maxRetries;
     }
 
     @Override
@@ -31,35 +48,43 @@ public class UpdateUserService implements UpdateUserUseCase {
             return UpdateUserResult.Error.MISSING_USER_ID;
         }
 
-        UserId userId;
-        try {
-            userId = UserId.of(command.userId());
-        } catch (IllegalArgumentException e) {
+        UserId userId = UserId.tryOf(command.userId()).orElse(null);
+        if (userId == null) {
             return UpdateUserResult.Error.INVALID_USER_ID_FORMAT;
         }
 
+        for (int attempt = 0; ; attempt++) {
+            UpdateUserResult result = tryUpdate(command, userId);
+            if (result != UpdateUserResult.Error.CONCURRENT_MODIFICATION || attempt >= maxRetries) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Applies the command to the current version of the user, saving only if it is still current.
+     */
+    private UpdateUserResult tryUpdate(UpdateUserCommand command, UserId userId) {
         User existingUser = userStore.findById(userId).orElse(null);
 
         if (existingUser == null) {
             return UpdateUserResult.Error.USER_NOT_FOUND;
         }
 
-        Username username;
-        try {
-            username = command.username()
-                    .map(Username::of)
-                    .orElse(existingUser.getUsername());
-        } catch (IllegalArgumentException e) {
-            return UpdateUserResult.Error.INVALID_USERNAME_FORMAT;
+        Username username = existingUser.getUsername();
+        if (command.username().isPresent()) {
+            username = Username.tryOf(command.username().get()).orElse(null);
+            if (username == null) {
+                return UpdateUserResult.Error.INVALID_USERNAME_FORMAT;
+            }
         }
 
-        Email email;
-        try {
-            email = command.email()
-                    .map(Email::of)
-                    .orElse(existingUser.getEmail());
-        } catch (IllegalArgumentException e) {
-            return UpdateUserResult.Error.INVALID_EMAIL_FORMAT;
+        Email email = existingUser.getEmail();
+        if (command.email().isPresent()) {
+            email = Email.tryOf(command.email().get()).orElse(null);
+            if (email == null) {
+                return UpdateUserResult.Error.INVALID_EMAIL_FORMAT;
+            }
         }
 
         if (username.equals(existingUser.getUsername()) &&
@@ -76,8 +101,23 @@ public class UpdateUserService implements UpdateUserUseCase {
             return UpdateUserResult.Error.EMAIL_ALREADY_EXISTS;
         }
 
-        User user = new User(userId, username, email);
-        userStore.save(user);
+        User user = new User(userId, username, email, existingUser.getVersion() + 1);
+        try {
+            if (!userStore.saveIfVersion(user, existingUser.getVersion())) {
+                return UpdateUserResult.Error.CONCURRENT_MODIFICATION;
+            }
+        } catch (IllegalArgumentException e) {
+            // Another user took the username or email after the checks above
+            return takenByOther(username, userId)
+                    ? UpdateUserResult.Error.USERNAME_ALREADY_EXISTS
+                    : UpdateUserResult.Error.EMAIL_ALREADY_EXISTS;
+        }
         return new UpdateUserResult.Ok(userId);
     }
+
+    private boolean takenByOther(Username username, UserId userId) {
+        return userStore.findByUsername(username)
+                .filter(owner -> !owner.getId().equals(userId))
+                .isPresent();
+    }
 }
@@ -0,0 +1,73 @@
+package common.collection;
+
+import com.organizer.common.collection.CountingBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CountingBloomFilter Tests")
+class CountingBloomFilterTest {
+
+    @Nested
+    @DisplayName("Membership Tests")
+    class MembershipTests {
+
+        @Test
+        @DisplayName("should never report an added key as absent")
+        void shouldHaveNoFalseNegatives() {
+            CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+            for (int i = 0; i < 10_000; i++) {
+                filter.add("key" + i);
+            }
+            for (int i = 0; i < 10_000; i++) {
+                assertTrue(filter.mightContain("key" + i), "key" + i);
+            }
+        }
+
+        @Test
+        @DisplayName("should stay near the target false-positive rate")
+        void shouldStayNearTargetRate() {
+            CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+            for (int i = 0; i < 10_000; i++) {
+                filter.add("key" + i);
+            }
+            int falsePositives = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (filter.mightContain("other" + i)) {
+                    falsePositives++;
+                }
+            }
+            assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+            assertTrue(filter.expectedFalsePositiveRate() < 0.03);
+        }
+
+        @Test
+        @DisplayName("should forget removed keys but keep keys added twice")
+        void shouldSupportRemoval() {
+            CountingBloomFilter filter = new CountingBloomFilter(100, 0.01);
+            filter.add("alice");
+            filter.add("bobby");
+            filter.add("bobby");
+
+            filter.remove("alice");
+            filter.remove("bobby");
+
+            assertFalse(filter.mightContain("alice"));
+            assertTrue(filter.mightContain("bobby"));
+            filter.remove("bobby");
+            assertFalse(filter.mightContain("bobby"));
+            assertEquals(0.0, filter.expectedFalsePositiveRate());
+        }
+
+        @Test
+        @DisplayName("should reject invalid sizing")
+        void shouldRejectInvalidSizing() {
+            assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(-1, 0.01));
+            assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(10, 0));
+            assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(10, 1));
+            assertThrows(NullPointerException.class, () -> new CountingBloomFilter(10, 0.01).add(null));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package common.collection;
+
+import com.organizer.common.collection.PersistentHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PersistentHashMap Tests")
+class PersistentHashMapTest {
+
+    /**
+     * Key with a controllable hash code, used to force full hash collisions.
+     */
+    private record CollidingKey(String name, int hash) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @Nested
+    @DisplayName("Basic Operations")
+    class BasicOperationsTests {
+
+        @Test
+        @DisplayName("should put and get values")
+        void shouldPutAndGet() {
+            PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+                    .put("a", 1)
+                    .put("b", 2);
+
+            assertEquals(2, map.size());
+            assertEquals(1, map.get("a"));
+            assertEquals(2, map.get("b"));
+            assertNull(map.get("c"));
+            assertTrue(map.containsKey("a"));
+            assertFalse(map.containsKey("c"));
+        }
+
+        @Test
+        @DisplayName("should replace value without changing size")
+        void shouldReplaceValue() {
+            PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+                    .put("a", 1)
+                    .put("a", 2);
+
+            assertEquals(1, map.size());
+            assertEquals(2, map.get("a"));
+        }
+
+        @Test
+        @DisplayName("should return same instance when removing absent key")
+        void shouldReturnSameInstanceWhenRemovingAbsentKey() {
+            PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().put("a", 1);
+            assertSame(map, map.remove("b"));
+            assertSame(map, map.remove(null));
+        }
+
+        @Test
+        @DisplayName("should reject null keys and values")
+        void shouldRejectNulls() {
+            PersistentHashMap<String, Integer> map = PersistentHashMap.empty();
+            assertThrows(NullPointerException.class, () -> map.put(null, 1));
+            assertThrows(NullPointerException.class, () -> map.put("a", null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence")
+    class PersistenceTests {
+
+        @Test
+        @DisplayName("should leave previous versions untouched")
+        void shouldLeavePreviousVersionsUntouched() {
+            PersistentHashMap<String, Integer> v1 = PersistentHashMap.<String, Integer>empty().put("a", 1);
+            PersistentHashMap<String, Integer> v2 = v1.put("b", 2);
+            PersistentHashMap<String, Integer> v3 = v2.remove("a");
+
+            assertEquals(1, v1.size());
+            assertNull(v1.get("b"));
+            assertEquals(2, v2.size());
+            assertEquals(1, v2.get("a"));
+            assertEquals(1, v3.size());
+            assertNull(v3.get("a"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Collisions")
+    class CollisionTests {
+
+        @Test
+        @DisplayName("should keep keys with identical hash codes apart")
+        void shouldHandleFullHashCollisions() {
+            CollidingKey a = new CollidingKey("a", 42);
+            CollidingKey b = new CollidingKey("b", 42);
+            CollidingKey c = new CollidingKey("c", 42 + (1 << 20));
+
+            PersistentHashMap<CollidingKey, String> map = PersistentHashMap.<CollidingKey, String>empty()
+                    .put(a, "A")
+                    .put(b, "B")
+                    .put(c, "C");
+
+            assertEquals(3, map.size());
+            assertEquals("A", map.get(a));
+            assertEquals("B", map.get(b));
+            assertEquals("C", map.get(c));
+
+            PersistentHashMap<CollidingKey, String> removed = map.remove(a);
+            assertEquals(2, removed.size());
+            assertNull(removed.get(a));
+            assertEquals("B", removed.get(b));
+            assertEquals("C", removed.get(c));
+        }
+    }
+
+    @Nested
+    @DisplayName("Model Check")
+    class ModelCheckTests {
+
+        @Test
+        @DisplayName("should behave like HashMap under random operations")
+        void shouldMatchHashMapUnderRandomOperations() {
+            Random random = new Random(7);
+            Map<Integer, Integer> expected = new HashMap<>();
+            PersistentHashMap<Integer, Integer> actual = PersistentHashMap.empty();
+
+            for (int i = 0; i < 100_000; i++) {
+                int key = random.nextInt(5_000);
+                if (random.nextInt(3) == 0) {
+                    expected.remove(key);
+                    actual = actual.remove(key);
+                } else {
+                    expected.put(key, i);
+                    actual = actual.put(key, i);
+                }
+            }
+
+            assertEquals(expected.size(), actual.size());
+            Map<Integer, Integer> iterated = new HashMap<>();
+            actual.forEach(iterated::put);
+            assertEquals(expected, iterated);
+
+            Map<Integer, Integer> streamed = new HashMap<>();
+            actual.entries().forEach(e -> streamed.put(e.getKey(), e.getValue()));
+            assertEquals(expected, streamed);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package common.collection;
+
+import com.organizer.common.collection.CacheStats;
+import com.organizer.common.collection.TinyLfuCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TinyLfuCache Tests")
+class TinyLfuCacheTest {
+
+    @Nested
+    @DisplayName("Basic Operation Tests")
+    class BasicOperationTests {
+
+        @Test
+        @DisplayName("should return cached values and count hits and misses")
+        void shouldCountHitsAndMisses() {
+            TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(10);
+            assertNull(cache.get("a"));
+            cache.put("a", 1);
+            assertEquals(1, cache.get("a"));
+            cache.put("a", 2);
+            assertEquals(2, cache.get("a"));
+
+            assertEquals(new CacheStats(2, 1, 0), cache.stats());
+            assertEquals(2.0 / 3, cache.stats().hitRate());
+        }
+
+        @Test
+        @DisplayName("should forget invalidated entries")
+        void shouldInvalidate() {
+            TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(10);
+            cache.put("a", 1);
+            cache.put("b", 2);
+            cache.invalidate("a");
+            cache.invalidate("missing");
+            assertNull(cache.get("a"));
+            assertEquals(2, cache.get("b"));
+            cache.invalidateAll();
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("should reject a non-positive size and null keys or values")
+        void shouldRejectInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<String, Integer>(0));
+            TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(1);
+            assertThrows(NullPointerException.class, () -> cache.put(null, 1));
+            assertThrows(NullPointerException.class, () -> cache.put("a", null));
+            assertThrows(NullPointerException.class, () -> cache.get(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction Tests")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("should never hold more than its maximum size")
+        void shouldStayBounded() {
+            TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100);
+            for (int i = 0; i < 10_000; i++) {
+                cache.put(i, i);
+                assertTrue(cache.size() <= 100);
+            }
+            assertEquals(100, cache.size());
+            assertEquals(9_900, cache.stats().evictions());
+        }
+
+        @Test
+        @DisplayName("should keep frequently read entries through a scan of one-off keys")
+        void shouldResistScans() {
+            TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100);
+            for (int round = 0; round < 5; round++) {
+                for (int hot = 0; hot < 50; hot++) {
+                    if (cache.get(hot) == null) {
+                        cache.put(hot, hot);
+                    }
+                }
+            }
+            for (int cold = 1_000; cold < 11_000; cold++) {
+                cache.get(cold);
+                cache.put(cold, cold);
+            }
+
+            int retained = 0;
+            for (int hot = 0; hot < 50; hot++) {
+                if (cache.get(hot) != null) {
+                    retained++;
+                }
+            }
+            assertTrue(retained >= 45, "Hot entries retained: " + retained);
+        }
+
+        @Test
+        @DisplayName("should work with a single entry")
+        void shouldWorkWithSingleEntry() {
+            TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(1);
+            cache.put("a", 1);
+            cache.put("b", 2);
+            assertEquals(1, cache.size());
+            assertEquals(1, cache.stats().evictions());
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("should serve concurrent hits while entries are added and evicted")
+        void shouldServeConcurrentHits() throws Exception {
+            TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(200);
+            for (int key = 0; key < 100; key++) {
+                cache.put(key, key);
+            }
+            int readers = 4;
+            int reads = 50_000;
+            ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+            try {
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int t = 0; t < readers; t++) {
+                    futures.add(executor.submit(() -> {
+                        int found = 0;
+                        for (int i = 0; i < reads; i++) {
+                            int key = i % 100;
+                            Integer value = cache.get(key);
+                            if (value != null) {
+                                assertEquals(key, value);
+                                found++;
+                            }
+                        }
+                        return found;
+                    }));
+                }
+                Future<?> writer = executor.submit(() -> {
+                    for (int key = 1_000; key < 21_000; key++) {
+                        cache.put(key, key);
+                    }
+                });
+
+                writer.get(60, TimeUnit.SECONDS);
+                long found = 0;
+                for (Future<Integer> future : futures) {
+                    found += future.get(60, TimeUnit.SECONDS);
+                }
+                CacheStats stats = cache.stats();
+                assertEquals((long) readers * reads, stats.hits() + stats.misses());
+                assertEquals(found, stats.hits());
+                assertTrue(found > 0);
+                assertTrue(cache.size() <= 200);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
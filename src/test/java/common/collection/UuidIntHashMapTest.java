@@ -0,0 +1,154 @@
+package common.collection;
+
+import com.organizer.common.collection.UuidIntHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidIntHashMap Tests")
+class UuidIntHashMapTest {
+
+    /**
+     * Upper bound on retained heap per entry: 20 bytes per slot at the lowest load the map allows.
+     */
+    private static final double MAX_BYTES_PER_ENTRY = 20 / 0.35;
+
+    private static UuidIntHashMap filled(int entries) {
+        UuidIntHashMap map = new UuidIntHashMap();
+        for (int i = 0; i < entries; i++) {
+            map.put(i, ~i, i);
+        }
+        return map;
+    }
+
+    /**
+     * Measures the heap retained by what {@code build} returns, as the difference in used heap
+     * after full collections before and after building it.
+     */
+    private static long retainedBytes(Supplier<Object> build) {
+        long before = usedHeapAfterGc();
+        Object built = build.get();
+        long after = usedHeapAfterGc();
+        Reference.reachabilityFence(built);
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void assertFootprint(int entries) {
+        UuidIntHashMap check = filled(entries);
+        assertEquals(entries, check.size());
+        for (int i = 0; i < entries; i++) {
+            assertEquals(i, check.get(i, ~i));
+        }
+        check = null;
+
+        double bytesPerEntry = (double) retainedBytes(() -> filled(entries)) / entries;
+        assertTrue(bytesPerEntry <= MAX_BYTES_PER_ENTRY, "Retained bytes per entry: " + bytesPerEntry);
+    }
+
+    @Nested
+    @DisplayName("Basic Operations")
+    class BasicOperationsTests {
+
+        @Test
+        @DisplayName("should put, replace, get and remove values")
+        void shouldPutGetAndRemove() {
+            UuidIntHashMap map = new UuidIntHashMap();
+            UUID key = UUID.randomUUID();
+
+            assertEquals(UuidIntHashMap.NO_VALUE, map.put(key, 1));
+            assertEquals(1, map.put(key, 2));
+            assertEquals(2, map.get(key));
+            assertTrue(map.containsKey(key));
+            assertEquals(2, map.remove(key));
+            assertEquals(UuidIntHashMap.NO_VALUE, map.get(key));
+            assertTrue(map.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should reject negative values")
+        void shouldRejectNegativeValues() {
+            UuidIntHashMap map = new UuidIntHashMap();
+            assertThrows(IllegalArgumentException.class, () -> map.put(UUID.randomUUID(), -1));
+        }
+
+        @Test
+        @DisplayName("should agree with HashMap under random puts and removes")
+        void shouldAgreeWithHashMap() {
+            Random random = new Random(7);
+            UuidIntHashMap map = new UuidIntHashMap();
+            Map<UUID, Integer> reference = new HashMap<>();
+            for (int i = 0; i < 200_000; i++) {
+                // A small key space forces long probe runs and many backward shifts
+                UUID key = new UUID(random.nextInt(64), random.nextInt(512));
+                if (random.nextInt(3) == 0) {
+                    Integer expected = reference.remove(key);
+                    assertEquals(expected == null ? UuidIntHashMap.NO_VALUE : expected, map.remove(key));
+                } else {
+                    int value = random.nextInt(1_000);
+                    Integer expected = reference.put(key, value);
+                    assertEquals(expected == null ? UuidIntHashMap.NO_VALUE : expected, map.put(key, value));
+                }
+            }
+            assertEquals(reference.size(), map.size());
+            reference.forEach((key, value) -> assertEquals(value, map.get(key)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Footprint Tests")
+    class FootprintTests {
+
+        @Test
+        @DisplayName("should hold 1M entries within the footprint bound")
+        void shouldHoldOneMillionEntries() {
+            assertFootprint(1_000_000);
+        }
+
+        @Test
+        @DisplayName("should retain less than half the heap of a HashMap with boxed keys and values")
+        void shouldRetainLessThanHashMap() {
+            int entries = 1_000_000;
+            long flat = retainedBytes(() -> filled(entries));
+            long boxed = retainedBytes(() -> {
+                Map<UUID, Integer> map = new HashMap<>();
+                for (int i = 0; i < entries; i++) {
+                    map.put(new UUID(i, ~i), i);
+                }
+                return map;
+            });
+
+            assertTrue(flat * 2 < boxed, "UuidIntHashMap retained " + flat + " bytes, HashMap " + boxed);
+        }
+
+        @Test
+        @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+        @DisplayName("should hold 10M entries within the footprint bound")
+        void shouldHoldTenMillionEntries() {
+            assertFootprint(10_000_000);
+        }
+
+        @Test
+        @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+        @DisplayName("should hold 50M entries within the footprint bound")
+        void shouldHoldFiftyMillionEntries() {
+            assertFootprint(50_000_000);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package common.concurrent;
+
+import com.organizer.common.concurrent.RingBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RingBuffer Tests")
+class RingBufferTest {
+
+    @Nested
+    @DisplayName("Single Thread Tests")
+    class SingleThreadTests {
+
+        @Test
+        @DisplayName("should reject a capacity that is not a power of two")
+        void shouldRejectInvalidCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(0));
+            assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(12));
+        }
+
+        @Test
+        @DisplayName("should return items in offer order and refuse when full")
+        void shouldBeFifoAndBounded() {
+            RingBuffer<Integer> buffer = new RingBuffer<>(4);
+            for (int i = 0; i < 4; i++) {
+                assertTrue(buffer.offer(i));
+            }
+            assertFalse(buffer.offer(4), "A full buffer should refuse offers");
+
+            assertEquals(0, buffer.poll());
+            assertTrue(buffer.offer(4));
+            for (int i = 1; i <= 4; i++) {
+                assertEquals(i, buffer.poll());
+            }
+            assertNull(buffer.poll());
+            assertTrue(buffer.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should drain at most the requested number of items")
+        void shouldDrainUpToMax() {
+            RingBuffer<Integer> buffer = new RingBuffer<>(8);
+            for (int lap = 0; lap < 10; lap++) {
+                for (int i = 0; i < 6; i++) {
+                    buffer.offer(i);
+                }
+                List<Integer> drained = new ArrayList<>();
+                assertEquals(4, buffer.drainTo(drained::add, 4));
+                assertEquals(2, buffer.drainTo(drained::add, 4));
+                assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+            }
+        }
+
+        @Test
+        @DisplayName("should reject null items")
+        void shouldRejectNull() {
+            assertThrows(NullPointerException.class, () -> new RingBuffer<>(2).offer(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("should deliver every item exactly once and keep each producer's order")
+        void shouldDeliverAllItemsInProducerOrder() throws Exception {
+            int producers = 4;
+            int perProducer = 100_000;
+            RingBuffer<long[]> buffer = new RingBuffer<>(1 << 10);
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int p = 0; p < producers; p++) {
+                    int producer = p;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < perProducer; i++) {
+                            long[] item = {producer, i};
+                            while (!buffer.offer(item)) {
+                                Thread.yield();
+                            }
+                        }
+                    }));
+                }
+
+                long[] next = new long[producers];
+                int received = 0;
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+                while (received < producers * perProducer) {
+                    long[] item = buffer.poll();
+                    if (item == null) {
+                        assertTrue(System.nanoTime() < deadline, "Consumer timed out");
+                        Thread.yield();
+                        continue;
+                    }
+                    assertEquals(next[(int) item[0]]++, item[1], "Items of one producer should stay in order");
+                    received++;
+                }
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+                assertTrue(buffer.isEmpty());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
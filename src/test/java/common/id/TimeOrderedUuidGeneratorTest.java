@@ -0,0 +1,198 @@
+package common.id;
+
+import com.organizer.common.id.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimeOrderedUuidGenerator Tests")
+class TimeOrderedUuidGeneratorTest {
+
+    @Nested
+    @DisplayName("Layout Tests")
+    class LayoutTests {
+
+        @Test
+        @DisplayName("should produce version 7 UUIDs with the RFC variant")
+        void shouldSetVersionAndVariant() {
+            UUID uuid = new TimeOrderedUuidGenerator().next();
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+        }
+
+        @Test
+        @DisplayName("should put the clock time in the first 48 bits")
+        void shouldEmbedTimestamp() {
+            long millis = 1_700_000_000_000L;
+            UUID uuid = new TimeOrderedUuidGenerator(() -> millis).next();
+            assertEquals(millis, uuid.getMostSignificantBits() >>> 16);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ordering Tests")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("should stay increasing within one millisecond beyond the counter range")
+        void shouldStayIncreasingWhenCounterRunsOut() {
+            TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(() -> 1_000L);
+            UUID previous = generator.next();
+            for (int i = 0; i < 20_000; i++) {
+                UUID next = generator.next();
+                assertTrue(next.compareTo(previous) > 0, "Ids should be strictly increasing");
+                previous = next;
+            }
+        }
+
+        @Test
+        @DisplayName("should stay increasing when the clock steps back")
+        void shouldStayIncreasingWhenClockStepsBack() {
+            AtomicLong clock = new AtomicLong(5_000L);
+            TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+            UUID before = generator.next();
+            clock.set(4_000L);
+            UUID after = generator.next();
+            assertTrue(after.compareTo(before) > 0);
+        }
+
+        @Test
+        @DisplayName("should follow the clock across milliseconds")
+        void shouldFollowClock() {
+            AtomicLong clock = new AtomicLong(1_000L);
+            TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                clock.addAndGet(i % 3);
+                ids.add(generator.next());
+            }
+            List<UUID> sorted = new ArrayList<>(ids);
+            Collections.sort(sorted);
+            assertEquals(ids, sorted);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("should generate unique ids across threads")
+        void shouldGenerateUniqueIdsAcrossThreads() throws Exception {
+            TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+            int threads = 8;
+            int perThread = 50_000;
+            Set<UUID> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        UUID previous = null;
+                        for (int i = 0; i < perThread; i++) {
+                            UUID next = generator.next();
+                            assertTrue(previous == null || next.compareTo(previous) > 0);
+                            ids.add(next);
+                            previous = next;
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(threads * perThread, ids.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cost Tests")
+    class CostTests {
+
+        private static final int THREADS = 4;
+        private static final int PER_THREAD = 50_000;
+
+        @Test
+        @DisplayName("should append to a sorted index where random ids scatter")
+        void shouldAppendToSortedIndex() {
+            TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+
+            double ordered = tailInsertFraction(generator::next);
+            double random = tailInsertFraction(UUID::randomUUID);
+
+            assertEquals(1.0, ordered, "Every time-ordered id should land after the last one");
+            assertTrue(random < 0.01, "Random ids landed at the tail " + random + " of the time");
+        }
+
+        @Test
+        @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+        @DisplayName("should generate ids on many threads faster than UUID.randomUUID")
+        void shouldOutrunRandomUuid() throws Exception {
+            TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+
+            long ordered = bestNanos(generator::next);
+            long random = bestNanos(UUID::randomUUID);
+
+            assertTrue(ordered < random, "time-ordered: " + ordered + " ns, random: " + random + " ns");
+        }
+
+        /**
+         * @return the fraction of ids that sort after every id inserted before them
+         */
+        private static double tailInsertFraction(Supplier<UUID> ids) {
+            TreeSet<UUID> index = new TreeSet<>();
+            int atTail = 0;
+            for (int i = 0; i < PER_THREAD; i++) {
+                UUID id = ids.get();
+                if (index.isEmpty() || id.compareTo(index.last()) > 0) {
+                    atTail++;
+                }
+                index.add(id);
+            }
+            return (double) atTail / PER_THREAD;
+        }
+
+        private static long bestNanos(Supplier<UUID> ids) throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < 15; run++) {
+                    CountDownLatch start = new CountDownLatch(1);
+                    List<Future<Long>> futures = new ArrayList<>();
+                    for (int t = 0; t < THREADS; t++) {
+                        futures.add(executor.submit(() -> {
+                            start.await();
+                            long sink = 0;
+                            for (int i = 0; i < PER_THREAD; i++) {
+                                sink += ids.get().getLeastSignificantBits();
+                            }
+                            return sink;
+                        }));
+                    }
+                    long begin = System.nanoTime();
+                    start.countDown();
+                    for (Future<Long> future : futures) {
+                        future.get(30, TimeUnit.SECONDS);
+                    }
+                    long elapsed = System.nanoTime() - begin;
+                    if (run >= 5) {
+                        best = Math.min(best, elapsed);
+                    }
+                }
+                return best;
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package common.storage;
+
+import com.organizer.common.storage.WriteAheadLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WriteAheadLog Tests")
+class WriteAheadLogTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static WriteAheadLog open(Path directory) {
+        return WriteAheadLog.open(directory, 0, record -> {
+        });
+    }
+
+    private static List<String> reopen(Path directory, long fromSegment) {
+        List<String> replayed = new ArrayList<>();
+        WriteAheadLog.open(directory, fromSegment, record -> replayed.add(new String(record, StandardCharsets.UTF_8))).close();
+        return replayed;
+    }
+
+    private static Path segment(Path directory, long segment) {
+        return directory.resolve(String.format("%020d.log", segment));
+    }
+
+    private static long segmentCount(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("should replay records in append order")
+        void shouldReplayInOrder() {
+            try (WriteAheadLog log = WriteAheadLog.open(dir, 0, record -> fail("New log should be empty"))) {
+                log.appendAndSync(bytes("a"));
+                log.appendAndSync(bytes("b"));
+                log.appendAndSync(bytes("c"));
+            }
+            assertEquals(List.of("a", "b", "c"), reopen(dir, 0));
+        }
+
+        @Test
+        @DisplayName("should cut off a torn tail and keep appending after it")
+        void shouldCutOffTornTail() throws IOException {
+            try (WriteAheadLog log = open(dir)) {
+                log.appendAndSync(bytes("kept"));
+            }
+            Files.write(segment(dir, 0), new byte[]{0, 0, 0, 9, 1, 2}, StandardOpenOption.APPEND);
+
+            try (WriteAheadLog log = open(dir)) {
+                log.appendAndSync(bytes("after"));
+            }
+            assertEquals(List.of("kept", "after"), reopen(dir, 0));
+        }
+
+        @Test
+        @DisplayName("should treat a zero-filled tail as the end of the log")
+        void shouldCutOffZeroFilledTail() throws IOException {
+            try (WriteAheadLog log = open(dir)) {
+                log.appendAndSync(bytes("kept"));
+            }
+            Files.write(segment(dir, 0), new byte[4096], StandardOpenOption.APPEND);
+
+            try (WriteAheadLog log = open(dir)) {
+                log.appendAndSync(bytes("after"));
+            }
+            assertEquals(List.of("kept", "after"), reopen(dir, 0));
+        }
+
+        @Test
+        @DisplayName("should reject empty records")
+        void shouldRejectEmptyRecord() {
+            try (WriteAheadLog log = open(dir)) {
+                assertThrows(IllegalArgumentException.class, () -> log.append(new byte[0]));
+            }
+        }
+
+        @Test
+        @DisplayName("should stop replay at a corrupted record")
+        void shouldStopAtCorruptedRecord() throws IOException {
+            try (WriteAheadLog log = open(dir)) {
+                log.appendAndSync(bytes("first"));
+                log.appendAndSync(bytes("second"));
+            }
+            Path file = segment(dir, 0);
+            byte[] content = Files.readAllBytes(file);
+            content[content.length - 1] ^= 0x7F;
+            Files.write(file, content);
+
+            assertEquals(List.of("first"), reopen(dir, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Segment Tests")
+    class SegmentTests {
+
+        @Test
+        @DisplayName("should replay across rotated segments")
+        void shouldReplayAcrossSegments() {
+            try (WriteAheadLog log = open(dir)) {
+                log.appendAndSync(bytes("a"));
+                assertEquals(1L, WriteAheadLog.await(log.rotate()));
+                log.appendAndSync(bytes("b"));
+                assertEquals(2L, WriteAheadLog.await(log.rotate()));
+                log.appendAndSync(bytes("c"));
+            }
+            assertEquals(List.of("a", "b", "c"), reopen(dir, 0));
+        }
+
+        @Test
+        @DisplayName("should put records appended before a rotation into the earlier segment")
+        void shouldOrderRecordsAroundRotation() {
+            try (WriteAheadLog log = open(dir)) {
+                log.append(bytes("before"));
+                long next = WriteAheadLog.await(log.rotate());
+                log.appendAndSync(bytes("after"));
+                log.deleteSegmentsBefore(next);
+            }
+            assertEquals(List.of("after"), reopen(dir, 1));
+            assertFalse(Files.exists(segment(dir, 0)));
+        }
+
+        @Test
+        @DisplayName("should delete segments older than the requested one on open")
+        void shouldDeleteStaleSegmentsOnOpen() throws IOException {
+            try (WriteAheadLog log = open(dir)) {
+                log.appendAndSync(bytes("old"));
+                WriteAheadLog.await(log.rotate());
+                log.appendAndSync(bytes("new"));
+            }
+            assertEquals(List.of("new"), reopen(dir, 1));
+            assertEquals(1, segmentCount(dir));
+        }
+
+        @Test
+        @DisplayName("should refuse to open when a sealed segment is corrupted")
+        void shouldRefuseCorruptedSealedSegment() throws IOException {
+            try (WriteAheadLog log = open(dir)) {
+                log.appendAndSync(bytes("sealed"));
+                WriteAheadLog.await(log.rotate());
+                log.appendAndSync(bytes("active"));
+            }
+            Files.write(segment(dir, 0), new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+            assertThrows(UncheckedIOException.class, () -> reopen(dir, 0));
+        }
+    }
+}
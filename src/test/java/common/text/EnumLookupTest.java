@@ -0,0 +1,58 @@
+package common.text;
+
+import com.organizer.common.text.EnumLookup;
+import com.organizer.model.task.TaskPriority;
+import com.organizer.model.task.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EnumLookup Tests")
+class EnumLookupTest {
+
+    @Nested
+    @DisplayName("Parsing Tests")
+    class ParsingTests {
+
+        @Test
+        @DisplayName("should accept constant names and display names in any case")
+        void shouldAcceptNamesAndDisplayNames() {
+            for (TaskStatus status : TaskStatus.values()) {
+                assertEquals(Optional.of(status), TaskStatus.parse(status.name()));
+                assertEquals(Optional.of(status), TaskStatus.parse(status.name().toLowerCase()));
+                assertEquals(Optional.of(status), TaskStatus.parse(status.getDisplayName()));
+                assertEquals(Optional.of(status), TaskStatus.parse(status.getDisplayName().toUpperCase()));
+            }
+            for (TaskPriority priority : TaskPriority.values()) {
+                assertEquals(Optional.of(priority), TaskPriority.parse(priority.name().toLowerCase()));
+                assertEquals(Optional.of(priority), TaskPriority.parse(priority.getDisplayName()));
+            }
+            assertEquals(Optional.of(TaskStatus.IN_PROGRESS), TaskStatus.parse("in progress"));
+            assertEquals(Optional.of(TaskStatus.DONE), TaskStatus.parse(new StringBuilder("dOnE")));
+        }
+
+        @Test
+        @DisplayName("should return empty for null and unknown input")
+        void shouldRejectUnknownInput() {
+            assertTrue(TaskStatus.parse(null).isEmpty());
+            assertTrue(TaskStatus.parse("").isEmpty());
+            assertTrue(TaskStatus.parse("BLOCKED").isEmpty());
+            assertTrue(TaskStatus.parse("DONE ").isEmpty(), "Surrounding whitespace is not stripped");
+            assertTrue(TaskStatus.parse("IN PROGRES").isEmpty());
+            assertTrue(TaskPriority.parse("URGENT").isEmpty());
+            assertTrue(TaskPriority.parse("a much longer input than any constant").isEmpty());
+        }
+
+        @Test
+        @DisplayName("should accept a null alias")
+        void shouldAcceptNullAlias() {
+            EnumLookup<TaskStatus> lookup = new EnumLookup<>(TaskStatus.values(), status -> null);
+            assertEquals(Optional.of(TaskStatus.TODO), lookup.parse("todo"));
+            assertTrue(lookup.parse("To Do").isEmpty());
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package common.text;
+
+import com.organizer.common.text.UuidParser;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("UuidParser Tests")
+class UuidParserTest {
+
+    private static Optional<UUID> reference(String text) {
+        try {
+            return Optional.of(UUID.fromString(text));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void assertSameAsReference(String text) {
+        assertEquals(reference(text), UuidParser.parse(text), () -> "Input: \"" + text + "\"");
+    }
+
+    @Nested
+    @DisplayName("Parity With UUID.fromString")
+    class ParityTests {
+
+        @Test
+        @DisplayName("should agree on canonical and lenient forms")
+        void shouldAgreeOnKnownForms() {
+            List<String> inputs = List.of(
+                    "123e4567-e89b-12d3-a456-426614174000",
+                    "123E4567-E89B-12D3-A456-426614174000",
+                    "ffffffff-ffff-ffff-ffff-ffffffffffff",
+                    "1-2-3-4-5",
+                    "+1-2-3-4-5",
+                    "-1-2-3-4-5",
+                    "0000000000001-2-3-4-5",
+                    "1-2-3-4-ffffffffffffffff",
+                    "1-2-3-4-7fffffffffffffff",
+                    "1-2-3-4--8000000000000000",
+                    "１-2-3-4-5",
+                    "",
+                    "-",
+                    "----",
+                    "1-2-3-4",
+                    "1-2-3-4-5-6",
+                    "1--3-4-5",
+                    "+-2-3-4-5",
+                    "g-2-3-4-5",
+                    "123e4567-e89b-12d3-a456-42661417400g",
+                    "123e4567+e89b-12d3-a456-426614174000",
+                    "123e4567-e89b-12d3-a456-4266141740000",
+                    " 123e4567-e89b-12d3-a456-426614174000");
+            inputs.forEach(UuidParserTest::assertSameAsReference);
+        }
+
+        @Test
+        @DisplayName("should agree on random strings over the UUID alphabet")
+        void shouldAgreeOnRandomStrings() {
+            Random random = new Random(11);
+            String alphabet = "0123456789abcdefABCDEFxX-+ ";
+            for (int i = 0; i < 100_000; i++) {
+                StringBuilder text = new StringBuilder();
+                int length = random.nextInt(40);
+                for (int j = 0; j < length; j++) {
+                    text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                assertSameAsReference(text.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("should agree on random UUIDs")
+        void shouldAgreeOnRandomUuids() {
+            for (int i = 0; i < 10_000; i++) {
+                UUID uuid = UUID.randomUUID();
+                assertEquals(Optional.of(uuid), UuidParser.parse(uuid.toString()));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Input Forms")
+    class InputFormTests {
+
+        private static final String ID = "123e4567-e89b-12d3-a456-426614174000";
+
+        @Test
+        @DisplayName("should skip surrounding whitespace like strip")
+        void shouldSkipWhitespace() {
+            assertEquals(Optional.of(UUID.fromString(ID)), UuidParser.parseStripped(" \t" + ID + "\u2003\n"));
+            assertEquals(reference("1-2-3-4-5"), UuidParser.parseStripped("  1-2-3-4-5 "));
+            assertTrue(UuidParser.parseStripped("   ").isEmpty());
+            assertTrue(UuidParser.parseStripped(null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should parse any CharSequence in place")
+        void shouldParseCharSequence() {
+            assertEquals(Optional.of(UUID.fromString(ID)), UuidParser.parseStripped(new StringBuilder(" ").append(ID)));
+        }
+
+        @Test
+        @DisplayName("should parse a range of ASCII bytes")
+        void shouldParseAsciiBytes() {
+            byte[] bytes = ("--" + ID + "--").getBytes(StandardCharsets.US_ASCII);
+            assertEquals(Optional.of(UUID.fromString(ID)), UuidParser.parse(bytes, 2, ID.length()));
+            assertEquals(reference("1-2-3-4-5"), UuidParser.parse("x1-2-3-4-5".getBytes(StandardCharsets.US_ASCII), 1, 9));
+        }
+
+        @Test
+        @DisplayName("should reject non-ASCII bytes and out-of-range slices")
+        void shouldRejectInvalidBytes() {
+            byte[] fullwidth = "１-2-3-4-5".getBytes(StandardCharsets.UTF_8);
+            assertTrue(UuidParser.parse(fullwidth, 0, fullwidth.length).isEmpty());
+            byte[] bytes = ID.getBytes(StandardCharsets.US_ASCII);
+            assertTrue(UuidParser.parse(bytes, 1, ID.length()).isEmpty());
+            assertTrue(UuidParser.parse(bytes, -1, 4).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cost Tests")
+    class CostTests {
+
+        private static final String PADDED = " 123e4567-e89b-12d3-a456-426614174000 ";
+        private static final int CALLS = 20_000;
+
+        @Test
+        @DisplayName("should allocate less than strip and UUID.fromString")
+        void shouldAllocateLess() {
+            assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean,
+                    "Allocation counting needs the HotSpot thread bean");
+            ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                    "Allocation counting is not enabled");
+            long[] sink = new long[1];
+
+            long parser = allocatedBytes(threads, () -> sink[0] += UuidParser.parseStripped(PADDED).orElseThrow().getLeastSignificantBits());
+            long reference = allocatedBytes(threads, () -> sink[0] += UUID.fromString(PADDED.strip()).getLeastSignificantBits());
+
+            assertTrue(parser * 2 < reference, "parser: " + parser + " bytes, reference: " + reference + " bytes");
+        }
+
+        @Test
+        @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+        @DisplayName("should parse padded ids about as fast as strip and UUID.fromString")
+        void shouldKeepUpWithReference() {
+            long[] sink = new long[1];
+
+            long parser = bestNanos(() -> sink[0] += UuidParser.parseStripped(PADDED).orElseThrow().getLeastSignificantBits());
+            long reference = bestNanos(() -> sink[0] += UUID.fromString(PADDED.strip()).getLeastSignificantBits());
+
+            assertTrue(parser * 2 < reference * 3, "parser: " + parser + " ns, reference: " + reference + " ns");
+        }
+
+        private static long allocatedBytes(ThreadMXBean threads, Runnable call) {
+            for (int i = 0; i < 10 * CALLS; i++) {
+                call.run();
+            }
+            long threadId = Thread.currentThread().threadId();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < CALLS; i++) {
+                call.run();
+            }
+            return threads.getThreadAllocatedBytes(threadId) - before;
+        }
+
+        private static long bestNanos(Runnable call) {
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < 30; run++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < CALLS; i++) {
+                    call.run();
+                }
+                long elapsed = System.nanoTime() - start;
+                if (run >= 10) {
+                    best = Math.min(best, elapsed);
+                }
+            }
+            return best;
+        }
+    }
+}
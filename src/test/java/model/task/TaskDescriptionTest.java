@@ -5,6 +5,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("TaskDescription Value Object Tests")
@@ -74,5 +77,47 @@ class TaskDescriptionTest {
             assertNotEquals(d1.hashCode(), d2.hashCode(), "TaskDescription instances with different values should have different hashCodes");
         }
     }
-}
 
+    @Nested
+    @DisplayName("TryOf")
+    class TryOfTests {
+
+        @Test
+        @DisplayName("should return the same value as of for valid input")
+        void shouldMatchOfForValidInput() {
+            assertEquals(TaskDescription.of("multi\nline"), TaskDescription.tryOf("multi\nline").orElseThrow());
+        }
+
+        @Test
+        @DisplayName("should return empty instead of throwing for invalid input")
+        void shouldReturnEmptyForInvalidInput() {
+            assertTrue(TaskDescription.tryOf(null).isEmpty());
+            assertTrue(TaskDescription.tryOf("").isEmpty());
+            assertTrue(TaskDescription.tryOf("a".repeat(501)).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Regex Parity")
+    class RegexParityTests {
+
+        private static final Pattern REFERENCE = Pattern.compile("^.{1,500}$", Pattern.DOTALL);
+        private static final String ALPHABET = "aZ9 \t\n\r\u0085  .@-_%+😀𐀀İ";
+
+        @Test
+        @DisplayName("should accept exactly what the reference pattern accepts")
+        void shouldMatchReferencePattern() {
+            Random random = new Random(2);
+            for (int i = 0; i < 10_000; i++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(1100);
+                for (int j = 0; j < length; j++) {
+                    input.appendCodePoint(ALPHABET.codePointAt(ALPHABET.offsetByCodePoints(0, random.nextInt(ALPHABET.codePointCount(0, ALPHABET.length())))));
+                }
+                String text = input.toString();
+                boolean expected = REFERENCE.matcher(text).matches();
+                assertEquals(expected, TaskDescription.tryOf(text).isPresent(), () -> "Input: " + text.codePoints().boxed().toList());
+            }
+        }
+    }
+}
@@ -94,4 +94,24 @@ class TaskIdTest {
                     "TaskId creation from invalid string should throw IllegalArgumentException");
         }
     }
+
+    @Nested
+    @DisplayName("TryOf")
+    class TryOfTests {
+
+        @Test
+        @DisplayName("should return the same value as of for valid input")
+        void shouldMatchOfForValidInput() {
+            String id = " 123e4567-e89b-12d3-a456-426614174000 ";
+            assertEquals(TaskId.of(id), TaskId.tryOf(id).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("should return empty instead of throwing for invalid input")
+        void shouldReturnEmptyForInvalidInput() {
+            assertTrue(TaskId.tryOf(null).isEmpty());
+            assertTrue(TaskId.tryOf("not-a-uuid").isEmpty());
+            assertTrue(TaskId.tryOf("00000000-0000-0000-0000-000000000000").isEmpty(), "NIL UUID should be rejected");
+        }
+    }
 }
@@ -1,11 +1,18 @@
 package model.task;
 
 import com.organizer.model.task.TaskName;
+import com.sun.management.ThreadMXBean;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DisplayName("TaskName Value Object Tests")
 class TaskNameTest {
@@ -82,4 +89,119 @@ class TaskNameTest {
             assertNotEquals(n1.hashCode(), n2.hashCode(), "Hash codes should differ for TaskNames with different values");
         }
     }
+
+    @Nested
+    @DisplayName("TryOf")
+    class TryOfTests {
+
+        @Test
+        @DisplayName("should return the same value as of for valid input")
+        void shouldMatchOfForValidInput() {
+            assertEquals(TaskName.of("  Write report "), TaskName.tryOf("  Write report ").orElseThrow());
+        }
+
+        @Test
+        @DisplayName("should return empty instead of throwing for invalid input")
+        void shouldReturnEmptyForInvalidInput() {
+            assertTrue(TaskName.tryOf(null).isEmpty());
+            assertTrue(TaskName.tryOf("   ").isEmpty());
+            assertTrue(TaskName.tryOf("a".repeat(51)).isEmpty());
+            assertTrue(TaskName.tryOf("two\nlines").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Regex Parity")
+    class RegexParityTests {
+
+        private static final Pattern REFERENCE = Pattern.compile("^.{1,50}$");
+        private static final String ALPHABET = "aZ9 \t\n\r\u0085  .@-_%+😀𐀀İ";
+
+        @Test
+        @DisplayName("should accept exactly what the reference pattern accepts")
+        void shouldMatchReferencePattern() {
+            Random random = new Random(1);
+            for (int i = 0; i < 100_000; i++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(60);
+                for (int j = 0; j < length; j++) {
+                    input.appendCodePoint(ALPHABET.codePointAt(ALPHABET.offsetByCodePoints(0, random.nextInt(ALPHABET.codePointCount(0, ALPHABET.length())))));
+                }
+                String text = input.toString();
+                boolean expected = REFERENCE.matcher(text.strip()).matches();
+                assertEquals(expected, TaskName.tryOf(text).isPresent(), () -> "Input: " + text.codePoints().boxed().toList());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Cost Tests")
+    class CostTests {
+
+        private static final Pattern REFERENCE = Pattern.compile("^.{1,50}$");
+        // Invalid input is what tryOf exists for; it holds nothing to strip, so tryOf copies nothing
+        private static final String NAME = "Prepare the quarterly planning review\nand the budget";
+        private static final int CALLS = 20_000;
+
+        @Test
+        @DisplayName("should reject invalid names without allocating, unlike the reference pattern")
+        void shouldNotAllocate() {
+            ThreadMXBean threads = allocationCounter();
+            boolean[] sink = new boolean[1];
+
+            long validator = allocatedBytes(threads, () -> sink[0] ^= TaskName.tryOf(NAME).isPresent());
+            long pattern = allocatedBytes(threads, () -> sink[0] ^= REFERENCE.matcher(NAME).matches());
+
+            assertTrue(validator < CALLS, "validator allocated " + validator + " bytes over " + CALLS + " calls");
+            assertTrue(pattern > 32L * CALLS, "pattern allocated " + pattern + " bytes over " + CALLS + " calls");
+        }
+
+        @Test
+        @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+        @DisplayName("should reject invalid names faster than the reference pattern")
+        void shouldOutrunPattern() {
+            boolean[] sink = new boolean[1];
+
+            long validator = bestNanos(() -> sink[0] ^= TaskName.tryOf(NAME).isPresent());
+            long pattern = bestNanos(() -> sink[0] ^= REFERENCE.matcher(NAME).matches());
+
+            assertTrue(validator * 2 < pattern, "validator: " + validator + " ns, pattern: " + pattern + " ns");
+        }
+
+        private static ThreadMXBean allocationCounter() {
+            assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean,
+                    "Allocation counting needs the HotSpot thread bean");
+            var threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                    "Allocation counting is not enabled");
+            return threads;
+        }
+
+        private static long allocatedBytes(ThreadMXBean threads, Runnable call) {
+            for (int i = 0; i < 10 * CALLS; i++) {
+                call.run();
+            }
+            long threadId = Thread.currentThread().threadId();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < CALLS; i++) {
+                call.run();
+            }
+            return threads.getThreadAllocatedBytes(threadId) - before;
+        }
+
+        private static long bestNanos(Runnable call) {
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < 30; run++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < CALLS; i++) {
+                    call.run();
+                }
+                long elapsed = System.nanoTime() - start;
+                if (run >= 10) {
+                    best = Math.min(best, elapsed);
+                }
+            }
+            return best;
+        }
+    }
 }
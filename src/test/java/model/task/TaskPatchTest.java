@@ -0,0 +1,113 @@
+package model.task;
+
+import com.organizer.model.task.*;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskPatch Tests")
+class TaskPatchTest {
+
+    private static final Task TASK = new Task(TaskId.of("00000000-0000-0000-0000-000000000001"),
+            TaskName.of("Task A"), TaskDescription.of("desc"), TaskPriority.LOW, TaskStatus.TODO, null, 4);
+
+    @Nested
+    @DisplayName("Field Mask Tests")
+    class FieldMaskTests {
+
+        @Test
+        @DisplayName("should start empty")
+        void shouldStartEmpty() {
+            TaskPatch patch = TaskPatch.empty();
+            assertTrue(patch.isEmpty());
+            assertEquals(0, patch.fields());
+        }
+
+        @Test
+        @DisplayName("should record exactly the changed fields")
+        void shouldRecordChangedFields() {
+            TaskPatch patch = TaskPatch.empty().withStatus(TaskStatus.DONE).withName(TaskName.of("Task B"));
+            assertEquals(TaskPatch.STATUS | TaskPatch.NAME, patch.fields());
+            assertTrue(patch.changes(TaskPatch.INDEXED), "Status is an indexed field");
+            assertFalse(patch.changes(TaskPatch.PRIORITY | TaskPatch.ASSIGNEE));
+            assertNull(patch.priority());
+        }
+
+        @Test
+        @DisplayName("should not report indexed changes for name and description only")
+        void shouldNotReportIndexedChanges() {
+            TaskPatch patch = TaskPatch.empty()
+                    .withName(TaskName.of("Task B"))
+                    .withDescription(TaskDescription.of("other"));
+            assertFalse(patch.changes(TaskPatch.INDEXED));
+        }
+
+        @Test
+        @DisplayName("should build the same patch as chained with calls")
+        void shouldBuildPatch() {
+            TaskPatch.Builder builder = TaskPatch.builder();
+            assertSame(TaskPatch.empty(), builder.build());
+
+            TaskPatch patch = builder.status(TaskStatus.DONE).name(TaskName.of("Task B")).build();
+            TaskPatch chained = TaskPatch.empty().withStatus(TaskStatus.DONE).withName(TaskName.of("Task B"));
+            assertEquals(chained.fields(), patch.fields());
+            assertEquals(chained.name(), patch.name());
+            assertEquals(chained.status(), patch.status());
+            assertThrows(NullPointerException.class, () -> builder.assignee(null));
+        }
+
+        @Test
+        @DisplayName("should reject null values")
+        void shouldRejectNulls() {
+            TaskPatch patch = TaskPatch.empty();
+            assertThrows(NullPointerException.class, () -> patch.withName(null));
+            assertThrows(NullPointerException.class, () -> patch.withDescription(null));
+            assertThrows(NullPointerException.class, () -> patch.withPriority(null));
+            assertThrows(NullPointerException.class, () -> patch.withStatus(null));
+            assertThrows(NullPointerException.class, () -> patch.withAssignee(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Apply Tests")
+    class ApplyTests {
+
+        @Test
+        @DisplayName("should change only patched fields and bump the version")
+        void shouldChangeOnlyPatchedFields() {
+            Task next = TaskPatch.empty().withStatus(TaskStatus.DONE).applyTo(TASK);
+            assertEquals(TASK.getId(), next.getId());
+            assertEquals(TaskStatus.DONE, next.getStatus());
+            assertEquals(TaskPriority.LOW, next.getPriority());
+            assertEquals(TASK.getName(), next.getName());
+            assertEquals(TASK.getDescription(), next.getDescription());
+            assertNull(next.getAssignedUser());
+            assertEquals(5, next.getVersion());
+        }
+
+        @Test
+        @DisplayName("should apply every field and leave the original untouched")
+        void shouldApplyEveryField() {
+            User assignee = new User(Username.of("assignee"), Email.of("assignee@org.com"));
+            Task next = TaskPatch.empty()
+                    .withName(TaskName.of("Task B"))
+                    .withDescription(TaskDescription.of("other"))
+                    .withPriority(TaskPriority.HIGH)
+                    .withStatus(TaskStatus.IN_PROGRESS)
+                    .withAssignee(assignee)
+                    .applyTo(TASK);
+            assertEquals(TaskName.of("Task B"), next.getName());
+            assertEquals(TaskDescription.of("other"), next.getDescription());
+            assertEquals(TaskPriority.HIGH, next.getPriority());
+            assertEquals(TaskStatus.IN_PROGRESS, next.getStatus());
+            assertEquals(assignee, next.getAssignedUser());
+            assertEquals(TaskStatus.TODO, TASK.getStatus(), "The patched task should be a copy");
+            assertEquals(4, TASK.getVersion());
+        }
+    }
+}
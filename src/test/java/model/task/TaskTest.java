@@ -32,6 +32,7 @@ class TaskTest {
             assertEquals(TaskPriority.MEDIUM, task.getPriority(), "Default priority should be MEDIUM");
             assertEquals(TaskStatus.TODO, task.getStatus(), "Default status should be TODO");
             assertNull(task.getAssignedUser(), "Assigned user should be null by default");
+            assertEquals(0, task.getVersion(), "New tasks should start at version 0");
         }
 
         @Test
@@ -58,6 +59,13 @@ class TaskTest {
                     "Task creation should throw NullPointerException when description is null");
         }
 
+        @Test
+        @DisplayName("should reject a negative version")
+        void shouldRejectNegativeVersion() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Task(TaskId.newId(), NAME, DESC, TaskPriority.LOW, TaskStatus.TODO, null, -1));
+        }
+
         @Test
         @DisplayName("should create with full constructor and validate non-nulls")
         void shouldCreateWithFullCtor() {
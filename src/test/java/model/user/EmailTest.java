@@ -5,6 +5,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Email Value Object Tests")
@@ -128,4 +132,47 @@ class EmailTest {
                     String.format("Expected masked email to end with '@org.com', but was '%s'", maskedEmail));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("TryOf")
+    class TryOfTests {
+
+        @Test
+        @DisplayName("should return the same value as of for valid input")
+        void shouldMatchOfForValidInput() {
+            assertEquals(Email.of(" John.Doe@Org.com "), Email.tryOf(" John.Doe@Org.com ").orElseThrow());
+        }
+
+        @Test
+        @DisplayName("should return empty instead of throwing for invalid input")
+        void shouldReturnEmptyForInvalidInput() {
+            assertTrue(Email.tryOf(null).isEmpty());
+            assertTrue(Email.tryOf("no-at-sign.com").isEmpty());
+            assertTrue(Email.tryOf("user@domain.c").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Regex Parity")
+    class RegexParityTests {
+
+        private static final Pattern REFERENCE = Pattern.compile("^[A-Za-z0-9._%+\\-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+        private static final String ALPHABET = "abAZ09._%+-@@.. !#İ";
+
+        @Test
+        @DisplayName("should accept exactly what the reference pattern accepts")
+        void shouldMatchReferencePattern() {
+            Random random = new Random(4);
+            for (int i = 0; i < 100_000; i++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(14);
+                for (int j = 0; j < length; j++) {
+                    input.appendCodePoint(ALPHABET.codePointAt(ALPHABET.offsetByCodePoints(0, random.nextInt(ALPHABET.codePointCount(0, ALPHABET.length())))));
+                }
+                String text = input.toString();
+                boolean expected = REFERENCE.matcher(text.strip().toLowerCase(Locale.ROOT)).matches();
+                assertEquals(expected, Email.tryOf(text).isPresent(), () -> "Input: " + text.codePoints().boxed().toList());
+            }
+        }
+    }
+}
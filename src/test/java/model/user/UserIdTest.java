@@ -102,4 +102,23 @@ class UserIdTest {
 
     }
 
+    @Nested
+    @DisplayName("TryOf")
+    class TryOfTests {
+
+        @Test
+        @DisplayName("should return the same value as of for valid input")
+        void shouldMatchOfForValidInput() {
+            String id = " 123e4567-e89b-12d3-a456-426614174000 ";
+            assertEquals(UserId.of(id), UserId.tryOf(id).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("should return empty instead of throwing for invalid input")
+        void shouldReturnEmptyForInvalidInput() {
+            assertTrue(UserId.tryOf(null).isEmpty());
+            assertTrue(UserId.tryOf("not-a-uuid").isEmpty());
+            assertTrue(UserId.tryOf("00000000-0000-0000-0000-000000000000").isEmpty(), "NIL UUID should be rejected");
+        }
+    }
 }
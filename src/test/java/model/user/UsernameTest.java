@@ -5,6 +5,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Username Value Object Tests")
@@ -113,4 +117,47 @@ class UsernameTest {
                     "Expected hash codes to be different for usernames: '%s' and '%s'", u1.username(), u2.username()));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("TryOf")
+    class TryOfTests {
+
+        @Test
+        @DisplayName("should return the same value as of for valid input")
+        void shouldMatchOfForValidInput() {
+            assertEquals(Username.of(" JohnDoe "), Username.tryOf(" JohnDoe ").orElseThrow());
+        }
+
+        @Test
+        @DisplayName("should return empty instead of throwing for invalid input")
+        void shouldReturnEmptyForInvalidInput() {
+            assertTrue(Username.tryOf(null).isEmpty());
+            assertTrue(Username.tryOf("abc").isEmpty());
+            assertTrue(Username.tryOf("john_doe").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Regex Parity")
+    class RegexParityTests {
+
+        private static final Pattern REFERENCE = Pattern.compile("^[a-z]{4,12}$");
+        private static final String ALPHABET = "abcxyzABZ09 _İK\t";
+
+        @Test
+        @DisplayName("should accept exactly what the reference pattern accepts")
+        void shouldMatchReferencePattern() {
+            Random random = new Random(3);
+            for (int i = 0; i < 100_000; i++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(16);
+                for (int j = 0; j < length; j++) {
+                    input.appendCodePoint(ALPHABET.codePointAt(ALPHABET.offsetByCodePoints(0, random.nextInt(ALPHABET.codePointCount(0, ALPHABET.length())))));
+                }
+                String text = input.toString();
+                boolean expected = REFERENCE.matcher(text.strip().toLowerCase(Locale.ROOT)).matches();
+                assertEquals(expected, Username.tryOf(text).isPresent(), () -> "Input: " + text.codePoints().boxed().toList());
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package service.bus;
+
+import com.organizer.model.task.TaskId;
+import com.organizer.model.task.TaskStatus;
+import com.organizer.model.user.UserId;
+import com.organizer.service.bus.CommandBus;
+import com.organizer.service.task.adapter.InMemoryTaskStore;
+import com.organizer.service.task.port.TaskStore;
+import com.organizer.service.task.usecase.create.CreateTaskResult;
+import com.organizer.service.task.usecase.create.CreateTasksService;
+import com.organizer.service.task.usecase.create.CreateTasksUseCase;
+import com.organizer.service.task.usecase.create.command.CreateBasicTaskCommand;
+import com.organizer.service.task.usecase.create.command.CreateFullTaskCommand;
+import com.organizer.service.task.usecase.delete.DeleteTaskCommand;
+import com.organizer.service.task.usecase.delete.DeleteTaskResult;
+import com.organizer.service.task.usecase.delete.DeleteTaskService;
+import com.organizer.service.task.usecase.update.UpdateTaskCommand;
+import com.organizer.service.task.usecase.update.UpdateTaskResult;
+import com.organizer.service.task.usecase.update.UpdateTaskUseCase;
+import com.organizer.service.user.adapter.InMemoryUserStore;
+import com.organizer.service.user.port.UserStore;
+import com.organizer.service.user.usecase.create.CreateUserCommand;
+import com.organizer.service.user.usecase.create.CreateUserResult;
+import com.organizer.service.user.usecase.create.CreateUserService;
+import com.organizer.service.user.usecase.delete.DeleteUserService;
+import com.organizer.service.user.usecase.update.UpdateUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CommandBus Tests")
+class CommandBusTest {
+
+    private TaskStore taskStore;
+    private UserStore userStore;
+
+    @BeforeEach
+    void setUp() {
+        taskStore = new InMemoryTaskStore();
+        userStore = new InMemoryUserStore();
+    }
+
+    private CommandBus bus(int capacity) {
+        return CommandBus.of(taskStore, userStore, TaskId::newId, UserId::newId, capacity);
+    }
+
+    @Nested
+    @DisplayName("Result Tests")
+    class ResultTests {
+
+        @Test
+        @DisplayName("should apply commands in submission order")
+        void shouldApplyInOrder() {
+            try (CommandBus bus = bus(16)) {
+                CompletableFuture<CreateUserResult> user = bus.submit(new CreateUserCommand("alice", "alice@example.com"));
+                CompletableFuture<CreateTaskResult> task = bus.submit(
+                        new CreateFullTaskCommand("Task", "desc", "HIGH", "TODO", "alice"));
+                TaskId id = ((CreateTaskResult.Ok) task.join()).taskId();
+
+                UpdateTaskResult updated = bus.submit(new UpdateTaskCommand(id.toString(), Optional.empty(),
+                        Optional.empty(), Optional.empty(), Optional.of("DONE"), Optional.empty())).join();
+                DeleteTaskResult deleted = bus.submit(new DeleteTaskCommand(id.toString())).join();
+
+                assertInstanceOf(CreateUserResult.Ok.class, user.join());
+                assertEquals(new UpdateTaskResult.Ok(id), updated);
+                assertEquals(new DeleteTaskResult.Ok(id), deleted);
+                assertTrue(taskStore.findAll().isEmpty());
+            }
+        }
+
+        @Test
+        @DisplayName("should return the use case's error for a null command")
+        void shouldReturnMissingCommand() {
+            try (CommandBus bus = bus(16)) {
+                assertEquals(CreateTaskResult.Error.MISSING_COMMAND, bus.submit((CreateFullTaskCommand) null).join());
+            }
+        }
+
+        @Test
+        @DisplayName("should fail only the future of a command that throws")
+        void shouldIsolateFailures() {
+            try (CommandBus bus = bus(16)) {
+                CompletableFuture<UpdateTaskResult> failing = bus.submit(
+                        new UpdateTaskCommand("id", null, null, null, null, null));
+                CompletableFuture<CreateTaskResult> next = bus.submit(new CreateBasicTaskCommand("Task", "desc"));
+
+                assertThrows(CompletionException.class, failing::join);
+                assertInstanceOf(CreateTaskResult.Ok.class, next.join());
+            }
+        }
+
+        @Test
+        @DisplayName("should fail only the creation that throws when creations are batched")
+        void shouldIsolateFailureInBatchedCreations() {
+            CreateTasksService service = new CreateTasksService(taskStore, userStore, TaskId::newId);
+            CreateTasksUseCase createTasks = commands -> {
+                if (commands.stream().anyMatch(Objects::isNull)) {
+                    throw new IllegalStateException("Null command");
+                }
+                return service.handle(commands);
+            };
+            CountDownLatch release = new CountDownLatch(1);
+            UpdateTaskUseCase blockingUpdate = command -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return UpdateTaskResult.Error.MISSING_COMMAND;
+            };
+            try (CommandBus bus = new CommandBus(createTasks, blockingUpdate, new DeleteTaskService(taskStore),
+                    new CreateUserService(userStore, UserId::newId), new UpdateUserService(userStore),
+                    new DeleteUserService(userStore), 16)) {
+                // Holds the writer so the three creations queue up and are applied as one run
+                CompletableFuture<UpdateTaskResult> blocker = bus.submit((UpdateTaskCommand) null);
+                CompletableFuture<CreateTaskResult> first = bus.submit(new CreateBasicTaskCommand("First", "desc"));
+                CompletableFuture<CreateTaskResult> failing = bus.submit((CreateBasicTaskCommand) null);
+                CompletableFuture<CreateTaskResult> last = bus.submit(new CreateBasicTaskCommand("Last", "desc"));
+                release.countDown();
+
+                blocker.join();
+                assertInstanceOf(CreateTaskResult.Ok.class, first.join());
+                assertThrows(CompletionException.class, failing::join);
+                assertInstanceOf(CreateTaskResult.Ok.class, last.join());
+                assertEquals(2, taskStore.findAll().size());
+            }
+        }
+
+        @Test
+        @DisplayName("should run callbacks off the writer thread")
+        void shouldCompleteOffWriterThread() {
+            try (CommandBus bus = bus(16)) {
+                String completedOn = bus.submit(new CreateBasicTaskCommand("Task", "desc"))
+                        .thenApply(result -> Thread.currentThread().getName())
+                        .join();
+
+                assertNotEquals("command-bus-writer", completedOn);
+            }
+        }
+
+        @Test
+        @DisplayName("should wake an idle writer for a late submission")
+        void shouldWakeIdleWriter() throws InterruptedException {
+            try (CommandBus bus = bus(16)) {
+                bus.submit(new CreateBasicTaskCommand("Task", "desc")).join();
+                // Long enough for the writer to park with nothing to do
+                Thread.sleep(50);
+                assertInstanceOf(CreateTaskResult.Ok.class,
+                        bus.submit(new CreateBasicTaskCommand("Task", "desc")).orTimeout(10, TimeUnit.SECONDS).join());
+            }
+        }
+
+        @Test
+        @DisplayName("should refuse commands after close")
+        void shouldRefuseAfterClose() {
+            CommandBus bus = bus(16);
+            bus.close();
+            assertThrows(IllegalStateException.class, () -> bus.submit(new CreateBasicTaskCommand("Task", "desc")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("should apply every command from many threads through a small buffer")
+        void shouldApplyAllConcurrentCommands() throws Exception {
+            int threads = 8;
+            int perThread = 5_000;
+            List<CompletableFuture<CreateTaskResult>> results = Collections.synchronizedList(new ArrayList<>());
+            try (CommandBus bus = bus(64)) {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                try {
+                    List<Future<?>> futures = new ArrayList<>();
+                    for (int t = 0; t < threads; t++) {
+                        futures.add(executor.submit(() -> {
+                            for (int i = 0; i < perThread; i++) {
+                                results.add(bus.submit(new CreateBasicTaskCommand("Task " + i, "desc")));
+                            }
+                        }));
+                    }
+                    for (Future<?> future : futures) {
+                        future.get(60, TimeUnit.SECONDS);
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+
+            assertEquals(threads * perThread, results.size());
+            assertTrue(results.stream().allMatch(f -> f.isDone() && f.join() instanceof CreateTaskResult.Ok),
+                    "Close should apply every submitted command");
+            assertEquals(threads * perThread, taskStore.findAll().size());
+            assertEquals(threads * perThread, taskStore.findByStatus(TaskStatus.TODO).size());
+        }
+    }
+}
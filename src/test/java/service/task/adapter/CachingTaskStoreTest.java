@@ -0,0 +1,117 @@
+package service.task.adapter;
+
+import com.organizer.common.collection.CacheStats;
+import com.organizer.model.task.*;
+import com.organizer.service.task.adapter.CachingTaskStore;
+import com.organizer.service.task.adapter.InMemoryTaskStore;
+import com.organizer.service.task.port.TaskFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CachingTaskStore Tests")
+class CachingTaskStoreTest {
+
+    private static final TaskId ID1 = TaskId.of("00000000-0000-0000-0000-000000000001");
+    private static final TaskId ID2 = TaskId.of("00000000-0000-0000-0000-000000000002");
+
+    private static Task task(TaskId id, String name) {
+        return new Task(id, TaskName.of(name), TaskDescription.of("desc"));
+    }
+
+    @Nested
+    @DisplayName("Read-Through Tests")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("should serve repeated reads from the cache")
+        void shouldServeRepeatedReads() {
+            InMemoryTaskStore backing = new InMemoryTaskStore();
+            backing.save(task(ID1, "Task A"));
+            CachingTaskStore store = new CachingTaskStore(backing, 10);
+
+            Task first = store.findById(ID1).orElseThrow();
+            Task second = store.findById(ID1).orElseThrow();
+
+            assertSame(first, second);
+            assertTrue(store.findById(ID2).isEmpty());
+            assertEquals(new CacheStats(1, 2, 0), store.stats());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("should return the new task after every kind of write")
+        void shouldInvalidateOnWrites() {
+            CachingTaskStore store = new CachingTaskStore(new InMemoryTaskStore(), 10);
+            store.save(task(ID1, "Task A"));
+            store.findById(ID1);
+
+            store.save(task(ID1, "Task B"));
+            assertEquals(TaskName.of("Task B"), store.findById(ID1).orElseThrow().getName());
+
+            assertTrue(store.applyPatch(ID1, TaskPatch.empty().withStatus(TaskStatus.DONE), 0));
+            assertEquals(TaskStatus.DONE, store.findById(ID1).orElseThrow().getStatus());
+
+            store.updateMatching(TaskFilter.any(), TaskPatch.empty().withPriority(TaskPriority.HIGH)::applyTo);
+            assertEquals(TaskPriority.HIGH, store.findById(ID1).orElseThrow().getPriority());
+
+            store.saveAll(List.of(task(ID1, "Task C")));
+            assertEquals(TaskName.of("Task C"), store.findById(ID1).orElseThrow().getName());
+
+            store.remove(task(ID1, "Task C"));
+            assertTrue(store.findById(ID1).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("should serve concurrent hits and the latest task once a write returns")
+        void shouldServeConcurrentHits() throws Exception {
+            CachingTaskStore store = new CachingTaskStore(new InMemoryTaskStore(), 10);
+            store.save(task(ID1, "Task 0"));
+            store.save(task(ID2, "Task B"));
+            int readers = 4;
+            int reads = 20_000;
+            ExecutorService executor = Executors.newFixedThreadPool(readers);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < readers; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < reads; i++) {
+                            assertEquals(ID1, store.findById(ID1).orElseThrow().getId());
+                            assertEquals(TaskName.of("Task B"), store.findById(ID2).orElseThrow().getName());
+                        }
+                    }));
+                }
+                for (int version = 1; version <= 200; version++) {
+                    store.save(task(ID1, "Task " + version));
+                    assertEquals(TaskName.of("Task " + version), store.findById(ID1).orElseThrow().getName());
+                }
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(TaskName.of("Task 200"), store.findById(ID1).orElseThrow().getName());
+            assertTrue(store.stats().hits() > readers * reads);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package service.task.adapter;
+
+import com.organizer.model.task.*;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+import com.organizer.service.task.adapter.ColumnarTaskStore;
+import com.organizer.service.task.adapter.InMemoryTaskStore;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ColumnarTaskStore Tests")
+class ColumnarTaskStoreTest {
+
+    private static final TaskId ID1 = TaskId.of("00000000-0000-0000-0000-000000000001");
+    private static final TaskId ID2 = TaskId.of("00000000-0000-0000-0000-000000000002");
+    private static final TaskId ID3 = TaskId.of("00000000-0000-0000-0000-000000000003");
+    private static final User ASSIGNEE = new User(Username.of("assignee"), Email.of("assignee@org.com"));
+
+    private static Task task(TaskId id, TaskPriority priority, TaskStatus status, User user) {
+        return new Task(id, TaskName.of("Task"), TaskDescription.of("desc"), priority, status, user);
+    }
+
+    private static Set<TaskId> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).collect(Collectors.toSet());
+    }
+
+    @Nested
+    @DisplayName("Row Tests")
+    class RowTests {
+
+        @Test
+        @DisplayName("should round-trip every task field")
+        void shouldRoundTrip() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            Task saved = task(ID1, TaskPriority.HIGH, TaskStatus.IN_PROGRESS, ASSIGNEE);
+            store.save(saved);
+
+            Task read = store.findById(ID1).orElseThrow();
+            assertEquals(saved.getName(), read.getName());
+            assertEquals(saved.getDescription(), read.getDescription());
+            assertEquals(TaskPriority.HIGH, read.getPriority());
+            assertEquals(TaskStatus.IN_PROGRESS, read.getStatus());
+            assertEquals(ASSIGNEE, read.getAssignedUser());
+        }
+
+        @Test
+        @DisplayName("should keep moved rows reachable after removing from the middle")
+        void shouldKeepMovedRowReachable() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            store.save(task(ID1, TaskPriority.LOW, TaskStatus.TODO, null));
+            store.save(task(ID2, TaskPriority.MEDIUM, TaskStatus.TODO, null));
+            store.save(task(ID3, TaskPriority.HIGH, TaskStatus.DONE, ASSIGNEE));
+
+            store.remove(task(ID1, TaskPriority.LOW, TaskStatus.TODO, null));
+
+            assertTrue(store.findById(ID1).isEmpty());
+            Task moved = store.findById(ID3).orElseThrow();
+            assertEquals(TaskStatus.DONE, moved.getStatus());
+            assertEquals(ASSIGNEE, moved.getAssignedUser());
+            assertEquals(Set.of(ID2, ID3), ids(store.findAll()));
+        }
+
+        @Test
+        @DisplayName("should overwrite the row of an existing task")
+        void shouldOverwriteExistingRow() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            store.save(task(ID1, TaskPriority.LOW, TaskStatus.TODO, ASSIGNEE));
+            store.save(task(ID1, TaskPriority.HIGH, TaskStatus.DONE, null));
+
+            assertEquals(1, store.findAll().size());
+            assertEquals(0, store.count(TaskFilter.any().withAssignee(ASSIGNEE.getId())));
+            assertEquals(1, store.count(TaskFilter.any().withStatus(TaskStatus.DONE)));
+        }
+
+        @Test
+        @DisplayName("should rewrite matching rows in place with updateMatching")
+        void shouldRewriteMatchingRows() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            store.save(task(ID1, TaskPriority.HIGH, TaskStatus.IN_PROGRESS, null));
+            store.save(task(ID2, TaskPriority.LOW, TaskStatus.IN_PROGRESS, ASSIGNEE));
+            store.save(task(ID3, TaskPriority.LOW, TaskStatus.TODO, null));
+
+            List<Task> updated = store.updateMatching(TaskFilter.any().withStatus(TaskStatus.IN_PROGRESS),
+                    t -> new Task(t.getId(), t.getName(), t.getDescription(), t.getPriority(), TaskStatus.DONE, ASSIGNEE));
+
+            assertEquals(Set.of(ID1, ID2), ids(updated));
+            assertEquals(2, store.count(TaskFilter.any().withStatus(TaskStatus.DONE).withAssignee(ASSIGNEE.getId())));
+            assertEquals(0, store.count(TaskFilter.any().withStatus(TaskStatus.IN_PROGRESS)));
+            assertEquals(3, store.findAll().size());
+        }
+
+        @Test
+        @DisplayName("should skip missing ids in updateAll")
+        void shouldSkipMissingIdsInUpdateAll() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            store.save(task(ID1, TaskPriority.LOW, TaskStatus.TODO, null));
+
+            List<Task> updated = store.updateAll(List.of(ID1, ID2),
+                    t -> new Task(t.getId(), t.getName(), t.getDescription(), TaskPriority.HIGH, t.getStatus(), null));
+
+            assertEquals(Set.of(ID1), ids(updated));
+            assertEquals(TaskPriority.HIGH, store.findById(ID1).orElseThrow().getPriority());
+        }
+
+        @Test
+        @DisplayName("should patch only the changed columns of a row")
+        void shouldApplyPatch() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            store.save(task(ID1, TaskPriority.LOW, TaskStatus.TODO, null));
+
+            assertFalse(store.applyPatch(ID1, TaskPatch.empty().withStatus(TaskStatus.DONE), 3));
+            assertTrue(store.applyPatch(ID1, TaskPatch.empty().withStatus(TaskStatus.DONE).withAssignee(ASSIGNEE), 0));
+            assertFalse(store.applyPatch(ID2, TaskPatch.empty().withStatus(TaskStatus.DONE), 0));
+
+            Task patched = store.findById(ID1).orElseThrow();
+            assertEquals(TaskStatus.DONE, patched.getStatus());
+            assertEquals(TaskPriority.LOW, patched.getPriority());
+            assertEquals(ASSIGNEE, patched.getAssignedUser());
+            assertEquals(1, patched.getVersion());
+            assertEquals(1, store.count(TaskFilter.any().withStatus(TaskStatus.DONE).withAssignee(ASSIGNEE.getId())));
+        }
+    }
+
+    @Nested
+    @DisplayName("Aggregation Tests")
+    class AggregationTests {
+
+        @Test
+        @DisplayName("should count tasks by status and priority")
+        void shouldCountByStatusAndPriority() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            store.save(task(ID1, TaskPriority.HIGH, TaskStatus.TODO, null));
+            store.save(task(ID2, TaskPriority.HIGH, TaskStatus.TODO, ASSIGNEE));
+            store.save(task(ID3, TaskPriority.LOW, TaskStatus.DONE, ASSIGNEE));
+
+            var counts = store.countByStatusAndPriority();
+            assertEquals(2L, counts.get(TaskStatus.TODO).get(TaskPriority.HIGH));
+            assertEquals(1L, counts.get(TaskStatus.DONE).get(TaskPriority.LOW));
+            assertEquals(0L, counts.get(TaskStatus.IN_PROGRESS).get(TaskPriority.MEDIUM));
+            assertEquals(Map.of(ASSIGNEE.getId(), 2L), store.countByAssignee());
+        }
+
+        @Test
+        @DisplayName("should agree with the object store on random data")
+        void shouldAgreeWithObjectStore() {
+            Random random = new Random(42);
+            List<User> users = List.of(ASSIGNEE, new User(Username.of("second"), Email.of("second@org.com")));
+            ColumnarTaskStore columnar = new ColumnarTaskStore();
+            InMemoryTaskStore objects = new InMemoryTaskStore();
+            List<Task> saved = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                User user = random.nextInt(3) == 0 ? null : users.get(random.nextInt(users.size()));
+                Task task = task(new TaskId(new UUID(9L, i + 1L)),
+                        TaskPriority.values()[random.nextInt(TaskPriority.values().length)],
+                        TaskStatus.values()[random.nextInt(TaskStatus.values().length)], user);
+                columnar.save(task);
+                objects.save(task);
+                saved.add(task);
+            }
+            for (int i = 0; i < 1_000; i++) {
+                Task task = saved.get(random.nextInt(saved.size()));
+                columnar.remove(task);
+                objects.remove(task);
+            }
+
+            for (TaskStatus status : TaskStatus.values()) {
+                for (TaskPriority priority : TaskPriority.values()) {
+                    for (User user : users) {
+                        TaskFilter filter = TaskFilter.any().withStatus(status).withPriority(priority).withAssignee(user.getId());
+                        assertEquals(ids(objects.findBy(filter)), ids(columnar.findBy(filter)));
+                        assertEquals(objects.findBy(filter).size(), columnar.count(filter));
+                    }
+                    assertEquals(objects.findBy(TaskFilter.any().withStatus(status).withPriority(priority)).size(),
+                            columnar.countByStatusAndPriority().get(status).get(priority));
+                }
+            }
+            assertEquals(ids(objects.findAll()), ids(columnar.findAll()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Paging And Streaming Tests")
+    class PagingTests {
+
+        @Test
+        @DisplayName("should page through every task in id order")
+        void shouldPageInIdOrder() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            Random random = new Random(11);
+            List<Task> all = new ArrayList<>();
+            for (int i = 0; i < 95; i++) {
+                // Ids with the sign bit set must sort as TaskId.compareTo sorts them
+                all.add(task(new TaskId(new UUID(random.nextLong(), random.nextLong())), TaskPriority.LOW, TaskStatus.TODO, null));
+            }
+            store.saveAll(all);
+
+            List<Task> paged = new ArrayList<>();
+            Optional<TaskId> cursor = Optional.empty();
+            do {
+                TaskPage page = store.findPage(cursor, 10);
+                paged.addAll(page.tasks());
+                cursor = page.next();
+            } while (cursor.isPresent());
+
+            assertEquals(all.stream().sorted(Comparator.comparing(Task::getId)).toList(), paged);
+            assertThrows(IllegalArgumentException.class, () -> store.findPage(Optional.empty(), 0));
+        }
+
+        @Test
+        @DisplayName("should stream every task and skip those removed while streaming")
+        void shouldStreamLazily() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            store.save(task(ID1, TaskPriority.LOW, TaskStatus.TODO, null));
+            store.save(task(ID2, TaskPriority.HIGH, TaskStatus.DONE, ASSIGNEE));
+            assertEquals(Set.of(ID1, ID2), ids(store.stream().toList()));
+
+            Stream<Task> stream = store.stream();
+            store.remove(task(ID1, TaskPriority.LOW, TaskStatus.TODO, null));
+
+            assertEquals(List.of(ID2), stream.map(Task::getId).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Compaction Tests")
+    class CompactionTests {
+
+        private final User other = new User(Username.of("other"), Email.of("other@org.com"));
+
+        @Test
+        @DisplayName("should drop users no task is assigned to and keep the others")
+        void shouldReclaimUnusedAssignees() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            store.save(task(ID1, TaskPriority.LOW, TaskStatus.TODO, ASSIGNEE));
+            store.save(task(ID2, TaskPriority.LOW, TaskStatus.TODO, other));
+            store.save(task(ID3, TaskPriority.HIGH, TaskStatus.TODO, other));
+            store.save(task(ID1, TaskPriority.LOW, TaskStatus.TODO, null));
+
+            store.compact();
+
+            assertEquals(Map.of(other.getId(), 2L), store.countByAssignee());
+            assertEquals(0, store.count(TaskFilter.any().withAssignee(ASSIGNEE.getId())));
+            assertEquals(Set.of(ID2, ID3), ids(store.findByAssignee(other.getId())));
+            assertEquals(other, store.findById(ID3).orElseThrow().getAssignedUser());
+
+            store.save(task(ID1, TaskPriority.LOW, TaskStatus.TODO, ASSIGNEE));
+            assertEquals(Map.of(other.getId(), 2L, ASSIGNEE.getId(), 1L), store.countByAssignee());
+        }
+
+        @Test
+        @DisplayName("should keep every task when trimming columns after removals")
+        void shouldTrimColumns() {
+            ColumnarTaskStore store = new ColumnarTaskStore();
+            List<Task> tasks = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                tasks.add(task(new TaskId(new UUID(5L, i + 1L)), TaskPriority.MEDIUM, TaskStatus.TODO, ASSIGNEE));
+            }
+            store.saveAll(tasks);
+            tasks.subList(10, tasks.size()).forEach(store::remove);
+
+            store.compact();
+            store.save(task(ID1, TaskPriority.HIGH, TaskStatus.DONE, null));
+
+            assertEquals(11, store.findAll().size());
+            assertEquals(10, store.countByAssignee().get(ASSIGNEE.getId()));
+            assertEquals(TaskStatus.DONE, store.findById(ID1).orElseThrow().getStatus());
+        }
+    }
+
+    @Nested
+    @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+    @DisplayName("Scan Comparison Tests")
+    class ScanComparisonTests {
+
+        private static final int TASKS = 200_000;
+
+        /**
+         * Best of ten runs after enough warm-up runs to have the scan compiled, in nanoseconds.
+         */
+        private static long bestNanos(Runnable scan) {
+            for (int i = 0; i < 100; i++) {
+                scan.run();
+            }
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < 10; i++) {
+                long begin = System.nanoTime();
+                scan.run();
+                best = Math.min(best, System.nanoTime() - begin);
+            }
+            return best;
+        }
+
+        @Test
+        @DisplayName("should count by status and priority faster than a walk over task objects")
+        void shouldOutrunObjectScan() {
+            Random random = new Random(7);
+            List<Task> tasks = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                tasks.add(task(new TaskId(new UUID(3L, i + 1L)),
+                        TaskPriority.values()[random.nextInt(TaskPriority.values().length)],
+                        TaskStatus.values()[random.nextInt(TaskStatus.values().length)], null));
+            }
+            ColumnarTaskStore columnar = new ColumnarTaskStore();
+            columnar.saveAll(tasks);
+            InMemoryTaskStore objects = new InMemoryTaskStore();
+            objects.saveAll(tasks);
+            // Tasks allocated one after another in a plain list are the best case for an object walk
+            List<Task> list = List.copyOf(tasks);
+            long[] sink = new long[1];
+
+            long columnarNanos = bestNanos(() -> sink[0] += columnar.countByStatusAndPriority().size());
+            long listNanos = bestNanos(() -> sink[0] += countByStatusAndPriority(list.stream()));
+            long storeNanos = bestNanos(() -> sink[0] += countByStatusAndPriority(objects.stream()));
+
+            String timings = "columnar: " + columnarNanos + " ns, list walk: " + listNanos
+                    + " ns, object store walk: " + storeNanos + " ns";
+            assertTrue(columnarNanos < listNanos, timings);
+            assertTrue(columnarNanos * 4 < storeNanos, timings);
+        }
+
+        private static long countByStatusAndPriority(Stream<Task> tasks) {
+            long[][] counts = new long[TaskStatus.values().length][TaskPriority.values().length];
+            tasks.forEach(task -> counts[task.getStatus().ordinal()][task.getPriority().ordinal()]++);
+            return counts[0][0];
+        }
+    }
+}
@@ -1,14 +1,28 @@
 package service.task.adapter;
 
 import com.organizer.model.task.*;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
 import com.organizer.service.task.adapter.InMemoryTaskStore;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskSnapshot;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DisplayName("InMemoryTaskStore Tests")
 class InMemoryTaskStoreTest {
@@ -30,6 +44,30 @@ class InMemoryTaskStoreTest {
     @DisplayName("Save Task Tests")
     class SaveTests {
 
+        @Test
+        @DisplayName("should save only when the stored version matches")
+        void shouldSaveIfVersionMatches() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            Task original = taskWithDefaults(ID1, "Task A", "desc");
+            store.save(original);
+            Task next = new Task(ID1, TaskName.of("Task B"), TaskDescription.of("desc"),
+                    TaskPriority.MEDIUM, TaskStatus.TODO, null, 1);
+
+            assertFalse(store.saveIfVersion(next, 5), "A stale expected version should be rejected");
+            assertEquals(0, store.findById(ID1).orElseThrow().getVersion());
+            assertTrue(store.saveIfVersion(next, 0));
+            assertEquals(1, store.findById(ID1).orElseThrow().getVersion());
+            assertEquals("Task B", store.findById(ID1).orElseThrow().getName().name());
+        }
+
+        @Test
+        @DisplayName("should not save if-version a task that does not exist")
+        void shouldNotSaveIfVersionMissingTask() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            assertFalse(store.saveIfVersion(taskWithDefaults(ID1, "Task A", "desc"), 0));
+            assertTrue(store.findById(ID1).isEmpty());
+        }
+
         @Test
         @DisplayName("should save task successfully")
         void shouldSaveTaskSuccessfully() {
@@ -84,6 +122,198 @@ class InMemoryTaskStoreTest {
         }
     }
 
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("should not see writes made after the snapshot was taken")
+        void shouldIsolateSnapshotFromLaterWrites() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            Task first = taskWithDefaults(ID1, "Task A", "desc");
+            store.save(first);
+            TaskSnapshot snapshot = store.currentSnapshot();
+
+            store.save(taskWithDefaults(ID2, "Task B", "desc"));
+            store.remove(first);
+
+            assertEquals(1, snapshot.size());
+            assertEquals(first, snapshot.findById(ID1).orElseThrow());
+            assertTrue(snapshot.findById(ID2).isEmpty());
+            assertEquals(1, store.currentSnapshot().size());
+            assertTrue(store.currentSnapshot().findById(ID2).isPresent());
+        }
+
+        @Test
+        @DisplayName("should filter and count tasks of the snapshot")
+        void shouldQuerySnapshot() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            store.save(taskFull());
+            store.save(taskWithDefaults(ID2, "Task B", "desc"));
+            TaskSnapshot snapshot = store.currentSnapshot();
+
+            TaskFilter inProgress = TaskFilter.any().withStatus(TaskStatus.IN_PROGRESS);
+            assertEquals(1, snapshot.count(inProgress));
+            assertEquals(List.of(taskFull()), snapshot.findBy(inProgress));
+            assertEquals(2, snapshot.findAll().size());
+        }
+
+        @Test
+        @DisplayName("should never see a later write without an earlier one")
+        void shouldTakeConsistentSnapshots() throws Exception {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            int writes = 20_000;
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                // Ids in writing order land on different stripes
+                Future<?> writer = executor.submit(() -> {
+                    for (int i = 0; i < writes; i++) {
+                        store.save(taskWithDefaults(new TaskId(new UUID(0L, i + 1L)), "Task " + i, "desc"));
+                    }
+                });
+                while (!writer.isDone()) {
+                    TaskSnapshot snapshot = store.currentSnapshot();
+                    int size = snapshot.size();
+                    for (int i = 0; i < size; i++) {
+                        assertTrue(snapshot.findById(new TaskId(new UUID(0L, i + 1L))).isPresent(),
+                                "A snapshot of " + size + " tasks should hold the first " + size + " writes");
+                    }
+                    Thread.yield();
+                }
+                writer.get(60, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(writes, store.findAll().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Secondary Index Tests")
+    class IndexTests {
+
+        private final User alice = new User(Username.of("alice"), Email.of("alice@org.com"));
+        private final User bobby = new User(Username.of("bobby"), Email.of("bobby@org.com"));
+
+        private Task task(int n, TaskPriority priority, TaskStatus status, User assignee) {
+            TaskId id = TaskId.of(String.format("00000000-0000-0000-0000-%012d", n));
+            return new Task(id, TaskName.of("Task " + n), TaskDescription.of("desc"), priority, status, assignee);
+        }
+
+        @Test
+        @DisplayName("should find tasks by status, priority and assignee")
+        void shouldFindBySingleCriteria() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            store.save(task(1, TaskPriority.HIGH, TaskStatus.TODO, alice));
+            store.save(task(2, TaskPriority.LOW, TaskStatus.IN_PROGRESS, alice));
+            store.save(task(3, TaskPriority.HIGH, TaskStatus.IN_PROGRESS, bobby));
+            store.save(task(4, TaskPriority.MEDIUM, TaskStatus.DONE, null));
+
+            assertEquals(2, store.findByStatus(TaskStatus.IN_PROGRESS).size());
+            assertEquals(2, store.findByPriority(TaskPriority.HIGH).size());
+            assertEquals(2, store.findByAssignee(alice.getId()).size());
+            assertEquals(1, store.findByAssignee(bobby.getId()).size());
+            assertEquals(4, store.findBy(TaskFilter.any()).size());
+        }
+
+        @Test
+        @DisplayName("should re-index a task moved by a patch")
+        void shouldReindexPatchedTask() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            Task task = task(1, TaskPriority.HIGH, TaskStatus.TODO, alice);
+            store.save(task);
+
+            assertTrue(store.applyPatch(task.getId(), TaskPatch.empty().withStatus(TaskStatus.DONE).withAssignee(bobby), 0));
+            assertTrue(store.applyPatch(task.getId(), TaskPatch.empty().withName(TaskName.of("Renamed")), 1));
+            assertFalse(store.applyPatch(task.getId(), TaskPatch.empty().withName(TaskName.of("Stale")), 1));
+
+            assertTrue(store.findByStatus(TaskStatus.TODO).isEmpty());
+            assertTrue(store.findByAssignee(alice.getId()).isEmpty());
+            List<Task> done = store.findBy(TaskFilter.any().withStatus(TaskStatus.DONE).withAssignee(bobby.getId()));
+            assertEquals(1, done.size());
+            assertEquals(TaskName.of("Renamed"), done.getFirst().getName());
+            assertEquals(2, done.getFirst().getVersion());
+        }
+
+        @Test
+        @DisplayName("should combine criteria")
+        void shouldFindByCombinedCriteria() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            store.save(task(1, TaskPriority.HIGH, TaskStatus.IN_PROGRESS, alice));
+            store.save(task(2, TaskPriority.LOW, TaskStatus.IN_PROGRESS, alice));
+            store.save(task(3, TaskPriority.HIGH, TaskStatus.IN_PROGRESS, bobby));
+
+            List<Task> found = store.findBy(TaskFilter.any()
+                    .withStatus(TaskStatus.IN_PROGRESS)
+                    .withAssignee(alice.getId())
+                    .withPriority(TaskPriority.HIGH));
+
+            assertEquals(1, found.size());
+            assertEquals(task(1, TaskPriority.HIGH, TaskStatus.IN_PROGRESS, alice), found.getFirst());
+        }
+
+        @Test
+        @DisplayName("should reindex a task saved again after in-place changes")
+        void shouldReindexInPlaceChanges() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            Task t = task(1, TaskPriority.LOW, TaskStatus.TODO, alice);
+            store.save(t);
+
+            t.changeStatus(TaskStatus.DONE);
+            t.assignUser(bobby);
+            store.save(t);
+
+            assertTrue(store.findByStatus(TaskStatus.TODO).isEmpty());
+            assertTrue(store.findByAssignee(alice.getId()).isEmpty());
+            assertEquals(1, store.findBy(TaskFilter.any().withStatus(TaskStatus.DONE).withAssignee(bobby.getId())).size());
+        }
+
+        @Test
+        @DisplayName("should reindex tasks changed by updateMatching")
+        void shouldReindexTasksChangedByUpdateMatching() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            store.save(task(1, TaskPriority.HIGH, TaskStatus.IN_PROGRESS, alice));
+            store.save(task(2, TaskPriority.LOW, TaskStatus.IN_PROGRESS, alice));
+            store.save(task(3, TaskPriority.HIGH, TaskStatus.TODO, bobby));
+
+            List<Task> updated = store.updateMatching(TaskFilter.any().withAssignee(alice.getId()),
+                    t -> new Task(t.getId(), t.getName(), t.getDescription(), t.getPriority(), TaskStatus.DONE, t.getAssignedUser()));
+
+            assertEquals(2, updated.size());
+            assertTrue(store.findByStatus(TaskStatus.IN_PROGRESS).isEmpty());
+            assertEquals(2, store.findBy(TaskFilter.any().withStatus(TaskStatus.DONE).withAssignee(alice.getId())).size());
+            assertEquals(TaskStatus.TODO, store.findById(task(3, TaskPriority.HIGH, TaskStatus.TODO, bobby).getId()).orElseThrow().getStatus());
+        }
+
+        @Test
+        @DisplayName("should skip missing ids in updateAll")
+        void shouldSkipMissingIdsInUpdateAll() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            Task existing = task(1, TaskPriority.LOW, TaskStatus.TODO, null);
+            store.save(existing);
+
+            List<Task> updated = store.updateAll(List.of(existing.getId(), task(2, TaskPriority.LOW, TaskStatus.TODO, null).getId()),
+                    t -> new Task(t.getId(), t.getName(), t.getDescription(), TaskPriority.HIGH, t.getStatus(), bobby));
+
+            assertEquals(1, updated.size());
+            assertEquals(1, store.findBy(TaskFilter.any().withPriority(TaskPriority.HIGH).withAssignee(bobby.getId())).size());
+            assertTrue(store.findByPriority(TaskPriority.LOW).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should drop removed tasks from every index")
+        void shouldDropRemovedTasksFromIndexes() {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            Task t = task(1, TaskPriority.HIGH, TaskStatus.IN_PROGRESS, alice);
+            store.save(t);
+            store.remove(t);
+
+            assertTrue(store.findByStatus(TaskStatus.IN_PROGRESS).isEmpty());
+            assertTrue(store.findByPriority(TaskPriority.HIGH).isEmpty());
+            assertTrue(store.findByAssignee(alice.getId()).isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("Remove Task Tests")
     class RemoveTests {
@@ -126,4 +356,151 @@ class InMemoryTaskStoreTest {
             assertTrue(store.findById(ID1).isPresent(), "Existing task should remain");
         }
     }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        private static final int TASKS_PER_THREAD = 5_000;
+
+        private static TaskId idFor(int thread, int i) {
+            return new TaskId(new UUID(thread + 1L, i + 1L));
+        }
+
+        private long runMixedLoad(InMemoryTaskStore store, int threads) throws Exception {
+            return runMixedLoad(store, threads, TASKS_PER_THREAD);
+        }
+
+        private long runMixedLoad(InMemoryTaskStore store, int threads, int tasksPerThread) throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            LongAdder operations = new LongAdder();
+            List<Future<?>> futures = new ArrayList<>();
+            try {
+                for (int t = 0; t < threads; t++) {
+                    int thread = t;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < tasksPerThread; i++) {
+                            Task task = taskWithDefaults(idFor(thread, i), "Task " + i, "desc");
+                            store.save(task);
+                            assertTrue(store.findById(task.getId()).isPresent(), "Own write should be visible");
+                            if (i % 2 == 1) {
+                                store.remove(task);
+                            }
+                            if (i % 500 == 0) {
+                                store.findAll();
+                            }
+                            operations.add(3);
+                        }
+                        return null;
+                    }));
+                }
+                long begin = System.nanoTime();
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+                long elapsed = System.nanoTime() - begin;
+                return operations.sum() * 1_000_000_000L / Math.max(elapsed, 1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("should stay consistent under concurrent save, remove and findAll")
+        void shouldStayConsistentUnderConcurrentLoad() throws Exception {
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            InMemoryTaskStore store = new InMemoryTaskStore();
+
+            runMixedLoad(store, threads);
+
+            List<Task> all = store.findAll();
+            assertEquals(threads * TASKS_PER_THREAD / 2, all.size(), "Only even-numbered tasks should remain");
+            for (int t = 0; t < threads; t++) {
+                assertTrue(store.findById(idFor(t, 0)).isPresent(), "Kept task should be present");
+                assertTrue(store.findById(idFor(t, 1)).isEmpty(), "Removed task should be absent");
+            }
+        }
+
+        @Test
+        @DisplayName("should not return a task twice when a write moves it between index buckets")
+        void shouldNotDuplicateMovingTasks() throws Exception {
+            InMemoryTaskStore store = new InMemoryTaskStore();
+            int tasks = 2_000;
+            for (int i = 0; i < tasks; i++) {
+                store.save(taskWithDefaults(idFor(0, i), "Task " + i, "desc"));
+            }
+            TaskFilter todo = TaskFilter.any().withStatus(TaskStatus.TODO);
+            TaskPatch low = TaskPatch.empty().withPriority(TaskPriority.LOW);
+            TaskPatch high = TaskPatch.empty().withPriority(TaskPriority.HIGH);
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> writer = executor.submit(() -> {
+                    for (int round = 0; running.get(); round++) {
+                        for (int i = 0; i < tasks; i++) {
+                            TaskId id = idFor(0, i);
+                            Task current = store.findById(id).orElseThrow();
+                            store.applyPatch(id, round % 2 == 0 ? high : low, current.getVersion());
+                        }
+                    }
+                    return null;
+                });
+                for (int scan = 0; scan < 300; scan++) {
+                    List<Task> found = store.findBy(todo);
+                    Set<TaskId> ids = new HashSet<>();
+                    for (Task task : found) {
+                        assertTrue(ids.add(task.getId()), "Task returned twice: " + task.getId());
+                    }
+                    Thread.yield();
+                }
+                running.set(false);
+                writer.get(60, TimeUnit.SECONDS);
+            } finally {
+                running.set(false);
+                executor.shutdownNow();
+            }
+        }
+
+        /**
+         * Best of three runs after a warm-up run, in operations per second.
+         * The threads share {@code totalTasks}, so runs on any number of threads grow the store,
+         * and with it the cost of {@code findAll}, to the same size.
+         */
+        private long bestThroughput(int threads, int totalTasks) throws Exception {
+            runMixedLoad(new InMemoryTaskStore(), threads, totalTasks / threads);
+            long best = 0;
+            for (int run = 0; run < 3; run++) {
+                best = Math.max(best, runMixedLoad(new InMemoryTaskStore(), threads, totalTasks / threads));
+            }
+            return best;
+        }
+
+        @Test
+        @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+        @DisplayName("should keep at least a third of its single-thread throughput when oversubscribed")
+        void shouldNotCollapseUnderContention() throws Exception {
+            int threads = 4 * Runtime.getRuntime().availableProcessors();
+            long single = bestThroughput(1, threads * TASKS_PER_THREAD);
+            long contended = bestThroughput(threads, threads * TASKS_PER_THREAD);
+
+            assertTrue(contended * 3 >= single,
+                    "1 thread: " + single + " ops/s, " + threads + " threads: " + contended + " ops/s");
+        }
+
+        @Test
+        @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+        @DisplayName("should scale throughput to at least half of linear across cores")
+        void shouldScaleAcrossCores() throws Exception {
+            int cores = Math.min(4, Runtime.getRuntime().availableProcessors());
+            assumeTrue(cores >= 2, "needs at least two cores to measure scaling");
+            long single = bestThroughput(1, cores * TASKS_PER_THREAD);
+            long parallel = bestThroughput(cores, cores * TASKS_PER_THREAD);
+
+            assertTrue(parallel * 2 >= single * cores,
+                    "1 thread: " + single + " ops/s, " + cores + " threads: " + parallel + " ops/s");
+        }
+    }
 }
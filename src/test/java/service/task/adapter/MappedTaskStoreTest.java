@@ -0,0 +1,215 @@
+package service.task.adapter;
+
+import com.organizer.model.task.*;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+import com.organizer.service.task.adapter.MappedTaskStore;
+import com.organizer.service.task.port.TaskFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedTaskStore Tests")
+class MappedTaskStoreTest {
+
+    private static final TaskId ID1 = TaskId.of("00000000-0000-0000-0000-000000000001");
+    private static final TaskId ID2 = TaskId.of("00000000-0000-0000-0000-000000000002");
+
+    @TempDir
+    Path dir;
+
+    private static Task task(TaskId id, String name) {
+        return new Task(id, TaskName.of(name), TaskDescription.of("desc"));
+    }
+
+    @Nested
+    @DisplayName("Read And Write Tests")
+    class ReadAndWriteTests {
+
+        @Test
+        @DisplayName("should round-trip every task field")
+        void shouldRoundTripEveryField() {
+            User assignee = new User(Username.of("assignee"), Email.of("assignee@org.com"));
+            Task full = new Task(ID1, TaskName.of("Zadanie ąę"), TaskDescription.of("multi\nline"),
+                    TaskPriority.HIGH, TaskStatus.DONE, assignee);
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                store.save(full);
+                Task read = store.findById(ID1).orElseThrow();
+                assertNotSame(full, read, "Tasks should be decoded from the mapped record");
+                assertEquals(full.getName(), read.getName());
+                assertEquals(full.getDescription(), read.getDescription());
+                assertEquals(TaskPriority.HIGH, read.getPriority());
+                assertEquals(TaskStatus.DONE, read.getStatus());
+                assertEquals(assignee, read.getAssignedUser());
+                assertEquals(assignee.getEmail(), read.getAssignedUser().getEmail());
+            }
+        }
+
+        @Test
+        @DisplayName("should persist the version and save only when it matches")
+        void shouldPersistVersion() {
+            Task versioned = new Task(ID1, TaskName.of("Task A"), TaskDescription.of("desc"),
+                    TaskPriority.LOW, TaskStatus.TODO, null, 7);
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                store.save(versioned);
+                Task next = new Task(ID1, TaskName.of("Task A2"), TaskDescription.of("desc"),
+                        TaskPriority.LOW, TaskStatus.DONE, null, 8);
+                assertFalse(store.saveIfVersion(next, 6));
+                assertTrue(store.saveIfVersion(next, 7));
+            }
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                Task read = store.findById(ID1).orElseThrow();
+                assertEquals(8, read.getVersion());
+                assertEquals(TaskStatus.DONE, read.getStatus());
+            }
+        }
+
+        @Test
+        @DisplayName("should return the latest version and forget removed tasks")
+        void shouldUpdateAndRemove() {
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                store.save(task(ID1, "First"));
+                store.save(task(ID1, "Second"));
+                store.save(task(ID2, "Other"));
+                store.remove(task(ID2, "Other"));
+
+                assertEquals(TaskName.of("Second"), store.findById(ID1).orElseThrow().getName());
+                assertTrue(store.findById(ID2).isEmpty());
+                assertEquals(1, store.findAll().size());
+                assertEquals(1, store.stream().count());
+            }
+        }
+
+        @Test
+        @DisplayName("should filter on record bytes")
+        void shouldFilter() {
+            User assignee = new User(Username.of("assignee"), Email.of("assignee@org.com"));
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                store.save(new Task(ID1, TaskName.of("A"), TaskDescription.of("d"), TaskPriority.HIGH, TaskStatus.TODO, assignee));
+                store.save(new Task(ID2, TaskName.of("B"), TaskDescription.of("d"), TaskPriority.HIGH, TaskStatus.DONE, null));
+
+                assertEquals(2, store.findByPriority(TaskPriority.HIGH).size());
+                assertEquals(ID2, store.findByStatus(TaskStatus.DONE).getFirst().getId());
+                assertEquals(ID1, store.findByAssignee(assignee.getId()).getFirst().getId());
+                assertTrue(store.findBy(TaskFilter.any().withStatus(TaskStatus.DONE).withAssignee(assignee.getId())).isEmpty());
+            }
+        }
+
+        @Test
+        @DisplayName("should grow the index beyond its initial capacity")
+        void shouldGrowIndex() {
+            int count = 5_000;
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                for (int i = 0; i < count; i++) {
+                    store.save(task(new TaskId(new UUID(1L, i + 1L)), "Task " + i));
+                }
+                assertEquals(count, store.findAll().size());
+                for (int i = 0; i < count; i++) {
+                    assertTrue(store.findById(new TaskId(new UUID(1L, i + 1L))).isPresent());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should store strings longer than a signed 16-bit length")
+        void shouldRoundTripLongEmail() {
+            User assignee = new User(Username.of("assignee"), Email.of("a".repeat(40_000) + "@org.com"));
+            Task assigned = new Task(ID1, TaskName.of("Task A"), TaskDescription.of("desc"),
+                    TaskPriority.LOW, TaskStatus.TODO, assignee);
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                store.save(assigned);
+                store.save(task(ID2, "Task B"));
+                assertEquals(assignee.getEmail(), store.findById(ID1).orElseThrow().getAssignedUser().getEmail());
+            }
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                assertEquals(assignee.getEmail(), store.findById(ID1).orElseThrow().getAssignedUser().getEmail());
+                assertEquals(TaskName.of("Task B"), store.findById(ID2).orElseThrow().getName());
+            }
+        }
+
+        @Test
+        @DisplayName("should reject a task with a string beyond the length prefix before writing anything")
+        void shouldRejectOverlongString() {
+            User assignee = new User(Username.of("assignee"), Email.of("a".repeat(70_000) + "@org.com"));
+            Task tooLong = new Task(ID2, TaskName.of("Task B"), TaskDescription.of("desc"),
+                    TaskPriority.LOW, TaskStatus.TODO, assignee);
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                assertThrows(IllegalArgumentException.class, () -> store.save(tooLong));
+                assertThrows(IllegalArgumentException.class, () -> store.saveAll(List.of(task(ID1, "Task A"), tooLong)));
+                assertTrue(store.findAll().isEmpty(), "No task of the rejected batch should be written");
+            }
+        }
+
+        @Test
+        @DisplayName("should reject operations after close")
+        void shouldRejectAfterClose() {
+            MappedTaskStore store = new MappedTaskStore(dir);
+            store.close();
+            assertThrows(IllegalStateException.class, () -> store.save(task(ID1, "Late")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reopen Tests")
+    class ReopenTests {
+
+        @Test
+        @DisplayName("should find tasks again after reopening")
+        void shouldReopen() {
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                store.save(task(ID1, "Kept"));
+                store.save(task(ID2, "Removed"));
+                store.remove(task(ID2, "Removed"));
+            }
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                assertEquals(TaskName.of("Kept"), store.findById(ID1).orElseThrow().getName());
+                assertTrue(store.findById(ID2).isEmpty());
+            }
+        }
+
+        @Test
+        @DisplayName("should rebuild a missing index from the data file")
+        void shouldRebuildMissingIndex() throws IOException {
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                store.save(task(ID1, "Old"));
+                store.save(task(ID1, "New"));
+                store.save(task(ID2, "Other"));
+            }
+            Files.delete(dir.resolve("tasks.idx"));
+
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                assertEquals(2, store.findAll().size());
+                assertEquals(TaskName.of("New"), store.findById(ID1).orElseThrow().getName());
+            }
+        }
+
+        @Test
+        @DisplayName("should keep only live tasks after compaction")
+        void shouldCompact() {
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                for (int i = 0; i < 100; i++) {
+                    store.save(task(ID1, "Version " + i));
+                }
+                store.save(task(ID2, "Removed"));
+                store.remove(task(ID2, "Removed"));
+                store.compact();
+                assertEquals(TaskName.of("Version 99"), store.findById(ID1).orElseThrow().getName());
+                store.save(task(ID2, "After compaction"));
+            }
+            try (MappedTaskStore store = new MappedTaskStore(dir)) {
+                assertEquals(2, store.findAll().size());
+                assertEquals(TaskName.of("After compaction"), store.findById(ID2).orElseThrow().getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package service.task.adapter;
+
+import com.organizer.model.task.*;
+import com.organizer.service.task.adapter.InMemoryTaskStore;
+import com.organizer.service.task.adapter.ShardedTaskStore;
+import com.organizer.service.task.port.TaskFilter;
+import com.organizer.service.task.port.TaskPage;
+import com.organizer.service.task.port.TaskSnapshot;
+import com.organizer.service.task.port.TaskStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("ShardedTaskStore Tests")
+class ShardedTaskStoreTest {
+
+    private static TaskId idFor(int i) {
+        return new TaskId(new UUID(0L, i + 1L));
+    }
+
+    private static Task task(int i, TaskStatus status) {
+        return new Task(idFor(i), TaskName.of("Task " + i), TaskDescription.of("desc"), TaskPriority.MEDIUM, status, null);
+    }
+
+    private static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(i, i % 3 == 0 ? TaskStatus.DONE : TaskStatus.TODO));
+        }
+        return tasks;
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("should reject a non-positive shard count")
+        void shouldRejectInvalidShardCount() {
+            assertThrows(IllegalArgumentException.class, () -> new ShardedTaskStore(0));
+            assertThrows(NullPointerException.class, () -> new ShardedTaskStore(4, null));
+        }
+
+        @Test
+        @DisplayName("should find, update and remove tasks through their shard")
+        void shouldRouteWritesAndReads() {
+            ShardedTaskStore store = new ShardedTaskStore(4);
+            store.saveAll(tasks(100));
+
+            assertEquals(task(42, TaskStatus.DONE), store.findById(idFor(42)).orElseThrow());
+            assertTrue(store.applyPatch(idFor(7), TaskPatch.empty().withStatus(TaskStatus.IN_PROGRESS), 0));
+            assertFalse(store.saveIfVersion(task(7, TaskStatus.DONE), 0));
+            assertEquals(TaskStatus.IN_PROGRESS, store.findById(idFor(7)).orElseThrow().getStatus());
+
+            store.remove(task(42, TaskStatus.DONE));
+            assertTrue(store.findById(idFor(42)).isEmpty());
+            assertTrue(store.findById(null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should return updated tasks in the order of the ids")
+        void shouldKeepUpdateOrder() {
+            ShardedTaskStore store = new ShardedTaskStore(4);
+            store.saveAll(tasks(20));
+            List<TaskId> ids = List.of(idFor(19), idFor(3), idFor(50), idFor(11));
+
+            List<Task> updated = store.updateAll(ids, TaskPatch.empty().withStatus(TaskStatus.DONE)::applyTo);
+
+            assertEquals(List.of(idFor(19), idFor(3), idFor(11)), updated.stream().map(Task::getId).toList());
+            assertEquals(TaskStatus.DONE, store.findById(idFor(11)).orElseThrow().getStatus());
+        }
+    }
+
+    @Nested
+    @DisplayName("Scatter-Gather Query Tests")
+    class QueryTests {
+
+        @Test
+        @DisplayName("should merge findAll, findBy and count across shards")
+        void shouldMergeQueries() {
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                ShardedTaskStore store = new ShardedTaskStore(8, pool);
+                store.saveAll(tasks(300));
+
+                TaskFilter done = TaskFilter.any().withStatus(TaskStatus.DONE);
+                assertEquals(300, store.findAll().size());
+                assertEquals(100, store.findBy(done).size());
+                assertTrue(store.findBy(done).stream().allMatch(done::matches));
+                assertEquals(100, store.count(done));
+                assertEquals(300, store.count(TaskFilter.any()));
+                TaskFilter todo = TaskFilter.any().withStatus(TaskStatus.TODO);
+                assertEquals(200, store.updateMatching(todo, TaskPatch.empty().withStatus(TaskStatus.IN_PROGRESS)::applyTo).size());
+                assertEquals(0, store.count(todo));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("should page through every shard in id order")
+        void shouldPageInIdOrder() {
+            ShardedTaskStore store = new ShardedTaskStore(4);
+            List<Task> all = tasks(95);
+            store.saveAll(all);
+
+            List<Task> paged = new ArrayList<>();
+            Optional<TaskId> cursor = Optional.empty();
+            do {
+                TaskPage page = store.findPage(cursor, 10);
+                paged.addAll(page.tasks());
+                cursor = page.next();
+            } while (cursor.isPresent());
+
+            assertEquals(all.stream().sorted(Comparator.comparing(Task::getId)).toList(), paged);
+        }
+
+        @Test
+        @DisplayName("should keep the snapshot unaffected by later writes")
+        void shouldIsolateSnapshot() {
+            ShardedTaskStore store = new ShardedTaskStore(4);
+            store.saveAll(tasks(10));
+            TaskSnapshot snapshot = store.currentSnapshot();
+
+            store.save(task(10, TaskStatus.TODO));
+            store.remove(task(0, TaskStatus.DONE));
+
+            assertEquals(10, snapshot.size());
+            assertTrue(snapshot.findById(idFor(0)).isPresent());
+            assertTrue(snapshot.findById(idFor(10)).isEmpty());
+            assertEquals(4, snapshot.count(TaskFilter.any().withStatus(TaskStatus.DONE)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("should keep every task written by concurrent writers")
+        void shouldKeepConcurrentWrites() throws Exception {
+            ShardedTaskStore store = new ShardedTaskStore(4);
+            int threads = 4;
+            int perThread = 2_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int offset = t * perThread;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            store.save(task(offset + i, TaskStatus.TODO));
+                            if (i % 100 == 0) {
+                                store.findAll();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(threads * perThread, store.findAll().size());
+            assertEquals(threads * perThread, store.count(TaskFilter.any().withStatus(TaskStatus.TODO)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Throughput Tests")
+    class ThroughputTests {
+
+        private static final int TASKS_PER_THREAD = 5_000;
+
+        /**
+         * Each thread saves, reads back and patches tasks of its own.
+         *
+         * @return operations per second
+         */
+        private static long runWriteLoad(TaskStore store, int threads) throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            LongAdder operations = new LongAdder();
+            List<Future<?>> futures = new ArrayList<>();
+            try {
+                for (int t = 0; t < threads; t++) {
+                    int offset = t * TASKS_PER_THREAD;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        TaskPatch done = TaskPatch.empty().withStatus(TaskStatus.DONE);
+                        for (int i = 0; i < TASKS_PER_THREAD; i++) {
+                            Task task = task(offset + i, TaskStatus.TODO);
+                            store.save(task);
+                            assertTrue(store.findById(task.getId()).isPresent(), "Own write should be visible");
+                            store.applyPatch(task.getId(), done, task.getVersion());
+                            operations.add(3);
+                        }
+                        return null;
+                    }));
+                }
+                long begin = System.nanoTime();
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+                long elapsed = System.nanoTime() - begin;
+                return operations.sum() * 1_000_000_000L / Math.max(elapsed, 1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        /**
+         * Best of three runs after a warm-up run, in operations per second.
+         */
+        private static long bestThroughput(Supplier<TaskStore> stores, int threads) throws Exception {
+            runWriteLoad(stores.get(), threads);
+            long best = 0;
+            for (int run = 0; run < 3; run++) {
+                best = Math.max(best, runWriteLoad(stores.get(), threads));
+            }
+            return best;
+        }
+
+        @Test
+        @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+        @DisplayName("should answer filtered scans faster than one store when shards scan on several cores")
+        void shouldScanFasterThanSingleStore() {
+            int cores = Math.min(8, Runtime.getRuntime().availableProcessors());
+            assumeTrue(cores >= 4, "needs at least four cores for shards to scan in parallel");
+            List<Task> all = tasks(200_000);
+            InMemoryTaskStore single = new InMemoryTaskStore();
+            single.saveAll(all);
+            ForkJoinPool pool = new ForkJoinPool(cores);
+            try {
+                ShardedTaskStore sharded = new ShardedTaskStore(cores, pool);
+                sharded.saveAll(all);
+                TaskFilter done = TaskFilter.any().withStatus(TaskStatus.DONE);
+
+                long singleNanos = bestNanos(() -> single.findBy(done).size());
+                long shardedNanos = bestNanos(() -> sharded.findBy(done).size());
+
+                assertTrue(shardedNanos * 3 < singleNanos * 2,
+                        "single store: " + singleNanos + " ns, " + cores + " shards: " + shardedNanos + " ns");
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        /**
+         * Best of ten runs after five warm-up runs.
+         */
+        private static long bestNanos(Supplier<Integer> query) {
+            long best = Long.MAX_VALUE;
+            int sink = 0;
+            for (int run = 0; run < 15; run++) {
+                long start = System.nanoTime();
+                sink += query.get();
+                long elapsed = System.nanoTime() - start;
+                if (run >= 5) {
+                    best = Math.min(best, elapsed);
+                }
+            }
+            assertTrue(sink > 0);
+            return best;
+        }
+
+        @Test
+        @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+        @DisplayName("should keep at least half the throughput of one store when writers outnumber cores")
+        void shouldBoundRoutingOverhead() throws Exception {
+            int threads = 4 * Runtime.getRuntime().availableProcessors();
+            long single = bestThroughput(InMemoryTaskStore::new, threads);
+            long sharded = bestThroughput(() -> new ShardedTaskStore(4), threads);
+
+            assertTrue(sharded * 2 >= single,
+                    "single store: " + single + " ops/s, sharded store: " + sharded + " ops/s");
+        }
+
+        @Test
+        @EnabledIfEnvironmentVariable(named = "ORGANIZER_LARGE_TESTS", matches = "true")
+        @DisplayName("should outrun one store when writers run on several cores")
+        void shouldOutrunSingleStoreAcrossCores() throws Exception {
+            int cores = Math.min(8, Runtime.getRuntime().availableProcessors());
+            assumeTrue(cores >= 4, "needs at least four cores for shards to stop contending");
+            long single = bestThroughput(InMemoryTaskStore::new, cores);
+            long sharded = bestThroughput(() -> new ShardedTaskStore(cores), cores);
+
+            assertTrue(sharded >= single,
+                    "single store: " + single + " ops/s, sharded store: " + sharded + " ops/s");
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package service.task.adapter;
+
+import com.organizer.model.task.*;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+import com.organizer.service.task.adapter.WriteAheadLogTaskStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("WriteAheadLogTaskStore Tests")
+class WriteAheadLogTaskStoreTest {
+
+    private static final TaskId ID1 = TaskId.of("00000000-0000-0000-0000-000000000001");
+    private static final TaskId ID2 = TaskId.of("00000000-0000-0000-0000-000000000002");
+
+    @TempDir
+    Path dir;
+
+    private Path storeDir() {
+        return dir.resolve("tasks");
+    }
+
+    private static Task task(TaskId id, String name) {
+        return new Task(id, TaskName.of(name), TaskDescription.of("desc"));
+    }
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("should rebuild saved tasks after restart")
+        void shouldRebuildSavedTasksAfterRestart() {
+            User assignee = new User(Username.of("assignee"), Email.of("assignee@org.com"));
+            Task full = new Task(ID2, TaskName.of("Task B"), TaskDescription.of("multi\nline"),
+                    TaskPriority.HIGH, TaskStatus.IN_PROGRESS, assignee);
+
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                store.save(task(ID1, "Task A"));
+                store.save(full);
+            }
+
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                assertEquals(2, store.findAll().size());
+                Task recovered = store.findById(ID2).orElseThrow();
+                assertEquals(full.getName(), recovered.getName());
+                assertEquals(full.getDescription(), recovered.getDescription());
+                assertEquals(TaskPriority.HIGH, recovered.getPriority());
+                assertEquals(TaskStatus.IN_PROGRESS, recovered.getStatus());
+                assertEquals(assignee, recovered.getAssignedUser());
+                assertEquals(assignee.getUsername(), recovered.getAssignedUser().getUsername());
+                assertEquals(1, store.findByAssignee(assignee.getId()).size(), "Indexes should be rebuilt too");
+            }
+        }
+
+        @Test
+        @DisplayName("should recover long strings and reject those the log cannot hold")
+        void shouldBoundStringLength() {
+            User assignee = new User(Username.of("assignee"), Email.of("a".repeat(40_000) + "@org.com"));
+            User tooLong = new User(Username.of("toolong"), Email.of("a".repeat(70_000) + "@org.com"));
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                store.save(new Task(ID1, TaskName.of("Task A"), TaskDescription.of("desc"),
+                        TaskPriority.LOW, TaskStatus.TODO, assignee));
+                assertThrows(IllegalArgumentException.class, () -> store.save(new Task(ID2, TaskName.of("Task B"),
+                        TaskDescription.of("desc"), TaskPriority.LOW, TaskStatus.TODO, tooLong)));
+                assertTrue(store.findById(ID2).isEmpty(), "A rejected task should not be applied");
+            }
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                assertEquals(assignee.getEmail(), store.findById(ID1).orElseThrow().getAssignedUser().getEmail());
+                assertEquals(1, store.findAll().size());
+            }
+        }
+
+        @Test
+        @DisplayName("should recover the version written by saveIfVersion")
+        void shouldRecoverVersion() {
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                store.save(task(ID1, "Task A"));
+                assertTrue(store.saveIfVersion(new Task(ID1, TaskName.of("Task A"), TaskDescription.of("desc"),
+                        TaskPriority.MEDIUM, TaskStatus.DONE, null, 1), 0));
+            }
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                assertEquals(1, store.findById(ID1).orElseThrow().getVersion());
+            }
+        }
+
+        @Test
+        @DisplayName("should replay updates and removals in order")
+        void shouldReplayUpdatesAndRemovalsInOrder() {
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                store.save(task(ID1, "First"));
+                store.save(task(ID1, "Second"));
+                store.save(task(ID2, "Other"));
+                store.remove(task(ID2, "Other"));
+            }
+
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                assertEquals(TaskName.of("Second"), store.findById(ID1).orElseThrow().getName());
+                assertTrue(store.findById(ID2).isEmpty());
+            }
+        }
+
+        @Test
+        @DisplayName("should reject writes after close")
+        void shouldRejectWritesAfterClose() {
+            WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir());
+            store.close();
+            assertThrows(IllegalStateException.class, () -> store.save(task(ID1, "Late")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Group Commit Tests")
+    class GroupCommitTests {
+
+        @Test
+        @DisplayName("should persist every acknowledged concurrent write")
+        void shouldPersistConcurrentWrites() throws Exception {
+            int threads = 8;
+            int perThread = 500;
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                List<Future<?>> futures = new ArrayList<>();
+                try {
+                    for (int t = 0; t < threads; t++) {
+                        int thread = t;
+                        futures.add(executor.submit(() -> {
+                            for (int i = 0; i < perThread; i++) {
+                                store.save(task(new TaskId(new UUID(thread + 1L, i + 1L)), "Task " + i));
+                            }
+                        }));
+                    }
+                    for (Future<?> future : futures) {
+                        future.get(60, TimeUnit.SECONDS);
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                assertEquals(threads * perThread, store.findAll().size());
+            }
+        }
+
+        @Test
+        @DisplayName("should persist a batch saved with saveAll")
+        void shouldPersistSaveAllBatch() {
+            List<Task> batch = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                batch.add(task(new TaskId(new UUID(0L, i + 1L)), "Task " + i));
+            }
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                store.saveAll(batch);
+                assertEquals(batch.size(), store.findAll().size());
+            }
+
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                assertEquals(batch.size(), store.findAll().size());
+                assertEquals(TaskName.of("Task 999"), store.findById(batch.getLast().getId()).orElseThrow().getName());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        private long walSegments() throws IOException {
+            try (Stream<Path> files = Files.list(storeDir().resolve("wal"))) {
+                return files.count();
+            }
+        }
+
+        @Test
+        @DisplayName("should restore from a snapshot plus the log written after it")
+        void shouldRestoreFromSnapshotAndTail() {
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                store.save(task(ID1, "Before"));
+                store.save(task(ID2, "Removed later"));
+                store.snapshot();
+                store.save(task(ID1, "After"));
+                store.remove(task(ID2, "Removed later"));
+            }
+
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                assertEquals(1, store.findAll().size());
+                assertEquals(TaskName.of("After"), store.findById(ID1).orElseThrow().getName());
+            }
+        }
+
+        @Test
+        @DisplayName("should delete log segments covered by the snapshot")
+        void shouldDeleteCoveredSegments() throws IOException {
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                for (int i = 0; i < 3; i++) {
+                    store.save(task(ID1, "Round " + i));
+                    store.snapshot();
+                }
+                assertEquals(1, walSegments());
+            }
+
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                assertEquals(TaskName.of("Round 2"), store.findById(ID1).orElseThrow().getName());
+            }
+        }
+
+        @Test
+        @DisplayName("should not lose writes made while a snapshot is taken")
+        void shouldNotLoseConcurrentWrites() throws Exception {
+            int writes = 2_000;
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                ExecutorService executor = Executors.newSingleThreadExecutor();
+                try {
+                    Future<?> writer = executor.submit(() -> {
+                        for (int i = 0; i < writes; i++) {
+                            store.save(task(new TaskId(new UUID(7L, i + 1L)), "Task " + i));
+                        }
+                    });
+                    while (!writer.isDone()) {
+                        store.snapshot();
+                    }
+                    writer.get(60, TimeUnit.SECONDS);
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                assertEquals(writes, store.findAll().size());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("should fail permanently after a failed sync and recover only durable writes")
+        void shouldFailPermanentlyAfterFailedSync() throws IOException {
+            Path full = Path.of("/dev/full");
+            assumeTrue(Files.exists(full), "needs /dev/full to fail writes");
+            Path nextSegment = storeDir().resolve("wal").resolve(String.format("%020d.log", 1));
+
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                store.save(task(ID1, "Task A"));
+                Files.createSymbolicLink(nextSegment, full);
+                store.snapshot();
+
+                assertThrows(UncheckedIOException.class, () -> store.save(task(ID2, "Task B")));
+                assertThrows(IllegalStateException.class, () -> store.findById(ID2));
+                assertThrows(IllegalStateException.class, () -> store.save(task(ID2, "Task C")));
+            }
+            Files.delete(nextSegment);
+
+            try (WriteAheadLogTaskStore store = new WriteAheadLogTaskStore(storeDir())) {
+                assertTrue(store.findById(ID1).isPresent());
+                assertTrue(store.findById(ID2).isEmpty());
+            }
+        }
+    }
+}
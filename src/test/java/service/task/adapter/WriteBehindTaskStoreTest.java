@@ -0,0 +1,303 @@
+package service.task.adapter;
+
+import com.organizer.model.task.*;
+import com.organizer.service.task.adapter.InMemoryTaskStore;
+import com.organizer.service.task.adapter.WriteBehindTaskStore;
+import com.organizer.service.task.port.TaskStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WriteBehindTaskStore Tests")
+class WriteBehindTaskStoreTest {
+
+    private static final TaskId ID1 = TaskId.of("00000000-0000-0000-0000-000000000001");
+    private static final TaskId ID2 = TaskId.of("00000000-0000-0000-0000-000000000002");
+    private static final Duration LONG_DELAY = Duration.ofMinutes(10);
+
+    @TempDir
+    Path dir;
+
+    private static Task task(TaskId id, String name) {
+        return new Task(id, TaskName.of(name), TaskDescription.of("desc"));
+    }
+
+    @Nested
+    @DisplayName("Buffering Tests")
+    class BufferingTests {
+
+        @Test
+        @DisplayName("should see buffered writes before they reach the backing store")
+        void shouldReadOwnWrites() {
+            BatchRecordingStore backing = new BatchRecordingStore();
+            try (WriteBehindTaskStore store = new WriteBehindTaskStore(backing, dir, 100, LONG_DELAY)) {
+                store.save(task(ID1, "Task A"));
+                assertTrue(backing.findById(ID1).isEmpty(), "The write should still be buffered");
+                assertEquals(TaskName.of("Task A"), store.findById(ID1).orElseThrow().getName());
+
+                store.remove(task(ID1, "Task A"));
+                assertTrue(store.findById(ID1).isEmpty());
+            }
+        }
+
+        @Test
+        @DisplayName("should coalesce repeated saves of a task into one write")
+        void shouldCoalesceSaves() {
+            BatchRecordingStore backing = new BatchRecordingStore();
+            try (WriteBehindTaskStore store = new WriteBehindTaskStore(backing, dir, 100, LONG_DELAY)) {
+                store.save(task(ID1, "Task A"));
+                store.save(task(ID1, "Task B"));
+                store.save(task(ID2, "Task C"));
+                store.flush();
+
+                assertEquals(List.of(2), backing.batchSizes);
+                assertEquals(TaskName.of("Task B"), backing.findById(ID1).orElseThrow().getName());
+            }
+        }
+
+        @Test
+        @DisplayName("should apply versioned writes against buffered tasks")
+        void shouldSaveIfVersionAgainstBufferedTasks() {
+            try (WriteBehindTaskStore store = new WriteBehindTaskStore(new BatchRecordingStore(), dir, 100, LONG_DELAY)) {
+                store.save(task(ID1, "Task A"));
+                assertTrue(store.applyPatch(ID1, TaskPatch.empty().withStatus(TaskStatus.DONE), 0));
+                assertFalse(store.applyPatch(ID1, TaskPatch.empty().withStatus(TaskStatus.TODO), 0));
+                assertEquals(TaskStatus.DONE, store.findById(ID1).orElseThrow().getStatus());
+            }
+        }
+
+        @Test
+        @DisplayName("should flush before answering queries over many tasks")
+        void shouldFlushBeforeQueries() {
+            BatchRecordingStore backing = new BatchRecordingStore();
+            try (WriteBehindTaskStore store = new WriteBehindTaskStore(backing, dir, 100, LONG_DELAY)) {
+                store.saveAll(List.of(task(ID1, "Task A"), task(ID2, "Task B")));
+                assertEquals(2, store.findAll().size());
+                assertEquals(2, backing.findAll().size());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Flush Trigger Tests")
+    class FlushTriggerTests {
+
+        @Test
+        @DisplayName("should flush in the background once the batch is full")
+        void shouldFlushFullBatch() throws InterruptedException {
+            BatchRecordingStore backing = new BatchRecordingStore();
+            try (WriteBehindTaskStore store = new WriteBehindTaskStore(backing, dir, 2, LONG_DELAY)) {
+                store.save(task(ID1, "Task A"));
+                store.save(task(ID2, "Task B"));
+                awaitTasks(backing, 2);
+            }
+        }
+
+        @Test
+        @DisplayName("should flush in the background after the delay")
+        void shouldFlushAfterDelay() throws InterruptedException {
+            BatchRecordingStore backing = new BatchRecordingStore();
+            try (WriteBehindTaskStore store = new WriteBehindTaskStore(backing, dir, 100, Duration.ofMillis(20))) {
+                store.save(task(ID1, "Task A"));
+                awaitTasks(backing, 1);
+            }
+        }
+
+        @Test
+        @DisplayName("should flush on close")
+        void shouldFlushOnClose() {
+            BatchRecordingStore backing = new BatchRecordingStore();
+            WriteBehindTaskStore store = new WriteBehindTaskStore(backing, dir, 100, LONG_DELAY);
+            store.save(task(ID1, "Task A"));
+            store.close();
+
+            assertTrue(backing.findById(ID1).isPresent());
+            assertThrows(IllegalStateException.class, () -> store.save(task(ID2, "Task B")));
+        }
+
+        private static void awaitTasks(TaskStore backing, int count) throws InterruptedException {
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (backing.findAll().size() < count) {
+                assertTrue(System.nanoTime() < deadline, "Background flush did not happen");
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("should accept writes while a lookup waits on the backing store")
+        void shouldNotHoldBufferDuringLookup() throws Exception {
+            BatchRecordingStore backing = new BatchRecordingStore();
+            backing.save(task(ID2, "Task B"));
+            try (WriteBehindTaskStore store = new WriteBehindTaskStore(backing, dir, 100, LONG_DELAY)) {
+                backing.lookups = new CountDownLatch(1);
+                CompletableFuture<Optional<Task>> lookup = CompletableFuture.supplyAsync(() -> store.findById(ID2));
+
+                store.save(task(ID1, "Task A"));
+                assertTrue(store.applyPatch(ID1, TaskPatch.empty().withStatus(TaskStatus.DONE), 0));
+                assertFalse(lookup.isDone());
+
+                backing.lookups.countDown();
+                assertEquals(TaskName.of("Task B"), lookup.get(10, TimeUnit.SECONDS).orElseThrow().getName());
+            }
+        }
+
+        @Test
+        @DisplayName("should make writers wait while the buffer is full")
+        void shouldBoundBuffer() throws Exception {
+            BatchRecordingStore backing = new BatchRecordingStore();
+            // Keeps every write buffered, whenever the background flusher tries
+            backing.failing = true;
+            try (WriteBehindTaskStore store = new WriteBehindTaskStore(backing, dir, 100, LONG_DELAY)) {
+                List<Task> buffered = new ArrayList<>();
+                for (int i = 1; i <= 400; i++) {
+                    buffered.add(task(new TaskId(new UUID(0L, i)), "Task " + i));
+                }
+                store.saveAll(buffered);
+                CompletableFuture<Void> blocked = CompletableFuture.runAsync(
+                        () -> store.save(task(new TaskId(new UUID(0L, 401)), "Task 401")));
+
+                CompletableFuture<Void> resaved = CompletableFuture.runAsync(() -> store.save(task(ID1, "Task 1 again")));
+                resaved.get(10, TimeUnit.SECONDS);
+                Thread.sleep(100);
+                assertFalse(blocked.isDone(), "A write of a new task should wait for room");
+
+                backing.failing = false;
+                store.flush();
+                blocked.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(401, backing.findAll().size());
+        }
+
+        @Test
+        @DisplayName("should let a waiting writer of a task go ahead once a failed flush buffers it again")
+        void shouldWakeWritersAfterFailedFlush() throws Exception {
+            BatchRecordingStore backing = new BatchRecordingStore();
+            backing.failing = true;
+            backing.saves = new CountDownLatch(1);
+            try (WriteBehindTaskStore store = new WriteBehindTaskStore(backing, dir, 100, LONG_DELAY)) {
+                List<Task> buffered = new ArrayList<>();
+                for (int i = 1; i <= 400; i++) {
+                    buffered.add(task(new TaskId(new UUID(0L, i)), "Task " + i));
+                }
+                store.saveAll(buffered);
+                // The background flush now holds every buffered task until the backing store fails it
+                assertTrue(backing.savesStarted.await(10, TimeUnit.SECONDS));
+                CompletableFuture<Void> resaved = CompletableFuture.runAsync(() -> store.save(task(ID1, "Task 1 again")));
+                Thread.sleep(100);
+                assertFalse(resaved.isDone(), "A write of a task being flushed should wait for room");
+
+                backing.saves.countDown();
+                resaved.get(10, TimeUnit.SECONDS);
+
+                backing.failing = false;
+                store.flush();
+            }
+            assertEquals(TaskName.of("Task 1 again"), backing.findById(ID1).orElseThrow().getName());
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("should keep acknowledged writes the backing store rejected and replay them on open")
+        void shouldReplayUnflushedWrites() {
+            BatchRecordingStore failing = new BatchRecordingStore();
+            failing.failing = true;
+            WriteBehindTaskStore store = new WriteBehindTaskStore(failing, dir, 100, LONG_DELAY);
+            store.save(task(ID1, "Task A"));
+            store.remove(task(ID2, "Task B"));
+            assertThrows(IllegalStateException.class, store::flush);
+            assertEquals(TaskName.of("Task A"), store.findById(ID1).orElseThrow().getName(),
+                    "A failed flush should keep the writes buffered");
+            assertThrows(IllegalStateException.class, store::close);
+
+            BatchRecordingStore backing = new BatchRecordingStore();
+            backing.save(task(ID2, "Task B"));
+            try (WriteBehindTaskStore reopened = new WriteBehindTaskStore(backing, dir, 100, LONG_DELAY)) {
+                assertTrue(backing.findById(ID1).isPresent(), "Recovered writes should be flushed on open");
+                assertTrue(backing.findById(ID2).isEmpty(), "Recovered removals should be flushed too");
+                assertEquals(1, reopened.findAll().size());
+            }
+        }
+    }
+
+    /**
+     * Records the size of every batch and can be told to reject writes or to hold batches and lookups.
+     */
+    private static final class BatchRecordingStore implements TaskStore {
+
+        private final InMemoryTaskStore delegate = new InMemoryTaskStore();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+        private volatile CountDownLatch lookups = new CountDownLatch(0);
+        private volatile CountDownLatch saves = new CountDownLatch(0);
+        private final CountDownLatch savesStarted = new CountDownLatch(1);
+
+        @Override
+        public void save(Task task) {
+            delegate.save(task);
+        }
+
+        @Override
+        public void saveAll(Collection<Task> tasks) {
+            savesStarted.countDown();
+            try {
+                saves.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failing) {
+                throw new IllegalStateException("Backing store is down");
+            }
+            batchSizes.add(tasks.size());
+            delegate.saveAll(tasks);
+        }
+
+        @Override
+        public boolean saveIfVersion(Task task, long expectedVersion) {
+            return delegate.saveIfVersion(task, expectedVersion);
+        }
+
+        @Override
+        public void remove(Task task) {
+            delegate.remove(task);
+        }
+
+        @Override
+        public Optional<Task> findById(TaskId taskId) {
+            try {
+                lookups.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return delegate.findById(taskId);
+        }
+
+        @Override
+        public List<Task> findAll() {
+            return delegate.findAll();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package service.task.usecase;
+
+import com.organizer.model.task.TaskId;
+import com.organizer.service.task.adapter.InMemoryTaskStore;
+import com.organizer.service.task.port.GeneratorId;
+import com.organizer.service.task.port.TaskStore;
+import com.organizer.service.task.usecase.AsyncTaskUseCases;
+import com.organizer.service.task.usecase.create.CreateTaskResult;
+import com.organizer.service.task.usecase.create.CreateTaskService;
+import com.organizer.service.task.usecase.create.CreateTasksService;
+import com.organizer.service.task.usecase.create.command.CreateBasicTaskCommand;
+import com.organizer.service.task.usecase.delete.DeleteTaskService;
+import com.organizer.service.task.usecase.list.ListTasksService;
+import com.organizer.service.task.usecase.read.ReadTaskCommand;
+import com.organizer.service.task.usecase.read.ReadTaskResult;
+import com.organizer.service.task.usecase.read.ReadTaskService;
+import com.organizer.service.task.usecase.read.ReadTaskUseCase;
+import com.organizer.service.task.usecase.update.BulkUpdateTasksService;
+import com.organizer.service.task.usecase.update.UpdateTaskService;
+import com.organizer.service.user.adapter.InMemoryUserStore;
+import com.organizer.service.user.port.UserStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncTaskUseCases Tests")
+class AsyncTaskUseCasesTest {
+
+    private static final TaskId FIXED_ID = TaskId.of("11111111-1111-1111-1111-111111111111");
+
+    @Nested
+    @DisplayName("Delegation Tests")
+    class DelegationTests {
+
+        @Test
+        @DisplayName("should complete with the result of the synchronous use case")
+        void shouldCompleteWithUseCaseResult() {
+            TaskStore taskStore = new InMemoryTaskStore();
+            GeneratorId ids = () -> FIXED_ID;
+            try (AsyncTaskUseCases useCases = AsyncTaskUseCases.of(taskStore, new InMemoryUserStore(), ids)) {
+                CreateTaskResult created = useCases.createTask(new CreateBasicTaskCommand("Task", "desc")).join();
+                assertEquals(new CreateTaskResult.Ok(FIXED_ID), created);
+
+                ReadTaskResult read = useCases.readTask(new ReadTaskCommand(FIXED_ID.toString())).join();
+                assertEquals(FIXED_ID, assertInstanceOf(ReadTaskResult.Ok.class, read).task().getId());
+            }
+        }
+
+        @Test
+        @DisplayName("should pass error results through unchanged")
+        void shouldPassErrorsThrough() {
+            try (AsyncTaskUseCases useCases = AsyncTaskUseCases.of(new InMemoryTaskStore(), new InMemoryUserStore(), () -> FIXED_ID)) {
+                assertEquals(ReadTaskResult.Error.MISSING_COMMAND, useCases.readTask(null).join());
+            }
+        }
+
+        @Test
+        @DisplayName("should run the use case off the calling thread")
+        void shouldRunOnVirtualThread() {
+            try (AsyncTaskUseCases useCases = facade(command -> {
+                assertTrue(Thread.currentThread().isVirtual(), "Use case should run on a virtual thread");
+                return ReadTaskResult.Error.NON_EXISTING_TASK;
+            })) {
+                assertEquals(ReadTaskResult.Error.NON_EXISTING_TASK, useCases.readTask(new ReadTaskCommand("x")).join());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Load Tests")
+    class LoadTests {
+
+        @Test
+        @DisplayName("should hold tens of thousands of blocked requests in flight on few platform threads")
+        void shouldSustainManyBlockedRequests() throws Exception {
+            int requests = 50_000;
+            CountDownLatch arrived = new CountDownLatch(requests);
+            CountDownLatch release = new CountDownLatch(1);
+            int platformThreadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+
+            try (AsyncTaskUseCases useCases = facade(command -> {
+                arrived.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ReadTaskResult.Error.NON_EXISTING_TASK;
+            })) {
+                List<CompletableFuture<ReadTaskResult>> futures = new ArrayList<>(requests);
+                for (int i = 0; i < requests; i++) {
+                    futures.add(useCases.readTask(new ReadTaskCommand(new UUID(0L, i).toString())));
+                }
+
+                assertTrue(arrived.await(60, TimeUnit.SECONDS), "Every request should be in flight at once");
+                int platformThreadsDuring = ManagementFactory.getThreadMXBean().getThreadCount();
+                assertTrue(platformThreadsDuring - platformThreadsBefore < 1_000,
+                        "Blocked requests should not each hold a platform thread, but saw " + platformThreadsDuring);
+
+                release.countDown();
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+                assertTrue(futures.stream().allMatch(f -> f.join() == ReadTaskResult.Error.NON_EXISTING_TASK));
+            }
+        }
+    }
+
+    private static AsyncTaskUseCases facade(ReadTaskUseCase readTask) {
+        TaskStore taskStore = new InMemoryTaskStore();
+        UserStore userStore = new InMemoryUserStore();
+        GeneratorId ids = () -> FIXED_ID;
+        return new AsyncTaskUseCases(
+                new CreateTaskService(taskStore, userStore, ids),
+                new CreateTasksService(taskStore, userStore, ids),
+                readTask,
+                new ListTasksService(taskStore),
+                new UpdateTaskService(taskStore, userStore),
+                new BulkUpdateTasksService(taskStore, userStore),
+                new DeleteTaskService(taskStore));
+    }
+}
@@ -0,0 +1,255 @@
+package service.task.usecase.create;
+
+import com.organizer.model.task.*;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
+import com.organizer.model.user.Username;
+import com.organizer.service.task.adapter.InMemoryTaskStore;
+import com.organizer.service.task.port.GeneratorId;
+import com.organizer.service.task.port.TaskStore;
+import com.organizer.service.task.usecase.create.CreateTaskResult;
+import com.organizer.service.task.usecase.create.CreateTaskService;
+import com.organizer.service.task.usecase.create.CreateTasksService;
+import com.organizer.service.task.usecase.create.CreateTasksUseCase;
+import com.organizer.service.task.usecase.create.command.CreateBasicTaskCommand;
+import com.organizer.service.task.usecase.create.command.CreateFullTaskCommand;
+import com.organizer.service.task.usecase.create.command.CreateTaskCommand;
+import com.organizer.service.user.adapter.InMemoryUserStore;
+import com.organizer.service.user.port.UserStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Use Case: Create Tasks (batch)")
+class CreateTasksServiceTest {
+
+    private CountingTaskStore taskStore;
+    private CountingUserStore userStore;
+    private CreateTasksUseCase service;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        taskStore = new CountingTaskStore();
+        userStore = new CountingUserStore();
+        alice = new User(Username.of("alice"), Email.of("alice@example.com"));
+        userStore.save(alice);
+        service = new CreateTasksService(taskStore, userStore, sequentialIds());
+    }
+
+    private static GeneratorId sequentialIds() {
+        AtomicLong next = new AtomicLong();
+        return () -> new TaskId(new UUID(0L, next.incrementAndGet()));
+    }
+
+    private static CreateFullTaskCommand full(String name, String username) {
+        return new CreateFullTaskCommand(name, "desc", "HIGH", "TODO", username);
+    }
+
+    @Nested
+    @DisplayName("Results")
+    class Results {
+
+        @Test
+        @DisplayName("should return one result per command in command order")
+        void shouldReturnResultsInOrder() {
+            List<CreateTaskCommand> commands = Arrays.asList(
+                    new CreateBasicTaskCommand("Basic", "desc"),
+                    null,
+                    full("Full", "alice"),
+                    full("Nobody", "nobody"),
+                    new CreateBasicTaskCommand(null, "desc"));
+
+            List<CreateTaskResult> results = service.handle(commands);
+
+            assertEquals(5, results.size());
+            assertInstanceOf(CreateTaskResult.Ok.class, results.get(0));
+            assertEquals(CreateTaskResult.Error.MISSING_COMMAND, results.get(1));
+            assertInstanceOf(CreateTaskResult.Ok.class, results.get(2));
+            assertEquals(CreateTaskResult.Error.NON_EXISTING_USER, results.get(3));
+            assertEquals(CreateTaskResult.Error.MISSING_TASK_NAME, results.get(4));
+            assertEquals(2, taskStore.findAll().size());
+        }
+
+        @Test
+        @DisplayName("should save tasks with the returned ids and resolved assignee")
+        void shouldSaveTasksWithReturnedIds() {
+            List<CreateTaskResult> results = service.handle(List.of(full("Full", "alice")));
+
+            TaskId id = ((CreateTaskResult.Ok) results.getFirst()).taskId();
+            Task saved = taskStore.findById(id).orElseThrow();
+            assertEquals(TaskPriority.HIGH, saved.getPriority());
+            assertEquals(TaskStatus.TODO, saved.getStatus());
+            assertEquals(alice, saved.getAssignedUser());
+        }
+
+        @Test
+        @DisplayName("should report the same errors as the single create use case")
+        void shouldMatchSingleCreateErrors() {
+            List<CreateTaskCommand> commands = List.of(
+                    new CreateBasicTaskCommand("Name", null),
+                    new CreateBasicTaskCommand("Bad\nname", "desc"),
+                    new CreateFullTaskCommand("Name", "desc", null, "TODO", "alice"),
+                    new CreateFullTaskCommand("Name", "desc", "URGENT", "TODO", "alice"),
+                    new CreateFullTaskCommand("Name", "desc", "HIGH", null, "alice"),
+                    new CreateFullTaskCommand("Name", "desc", "HIGH", "LATER", "alice"),
+                    new CreateFullTaskCommand("Name", "desc", "HIGH", "TODO", null),
+                    new CreateFullTaskCommand("Name", "desc", "HIGH", "TODO", "a!"));
+            CreateTaskService single = new CreateTaskService(new InMemoryTaskStore(), userStore, sequentialIds());
+
+            List<CreateTaskResult> results = service.handle(commands);
+
+            for (int i = 0; i < commands.size(); i++) {
+                assertEquals(single.handle(commands.get(i)), results.get(i), "Command " + i);
+            }
+        }
+
+        @Test
+        @DisplayName("should not touch the store when every command is invalid")
+        void shouldNotTouchStoreWhenAllInvalid() {
+            service.handle(List.of(full("Name", "nobody")));
+            assertEquals(0, taskStore.saveAllCalls);
+            assertEquals(0, taskStore.saveCalls.get());
+        }
+
+        @Test
+        @DisplayName("should reject a null command list")
+        void shouldRejectNullList() {
+            assertThrows(NullPointerException.class, () -> service.handle(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batching")
+    class Batching {
+
+        @Test
+        @DisplayName("should look up each distinct username once")
+        void shouldResolveEachUsernameOnce() {
+            List<CreateTaskCommand> commands = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                commands.add(full("Task " + i, i % 2 == 0 ? "alice" : "Nobody"));
+            }
+
+            service.handle(commands);
+
+            assertEquals(2, userStore.lookups.get());
+        }
+
+        @Test
+        @DisplayName("should write all valid tasks in a single saveAll")
+        void shouldWriteInSingleSaveAll() {
+            List<CreateTaskCommand> commands = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                commands.add(i % 2 == 0 ? full("Task " + i, "alice") : new CreateBasicTaskCommand("Task " + i, "desc"));
+            }
+
+            service.handle(commands);
+
+            assertEquals(1, taskStore.saveAllCalls);
+            assertEquals(1_000, taskStore.lastBatchSize);
+            assertEquals(1_000, taskStore.findAll().size());
+        }
+    }
+
+    private static final class CountingTaskStore implements TaskStore {
+
+        private final InMemoryTaskStore delegate = new InMemoryTaskStore();
+        private final AtomicInteger saveCalls = new AtomicInteger();
+        private int saveAllCalls;
+        private int lastBatchSize;
+
+        @Override
+        public void save(Task task) {
+            saveCalls.incrementAndGet();
+            delegate.save(task);
+        }
+
+        @Override
+        public boolean saveIfVersion(Task task, long expectedVersion) {
+            return delegate.saveIfVersion(task, expectedVersion);
+        }
+
+        @Override
+        public void saveAll(Collection<Task> tasks) {
+            saveAllCalls++;
+            lastBatchSize = tasks.size();
+            tasks.forEach(delegate::save);
+        }
+
+        @Override
+        public void remove(Task task) {
+            delegate.remove(task);
+        }
+
+        @Override
+        public Optional<Task> findById(TaskId taskId) {
+            return delegate.findById(taskId);
+        }
+
+        @Override
+        public List<Task> findAll() {
+            return delegate.findAll();
+        }
+    }
+
+    private static final class CountingUserStore implements UserStore {
+
+        private final InMemoryUserStore delegate = new InMemoryUserStore();
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public boolean existsByEmail(Email email) {
+            return delegate.existsByEmail(email);
+        }
+
+        @Override
+        public boolean existsByUsername(Username username) {
+            return delegate.existsByUsername(username);
+        }
+
+        @Override
+        public void save(User user) {
+            delegate.save(user);
+        }
+
+        @Override
+        public boolean saveIfVersion(User user, long expectedVersion) {
+            return delegate.saveIfVersion(user, expectedVersion);
+        }
+
+        @Override
+        public void remove(User user) {
+            delegate.remove(user);
+        }
+
+        @Override
+        public Optional<User> findById(UserId userId) {
+            return delegate.findById(userId);
+        }
+
+        @Override
+        public Optional<User> findByUsername(Username username) {
+            lookups.incrementAndGet();
+            return delegate.findByUsername(username);
+        }
+
+        @Override
+        public Optional<User> findByEmail(Email email) {
+            return delegate.findByEmail(email);
+        }
+
+        @Override
+        public List<User> findAll() {
+            return delegate.findAll();
+        }
+    }
+}
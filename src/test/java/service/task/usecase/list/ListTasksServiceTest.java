@@ -0,0 +1,122 @@
+package service.task.usecase.list;
+
+import com.organizer.model.task.*;
+import com.organizer.service.task.adapter.InMemoryTaskStore;
+import com.organizer.service.task.port.TaskStore;
+import com.organizer.service.task.usecase.list.ListTasksResult;
+import com.organizer.service.task.usecase.list.ListTasksService;
+import com.organizer.service.task.usecase.list.command.ListTasksPageCommand;
+import com.organizer.service.task.usecase.list.command.StreamTasksCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Use Case: List Tasks")
+class ListTasksServiceTest {
+
+    private static final int TASK_COUNT = 25;
+
+    private TaskStore taskStore;
+    private ListTasksService service;
+
+    @BeforeEach
+    void setUp() {
+        taskStore = new InMemoryTaskStore();
+        for (int i = TASK_COUNT; i >= 1; i--) {
+            TaskId id = TaskId.of(String.format("00000000-0000-0000-0000-%012d", i));
+            taskStore.save(new Task(id, TaskName.of("Task " + i), TaskDescription.of("desc")));
+        }
+        service = new ListTasksService(taskStore);
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("should return MISSING_COMMAND when command is null")
+        void shouldReturnMissingCommandWhenCommandIsNull() {
+            assertEquals(ListTasksResult.Error.MISSING_COMMAND, service.handle(null));
+        }
+
+        @Test
+        @DisplayName("should return INVALID_PAGE_SIZE for non-positive or too large limit")
+        void shouldReturnInvalidPageSize() {
+            assertEquals(ListTasksResult.Error.INVALID_PAGE_SIZE, service.handle(new ListTasksPageCommand(null, 0)));
+            assertEquals(ListTasksResult.Error.INVALID_PAGE_SIZE,
+                    service.handle(new ListTasksPageCommand(null, ListTasksService.MAX_PAGE_SIZE + 1)));
+        }
+
+        @Test
+        @DisplayName("should return INVALID_CURSOR_FORMAT for malformed cursor")
+        void shouldReturnInvalidCursorFormat() {
+            assertEquals(ListTasksResult.Error.INVALID_CURSOR_FORMAT,
+                    service.handle(new ListTasksPageCommand("not-a-cursor", 10)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pagination")
+    class PaginationTests {
+
+        @Test
+        @DisplayName("should walk all tasks in id order with keyset cursors")
+        void shouldWalkAllTasksInOrder() {
+            List<Task> seen = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                ListTasksResult result = service.handle(new ListTasksPageCommand(cursor, 10));
+                ListTasksResult.Page page = assertInstanceOf(ListTasksResult.Page.class, result);
+                seen.addAll(page.tasks());
+                cursor = page.nextCursor().orElse(null);
+                pages++;
+            } while (cursor != null);
+
+            assertEquals(3, pages);
+            assertEquals(TASK_COUNT, seen.size());
+            for (int i = 1; i < seen.size(); i++) {
+                assertTrue(seen.get(i - 1).getId().compareTo(seen.get(i).getId()) < 0, "Tasks should be ordered by id");
+            }
+        }
+
+        @Test
+        @DisplayName("should not skip or repeat tasks when the store changes between pages")
+        void shouldBeStableAcrossWrites() {
+            ListTasksResult.Page first = (ListTasksResult.Page) service.handle(new ListTasksPageCommand(null, 10));
+            taskStore.remove(first.tasks().getFirst());
+
+            ListTasksResult.Page second = (ListTasksResult.Page) service.handle(
+                    new ListTasksPageCommand(first.nextCursor().orElseThrow(), 10));
+
+            assertEquals(TaskId.of("00000000-0000-0000-0000-000000000011"), second.tasks().getFirst().getId());
+        }
+
+        @Test
+        @DisplayName("should return empty cursor on the last page")
+        void shouldReturnEmptyCursorOnLastPage() {
+            ListTasksResult.Page page = (ListTasksResult.Page) service.handle(new ListTasksPageCommand(null, TASK_COUNT));
+            assertEquals(TASK_COUNT, page.tasks().size());
+            assertTrue(page.nextCursor().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("should stream every task")
+        void shouldStreamEveryTask() {
+            ListTasksResult result = service.handle(new StreamTasksCommand());
+            ListTasksResult.Streamed streamed = assertInstanceOf(ListTasksResult.Streamed.class, result);
+            assertEquals(TASK_COUNT, streamed.tasks().count());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package service.task.usecase.update;
+
+import com.organizer.model.task.*;
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+import com.organizer.service.task.adapter.InMemoryTaskStore;
+import com.organizer.service.task.port.TaskStore;
+import com.organizer.service.task.usecase.update.*;
+import com.organizer.service.user.adapter.InMemoryUserStore;
+import com.organizer.service.user.port.UserStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Use Case: Bulk Update Tasks")
+class BulkUpdateTasksServiceTest {
+
+    private static final TaskId ID1 = TaskId.of("00000000-0000-0000-0000-000000000001");
+    private static final TaskId ID2 = TaskId.of("00000000-0000-0000-0000-000000000002");
+    private static final TaskId ID3 = TaskId.of("00000000-0000-0000-0000-000000000003");
+    private static final TaskId MISSING_ID = TaskId.of("00000000-0000-0000-0000-000000000099");
+
+    private TaskStore taskStore;
+    private UserStore userStore;
+    private BulkUpdateTasksUseCase service;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        taskStore = new InMemoryTaskStore();
+        userStore = new InMemoryUserStore();
+        service = new BulkUpdateTasksService(taskStore, userStore);
+        alice = new User(Username.of("alice"), Email.of("alice@example.com"));
+        userStore.save(alice);
+        taskStore.save(new Task(ID1, TaskName.of("One"), TaskDescription.of("desc"), TaskPriority.LOW, TaskStatus.IN_PROGRESS, alice));
+        taskStore.save(new Task(ID2, TaskName.of("Two"), TaskDescription.of("desc"), TaskPriority.HIGH, TaskStatus.IN_PROGRESS, null));
+        taskStore.save(new Task(ID3, TaskName.of("Three"), TaskDescription.of("desc"), TaskPriority.HIGH, TaskStatus.TODO, alice));
+    }
+
+    private static TaskChanges status(String status) {
+        return new TaskChanges(Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(status), Optional.empty());
+    }
+
+    private static TaskChanges none() {
+        return new TaskChanges(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("should return MISSING_COMMAND when command is null")
+        void shouldReturnMissingCommand() {
+            assertEquals(BulkUpdateTasksResult.Error.MISSING_COMMAND, service.handle(null));
+        }
+
+        @Test
+        @DisplayName("should return MISSING_TASK_IDS when the id list is null")
+        void shouldReturnMissingTaskIds() {
+            assertEquals(BulkUpdateTasksResult.Error.MISSING_TASK_IDS,
+                    service.handle(new UpdateTasksByIdCommand(null, status("DONE"))));
+        }
+
+        @Test
+        @DisplayName("should return NO_FIELDS_PROVIDED when no change is given")
+        void shouldReturnNoFieldsProvided() {
+            assertEquals(BulkUpdateTasksResult.Error.NO_FIELDS_PROVIDED,
+                    service.handle(new UpdateTasksByIdCommand(List.of(ID1.toString()), none())));
+        }
+
+        @Test
+        @DisplayName("should reject invalid changes before touching any task")
+        void shouldRejectInvalidChanges() {
+            BulkUpdateTasksResult result = service.handle(new UpdateTasksByIdCommand(List.of(ID1.toString()), status("FINISHED")));
+
+            assertEquals(BulkUpdateTasksResult.Error.INVALID_TASK_STATUS_FORMAT, result);
+            assertEquals(TaskStatus.IN_PROGRESS, taskStore.findById(ID1).orElseThrow().getStatus());
+        }
+
+        @Test
+        @DisplayName("should return NON_EXISTING_USER when assigning an unknown user")
+        void shouldReturnNonExistingUser() {
+            TaskChanges changes = new TaskChanges(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.of("nobody"));
+            assertEquals(BulkUpdateTasksResult.Error.NON_EXISTING_USER,
+                    service.handle(new UpdateTasksByIdCommand(List.of(ID1.toString()), changes)));
+        }
+
+        @Test
+        @DisplayName("should reject an invalid filter status")
+        void shouldRejectInvalidFilterStatus() {
+            assertEquals(BulkUpdateTasksResult.Error.INVALID_FILTER_STATUS_FORMAT,
+                    service.handle(new UpdateTasksByFilterCommand(Optional.of("SOON"), Optional.empty(), Optional.empty(), status("DONE"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("By ids")
+    class ById {
+
+        @Test
+        @DisplayName("should report one result per requested id")
+        void shouldReportPerIdResults() {
+            List<String> ids = Arrays.asList(ID1.toString(), "not-an-id", null, MISSING_ID.toString(), ID2.toString());
+
+            BulkUpdateTasksResult result = service.handle(new UpdateTasksByIdCommand(ids, status("DONE")));
+
+            List<UpdateTaskResult> results = assertInstanceOf(BulkUpdateTasksResult.Ok.class, result).results();
+            assertEquals(List.of(
+                    new UpdateTaskResult.Ok(ID1),
+                    UpdateTaskResult.Error.INVALID_TASK_ID_FORMAT,
+                    UpdateTaskResult.Error.MISSING_TASK_ID,
+                    UpdateTaskResult.Error.NON_EXISTING_TASK,
+                    new UpdateTaskResult.Ok(ID2)), results);
+            assertEquals(TaskStatus.DONE, taskStore.findById(ID1).orElseThrow().getStatus());
+            assertEquals(TaskStatus.DONE, taskStore.findById(ID2).orElseThrow().getStatus());
+            assertEquals(TaskStatus.TODO, taskStore.findById(ID3).orElseThrow().getStatus());
+        }
+
+        @Test
+        @DisplayName("should keep fields that are not changed")
+        void shouldKeepUnchangedFields() {
+            service.handle(new UpdateTasksByIdCommand(List.of(ID1.toString()), status("DONE")));
+
+            Task task = taskStore.findById(ID1).orElseThrow();
+            assertEquals(TaskName.of("One"), task.getName());
+            assertEquals(TaskPriority.LOW, task.getPriority());
+            assertEquals(alice, task.getAssignedUser());
+        }
+    }
+
+    @Nested
+    @DisplayName("By filter")
+    class ByFilter {
+
+        @Test
+        @DisplayName("should update every task matching the filter")
+        void shouldUpdateMatchingTasks() {
+            BulkUpdateTasksResult result = service.handle(new UpdateTasksByFilterCommand(
+                    Optional.of("IN_PROGRESS"), Optional.empty(), Optional.empty(), status("DONE")));
+
+            assertEquals(2, assertInstanceOf(BulkUpdateTasksResult.Ok.class, result).results().size());
+            assertEquals(2, taskStore.findByStatus(TaskStatus.DONE).size());
+            assertTrue(taskStore.findByStatus(TaskStatus.IN_PROGRESS).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should combine status and assignee criteria")
+        void shouldCombineCriteria() {
+            service.handle(new UpdateTasksByFilterCommand(
+                    Optional.of("IN_PROGRESS"), Optional.empty(), Optional.of("alice"), status("DONE")));
+
+            assertEquals(TaskStatus.DONE, taskStore.findById(ID1).orElseThrow().getStatus());
+            assertEquals(TaskStatus.IN_PROGRESS, taskStore.findById(ID2).orElseThrow().getStatus());
+            assertEquals(TaskStatus.TODO, taskStore.findById(ID3).orElseThrow().getStatus());
+        }
+
+        @Test
+        @DisplayName("should update nothing for an unknown assignee")
+        void shouldUpdateNothingForUnknownAssignee() {
+            BulkUpdateTasksResult result = service.handle(new UpdateTasksByFilterCommand(
+                    Optional.empty(), Optional.empty(), Optional.of("nobody"), status("DONE")));
+
+            assertEquals(new BulkUpdateTasksResult.Ok(List.of()), result);
+            assertTrue(taskStore.findByStatus(TaskStatus.DONE).isEmpty());
+        }
+    }
+}
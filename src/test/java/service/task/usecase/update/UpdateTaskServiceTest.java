@@ -17,6 +17,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -204,6 +205,21 @@ class UpdateTaskServiceTest {
             assertEquals(UpdateTaskResult.Error.INVALID_TASK_STATUS_FORMAT, result);
         }
 
+        @Test
+        @DisplayName("should accept display names and lower-case names")
+        void shouldAcceptDisplayAndLowerCaseNames() {
+            seedTask(null);
+
+            UpdateTaskCommand cmd = new UpdateTaskCommand(
+                    EXISTING_ID.value().toString(), Optional.empty(), Optional.empty(),
+                    Optional.of("high"), Optional.of("In Progress"), Optional.empty()
+            );
+            assertInstanceOf(UpdateTaskResult.Ok.class, service.handle(cmd));
+            Task saved = taskStore.findById(EXISTING_ID).orElseThrow();
+            assertEquals(TaskPriority.HIGH, saved.getPriority());
+            assertEquals(TaskStatus.IN_PROGRESS, saved.getStatus());
+        }
+
         @Test
         @DisplayName("should update priority and status when both provided")
         void shouldUpdatePriorityAndStatus() {
@@ -306,4 +322,128 @@ class UpdateTaskServiceTest {
             assertEquals(existing.getId(), saved.getAssignedUser().getId());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Secondary Indexes")
+    class SecondaryIndexes {
+
+        @Test
+        @DisplayName("should move task between status and assignee indexes on update")
+        void shouldReindexOnStatusAndAssigneeChange() {
+            User existing = new User(Username.of("assignee"), Email.of("assignee@org.com"));
+            userStore.save(existing);
+            seedTask(null);
+
+            UpdateTaskCommand cmd = new UpdateTaskCommand(
+                    EXISTING_ID.value().toString(), Optional.empty(), Optional.empty(),
+                    Optional.empty(), Optional.of("IN_PROGRESS"), Optional.of("assignee")
+            );
+            assertInstanceOf(UpdateTaskResult.Ok.class, service.handle(cmd));
+
+            assertTrue(taskStore.findByStatus(TaskStatus.TODO).isEmpty(), "Old status bucket should be empty");
+            assertEquals(1, taskStore.findByStatus(TaskStatus.IN_PROGRESS).size());
+            assertEquals(EXISTING_ID, taskStore.findByAssignee(existing.getId()).getFirst().getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Optimistic Concurrency")
+    class OptimisticConcurrency {
+
+        private UpdateTaskCommand renameTo(String name) {
+            return new UpdateTaskCommand(EXISTING_ID.toString(), Optional.of(name), Optional.empty(),
+                    Optional.empty(), Optional.empty(), Optional.empty());
+        }
+
+        @Test
+        @DisplayName("should bump the task version on every update")
+        void shouldBumpVersion() {
+            seedTask(null);
+
+            service.handle(renameTo("Task B"));
+            service.handle(renameTo("Task C"));
+
+            assertEquals(2, taskStore.findById(EXISTING_ID).orElseThrow().getVersion());
+        }
+
+        @Test
+        @DisplayName("should return CONCURRENT_MODIFICATION instead of overwriting a concurrent update")
+        void shouldReportConcurrentModification() {
+            RacingTaskStore racing = new RacingTaskStore(1);
+            racing.save(new Task(EXISTING_ID, TaskName.of("Task A"), TaskDescription.of("desc")));
+            UpdateTaskService racingService = new UpdateTaskService(racing, userStore);
+
+            UpdateTaskResult result = racingService.handle(renameTo("Task B"));
+
+            assertEquals(UpdateTaskResult.Error.CONCURRENT_MODIFICATION, result);
+            Task saved = racing.findById(EXISTING_ID).orElseThrow();
+            assertEquals(TaskStatus.DONE, saved.getStatus(), "The concurrent update should survive");
+            assertEquals(TaskName.of("Task A"), saved.getName());
+        }
+
+        @Test
+        @DisplayName("should re-apply the update to the newer version when retries are allowed")
+        void shouldRetryOnConflict() {
+            RacingTaskStore racing = new RacingTaskStore(2);
+            racing.save(new Task(EXISTING_ID, TaskName.of("Task A"), TaskDescription.of("desc")));
+            UpdateTaskService retrying = new UpdateTaskService(racing, userStore, 2);
+
+            UpdateTaskResult result = retrying.handle(renameTo("Task B"));
+
+            assertEquals(new UpdateTaskResult.Ok(EXISTING_ID), result);
+            Task saved = racing.findById(EXISTING_ID).orElseThrow();
+            assertEquals(TaskStatus.DONE, saved.getStatus(), "The concurrent update should survive");
+            assertEquals(TaskName.of("Task B"), saved.getName());
+            assertEquals(3, saved.getVersion());
+        }
+
+        @Test
+        @DisplayName("should reject a negative retry count")
+        void shouldRejectNegativeRetries() {
+            assertThrows(IllegalArgumentException.class, () -> new UpdateTaskService(taskStore, userStore, -1));
+        }
+    }
+
+    /**
+     * Lets another writer change the task right before each of the first {@code races} conditional saves.
+     */
+    private static final class RacingTaskStore implements TaskStore {
+
+        private final InMemoryTaskStore delegate = new InMemoryTaskStore();
+        private int races;
+
+        RacingTaskStore(int races) {
+            this.races = races;
+        }
+
+        @Override
+        public void save(Task task) {
+            delegate.save(task);
+        }
+
+        @Override
+        public boolean saveIfVersion(Task task, long expectedVersion) {
+            if (races-- > 0) {
+                Task current = delegate.findById(task.getId()).orElseThrow();
+                delegate.save(new Task(current.getId(), current.getName(), current.getDescription(),
+                        current.getPriority(), TaskStatus.DONE, current.getAssignedUser(), current.getVersion() + 1));
+            }
+            return delegate.saveIfVersion(task, expectedVersion);
+        }
+
+        @Override
+        public void remove(Task task) {
+            delegate.remove(task);
+        }
+
+        @Override
+        public Optional<Task> findById(TaskId taskId) {
+            return delegate.findById(taskId);
+        }
+
+        @Override
+        public List<Task> findAll() {
+            return delegate.findAll();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package service.user.adapter;
+
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+import com.organizer.service.user.adapter.BloomFilterUserStore;
+import com.organizer.service.user.adapter.InMemoryUserStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BloomFilterUserStore Tests")
+class BloomFilterUserStoreTest {
+
+    private static final User ALICE = new User(Username.of("alice"), Email.of("alice@org.com"));
+    private static final User BOBBY = new User(Username.of("bobby"), Email.of("bobby@org.com"));
+
+    @Nested
+    @DisplayName("Existence Check Tests")
+    class ExistenceCheckTests {
+
+        @Test
+        @DisplayName("should rebuild the filters from the backing store")
+        void shouldRebuildFromBackingStore() {
+            InMemoryUserStore backing = new InMemoryUserStore();
+            backing.save(ALICE);
+
+            BloomFilterUserStore store = new BloomFilterUserStore(backing, 100);
+
+            assertTrue(store.existsByUsername(ALICE.getUsername()));
+            assertTrue(store.existsByEmail(ALICE.getEmail()));
+            assertFalse(store.existsByUsername(BOBBY.getUsername()));
+            assertFalse(store.existsByEmail(BOBBY.getEmail()));
+        }
+
+        @Test
+        @DisplayName("should answer absent keys without a false negative after writes")
+        void shouldTrackWrites() {
+            BloomFilterUserStore store = new BloomFilterUserStore(new InMemoryUserStore(), 100);
+            store.save(ALICE);
+            User renamed = new User(ALICE.getId(), Username.of("alicia"), ALICE.getEmail(), 1);
+            assertTrue(store.saveIfVersion(renamed, 0));
+
+            assertTrue(store.existsByUsername(Username.of("alicia")));
+            assertFalse(store.existsByUsername(ALICE.getUsername()), "The old username should be released");
+            assertTrue(store.existsByEmail(ALICE.getEmail()), "The unchanged email should stay present");
+
+            store.remove(renamed);
+            assertFalse(store.existsByUsername(Username.of("alicia")));
+            assertFalse(store.existsByEmail(ALICE.getEmail()));
+        }
+
+        @Test
+        @DisplayName("should keep a user renamed in place present")
+        void shouldTrackInPlaceRename() {
+            BloomFilterUserStore store = new BloomFilterUserStore(new InMemoryUserStore(), 100);
+            User user = new User(Username.of("dave"), Email.of("dave@org.com"));
+            store.save(user);
+
+            user.changeUsername(Username.of("david"));
+            user.changeEmail(Email.of("david@org.com"));
+            store.save(user);
+
+            assertTrue(store.existsByUsername(Username.of("david")));
+            assertTrue(store.existsByEmail(Email.of("david@org.com")));
+            assertFalse(store.existsByUsername(Username.of("dave")), "The old username should be released");
+
+            store.remove(user);
+            assertFalse(store.existsByUsername(Username.of("david")));
+            assertFalse(store.existsByEmail(Email.of("david@org.com")));
+        }
+
+        @Test
+        @DisplayName("should roll back the filters when the backing store rejects a save")
+        void shouldRollBackRejectedSave() {
+            BloomFilterUserStore store = new BloomFilterUserStore(new InMemoryUserStore(), 100);
+            store.save(ALICE);
+            User clash = new User(Username.of("carol"), ALICE.getEmail());
+
+            assertThrows(IllegalArgumentException.class, () -> store.save(clash));
+            assertFalse(store.existsByUsername(clash.getUsername()));
+            assertTrue(store.existsByEmail(ALICE.getEmail()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Stats Tests")
+    class StatsTests {
+
+        @Test
+        @DisplayName("should count checks skipped by the filters")
+        void shouldCountSkippedChecks() {
+            BloomFilterUserStore store = new BloomFilterUserStore(new InMemoryUserStore(), 100);
+            store.save(ALICE);
+
+            store.existsByUsername(ALICE.getUsername());
+            store.existsByUsername(BOBBY.getUsername());
+            store.existsByEmail(BOBBY.getEmail());
+
+            BloomFilterUserStore.Stats stats = store.stats();
+            assertEquals(2, stats.skipped() + stats.falsePositives(), "Both absent keys should be counted");
+            assertEquals((double) stats.falsePositives() / 2, stats.falsePositiveRate());
+            assertTrue(stats.expectedFalsePositiveRate() < 0.01);
+        }
+
+        @Test
+        @DisplayName("should report a zero rate before any absent key was checked")
+        void shouldReportZeroRateInitially() {
+            BloomFilterUserStore store = new BloomFilterUserStore(new InMemoryUserStore(), 100);
+            assertEquals(0.0, store.stats().falsePositiveRate());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package service.user.adapter;
+
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+import com.organizer.service.user.adapter.CachingUserStore;
+import com.organizer.service.user.adapter.InMemoryUserStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CachingUserStore Tests")
+class CachingUserStoreTest {
+
+    private static final User ALICE = new User(Username.of("alice"), Email.of("alice@org.com"));
+
+    @Nested
+    @DisplayName("Read-Through Tests")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("should serve lookups by every key from one cached user")
+        void shouldShareCachedUserAcrossKeys() {
+            InMemoryUserStore backing = new InMemoryUserStore();
+            backing.save(ALICE);
+            CachingUserStore store = new CachingUserStore(backing, 10);
+
+            assertEquals(ALICE, store.findByUsername(ALICE.getUsername()).orElseThrow());
+            assertEquals(ALICE, store.findById(ALICE.getId()).orElseThrow());
+            assertEquals(ALICE, store.findByEmail(ALICE.getEmail()).orElseThrow());
+            assertTrue(store.existsByUsername(ALICE.getUsername()));
+
+            assertEquals(1, store.stats().misses());
+            assertEquals(2, store.stats().hits());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("should stay coherent across keys when a user is renamed")
+        void shouldStayCoherentOnRename() {
+            CachingUserStore store = new CachingUserStore(new InMemoryUserStore(), 10);
+            store.save(ALICE);
+            store.findByUsername(ALICE.getUsername());
+
+            User renamed = new User(ALICE.getId(), Username.of("alicia"), Email.of("alicia@org.com"), 1);
+            assertTrue(store.saveIfVersion(renamed, 0));
+
+            assertTrue(store.findByUsername(ALICE.getUsername()).isEmpty());
+            assertFalse(store.existsByUsername(ALICE.getUsername()));
+            assertFalse(store.existsByEmail(ALICE.getEmail()));
+            assertEquals(Username.of("alicia"), store.findById(ALICE.getId()).orElseThrow().getUsername());
+            assertEquals(renamed.getId(), store.findByEmail(Email.of("alicia@org.com")).orElseThrow().getId());
+        }
+
+        @Test
+        @DisplayName("should forget removed users")
+        void shouldForgetRemovedUsers() {
+            CachingUserStore store = new CachingUserStore(new InMemoryUserStore(), 10);
+            store.save(ALICE);
+            store.findById(ALICE.getId());
+
+            store.remove(ALICE);
+
+            assertTrue(store.findById(ALICE.getId()).isEmpty());
+            assertTrue(store.findByUsername(ALICE.getUsername()).isEmpty());
+            assertFalse(store.existsByEmail(ALICE.getEmail()));
+        }
+    }
+}
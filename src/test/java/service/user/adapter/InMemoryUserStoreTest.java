@@ -4,12 +4,17 @@ import com.organizer.model.user.Email;
 import com.organizer.model.user.User;
 import com.organizer.model.user.Username;
 import com.organizer.service.user.adapter.InMemoryUserStore;
+import com.organizer.service.user.port.UserSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,6 +28,23 @@ class InMemoryUserStoreTest {
     @DisplayName("Save User Tests")
     class SaveUserTests {
 
+        @Test
+        @DisplayName("Should save user only when the stored version matches")
+        void shouldSaveIfVersionMatches() {
+            InMemoryUserStore userStore = new InMemoryUserStore();
+            userStore.save(TEST_USER_EXISTED);
+            User renamed = new User(TEST_USER_EXISTED.getId(), new Username("renamed"),
+                    TEST_USER_EXISTED.getEmail(), 1);
+
+            assertFalse(userStore.saveIfVersion(renamed, 3));
+            assertTrue(userStore.existsByUsername(TEST_USER_EXISTED.getUsername()));
+            assertTrue(userStore.saveIfVersion(renamed, 0));
+            assertEquals(1, userStore.findById(TEST_USER_EXISTED.getId()).orElseThrow().getVersion());
+            assertFalse(userStore.existsByUsername(TEST_USER_EXISTED.getUsername()),
+                    "The old username should be released");
+            assertFalse(userStore.saveIfVersion(TEST_USER_NOT_EXISTED, 0), "Missing users cannot be saved if-version");
+        }
+
         @Test
         @DisplayName("Should save user successfully")
         void shouldSaveUserSuccessfully() {
@@ -320,4 +342,124 @@ class InMemoryUserStoreTest {
         }
 
     }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should keep the users of the moment the snapshot was taken")
+        void shouldIsolateSnapshotFromLaterWrites() {
+            InMemoryUserStore userStore = new InMemoryUserStore();
+            userStore.save(TEST_USER_EXISTED);
+            UserSnapshot snapshot = userStore.currentSnapshot();
+
+            userStore.save(TEST_USER_NOT_EXISTED);
+            userStore.remove(TEST_USER_EXISTED);
+
+            assertEquals(1, snapshot.size());
+            assertEquals(List.of(TEST_USER_EXISTED), snapshot.findAll());
+            assertTrue(snapshot.findByUsername(TEST_USER_EXISTED.getUsername()).isPresent());
+            assertTrue(snapshot.findByEmail(TEST_USER_EXISTED.getEmail()).isPresent());
+            assertTrue(snapshot.findById(TEST_USER_NOT_EXISTED.getId()).isEmpty());
+            assertEquals(List.of(TEST_USER_NOT_EXISTED), userStore.currentSnapshot().findAll());
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        private static final int THREADS = 8;
+        private static final int NAMES = 2_000;
+
+        private static String letters(int n) {
+            StringBuilder sb = new StringBuilder("user");
+            for (int i = 0; i < 4; i++) {
+                sb.append((char) ('a' + n % 26));
+                n /= 26;
+            }
+            return sb.toString();
+        }
+
+        @Test
+        @DisplayName("Should let exactly one of many parallel signups claim a username")
+        void shouldKeepUsernameUniqueUnderParallelSignups() throws Exception {
+            InMemoryUserStore userStore = new InMemoryUserStore();
+            AtomicInteger accepted = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            try {
+                for (int t = 0; t < THREADS; t++) {
+                    int thread = t;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < NAMES; i++) {
+                            User user = new User(new Username(letters(i)), new Email("t" + thread + "n" + i + "@org.com"));
+                            try {
+                                userStore.save(user);
+                                accepted.incrementAndGet();
+                            } catch (IllegalArgumentException ignored) {
+                                // another thread won the username
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(NAMES, accepted.get(), "Each username should be accepted exactly once");
+            assertEquals(NAMES, userStore.findAll().size(), "Store should hold one user per username");
+        }
+
+        @Test
+        @DisplayName("Should never expose a user in one index but not the others")
+        void shouldPublishAllIndexesAtomically() throws Exception {
+            InMemoryUserStore userStore = new InMemoryUserStore();
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicInteger inconsistencies = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<?> reader = executor.submit(() -> {
+                    while (running.get()) {
+                        for (int i = 0; i < 100; i++) {
+                            userStore.findByUsername(new Username(letters(i))).ifPresent(user -> {
+                                boolean byEmail = userStore.findByEmail(user.getEmail()).isPresent();
+                                boolean byId = userStore.findById(user.getId()).isPresent();
+                                boolean stillIndexed = userStore.findByUsername(user.getUsername())
+                                        .filter(current -> current == user)
+                                        .isPresent();
+                                if ((!byEmail || !byId) && stillIndexed) {
+                                    inconsistencies.incrementAndGet();
+                                }
+                            });
+                        }
+                    }
+                });
+                Future<?> writer = executor.submit(() -> {
+                    for (int round = 0; round < 200; round++) {
+                        for (int i = 0; i < 100; i++) {
+                            User user = new User(new Username(letters(i)), new Email("r" + round + "n" + i + "@org.com"));
+                            userStore.save(user);
+                            userStore.remove(user);
+                        }
+                    }
+                    running.set(false);
+                });
+                writer.get(60, TimeUnit.SECONDS);
+                reader.get(60, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(0, inconsistencies.get(), "Readers should see all indexes updated together");
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package service.user.adapter;
+
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.Username;
+import com.organizer.service.user.adapter.WriteAheadLogUserStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("WriteAheadLogUserStore Tests")
+class WriteAheadLogUserStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("should rebuild users and their indexes after restart")
+        void shouldRebuildUsersAfterRestart() {
+            User alice = new User(Username.of("alice"), Email.of("alice@org.com"));
+            User bobby = new User(Username.of("bobby"), Email.of("bobby@org.com"));
+            try (WriteAheadLogUserStore store = new WriteAheadLogUserStore(dir)) {
+                store.save(alice);
+                store.save(bobby);
+                store.remove(bobby);
+            }
+
+            try (WriteAheadLogUserStore store = new WriteAheadLogUserStore(dir)) {
+                assertEquals(1, store.findAll().size());
+                assertEquals(alice, store.findByUsername(Username.of("alice")).orElseThrow());
+                assertTrue(store.existsByEmail(Email.of("alice@org.com")));
+                assertFalse(store.existsByUsername(Username.of("bobby")));
+            }
+        }
+
+        @Test
+        @DisplayName("should not log a rejected duplicate")
+        void shouldNotLogRejectedDuplicate() {
+            try (WriteAheadLogUserStore store = new WriteAheadLogUserStore(dir)) {
+                store.save(new User(Username.of("alice"), Email.of("alice@org.com")));
+                assertThrows(IllegalArgumentException.class,
+                        () -> store.save(new User(Username.of("alice"), Email.of("other@org.com"))));
+            }
+
+            try (WriteAheadLogUserStore store = new WriteAheadLogUserStore(dir)) {
+                assertEquals(1, store.findAll().size());
+                assertFalse(store.existsByEmail(Email.of("other@org.com")));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("should restore from a snapshot plus the log written after it")
+        void shouldRestoreFromSnapshotAndTail() {
+            User alice = new User(Username.of("alice"), Email.of("alice@org.com"));
+            User carol = new User(Username.of("carol"), Email.of("carol@org.com"));
+            try (WriteAheadLogUserStore store = new WriteAheadLogUserStore(dir)) {
+                store.save(alice);
+                store.snapshot();
+                store.save(carol);
+                store.remove(alice);
+            }
+
+            try (WriteAheadLogUserStore store = new WriteAheadLogUserStore(dir)) {
+                assertEquals(1, store.findAll().size());
+                assertEquals(carol, store.findById(carol.getId()).orElseThrow());
+                assertTrue(store.findById(alice.getId()).isEmpty());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("should fail permanently after a failed sync and recover only durable writes")
+        void shouldFailPermanentlyAfterFailedSync() throws IOException {
+            Path full = Path.of("/dev/full");
+            assumeTrue(Files.exists(full), "needs /dev/full to fail writes");
+            Path nextSegment = dir.resolve("wal").resolve(String.format("%020d.log", 1));
+            User alice = new User(Username.of("alice"), Email.of("alice@org.com"));
+            User bobby = new User(Username.of("bobby"), Email.of("bobby@org.com"));
+
+            try (WriteAheadLogUserStore store = new WriteAheadLogUserStore(dir)) {
+                store.save(alice);
+                Files.createSymbolicLink(nextSegment, full);
+                store.snapshot();
+
+                assertThrows(UncheckedIOException.class, () -> store.save(bobby));
+                assertThrows(IllegalStateException.class, () -> store.findById(bobby.getId()));
+                assertThrows(IllegalStateException.class, () -> store.remove(alice));
+            }
+            Files.delete(nextSegment);
+
+            try (WriteAheadLogUserStore store = new WriteAheadLogUserStore(dir)) {
+                assertEquals(alice, store.findById(alice.getId()).orElseThrow());
+                assertFalse(store.existsByUsername(Username.of("bobby")));
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package service.user.usecase;
+
+import com.organizer.model.user.UserId;
+import com.organizer.service.user.adapter.InMemoryUserStore;
+import com.organizer.service.user.usecase.AsyncUserUseCases;
+import com.organizer.service.user.usecase.create.CreateUserCommand;
+import com.organizer.service.user.usecase.create.CreateUserResult;
+import com.organizer.service.user.usecase.read.ReadUserResult;
+import com.organizer.service.user.usecase.read.command.ReadUserByIdCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncUserUseCases Tests")
+class AsyncUserUseCasesTest {
+
+    @Test
+    @DisplayName("should create and read back a user asynchronously")
+    void shouldCreateAndReadUser() {
+        UserId id = new UserId(UUID.fromString("22222222-2222-2222-2222-222222222222"));
+        try (AsyncUserUseCases useCases = AsyncUserUseCases.of(new InMemoryUserStore(), () -> id)) {
+            CreateUserResult created = useCases.createUser(new CreateUserCommand("alice", "alice@example.com")).join();
+            assertEquals(new CreateUserResult.Ok(id), created);
+
+            ReadUserResult read = useCases.readUser(new ReadUserByIdCommand(id.toString())).join();
+            assertInstanceOf(ReadUserResult.Ok.class, read);
+        }
+    }
+
+    @Test
+    @DisplayName("should finish calls in flight when closed")
+    void shouldFinishInFlightCallsOnClose() {
+        List<CompletableFuture<CreateUserResult>> futures = new ArrayList<>();
+        try (AsyncUserUseCases useCases = AsyncUserUseCases.of(new InMemoryUserStore(), UserId::newId)) {
+            for (char c = 'a'; c <= 'z'; c++) {
+                String username = "user" + c;
+                futures.add(useCases.createUser(new CreateUserCommand(username, username + "@example.com")));
+            }
+        }
+
+        assertTrue(futures.stream().allMatch(CompletableFuture::isDone));
+        assertTrue(futures.stream().allMatch(f -> f.join() instanceof CreateUserResult.Ok));
+    }
+}
@@ -1,5 +1,9 @@
 package service.user.usecase.create;
 
+import com.organizer.model.user.Email;
+import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
+import com.organizer.model.user.Username;
 import com.organizer.service.user.adapter.InMemoryUserStore;
 import com.organizer.service.user.adapter.UUIDGenerator;
 import com.organizer.service.user.port.UserStore;
@@ -11,6 +15,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Use Case: Create User")
@@ -144,4 +151,95 @@ class CreateUserServiceTest {
                     "User should be found in store by generated userId");
         }
     }
+
+    @Nested
+    @DisplayName("Racing Signups")
+    class RacingSignupTests {
+
+        @Test
+        @DisplayName("should return USERNAME_ALREADY_EXISTS when another signup takes the username before the save")
+        void shouldReportUsernameTakenByRacingSignup() {
+            RacingUserStore racing = new RacingUserStore(new User(Username.of(VALID_USERNAME), Email.of("racer@org.com")));
+
+            CreateUserResult result = new CreateUserService(racing, new UUIDGenerator())
+                    .handle(new CreateUserCommand(VALID_USERNAME, VALID_EMAIL));
+
+            assertEquals(CreateUserResult.Error.USERNAME_ALREADY_EXISTS, result);
+            assertEquals(1, racing.findAll().size(), "Only the racing signup should be stored");
+        }
+
+        @Test
+        @DisplayName("should return EMAIL_ALREADY_EXISTS when another signup takes the email before the save")
+        void shouldReportEmailTakenByRacingSignup() {
+            RacingUserStore racing = new RacingUserStore(new User(Username.of("racer"), Email.of(VALID_EMAIL)));
+
+            CreateUserResult result = new CreateUserService(racing, new UUIDGenerator())
+                    .handle(new CreateUserCommand(VALID_USERNAME, VALID_EMAIL));
+
+            assertEquals(CreateUserResult.Error.EMAIL_ALREADY_EXISTS, result);
+            assertEquals(1, racing.findAll().size(), "Only the racing signup should be stored");
+        }
+    }
+
+    /**
+     * Stores {@code racer} right before the first save, after the service has checked for duplicates.
+     */
+    private static final class RacingUserStore implements UserStore {
+
+        private final InMemoryUserStore delegate = new InMemoryUserStore();
+        private User racer;
+
+        RacingUserStore(User racer) {
+            this.racer = racer;
+        }
+
+        @Override
+        public boolean existsByEmail(Email email) {
+            return delegate.existsByEmail(email);
+        }
+
+        @Override
+        public boolean existsByUsername(Username username) {
+            return delegate.existsByUsername(username);
+        }
+
+        @Override
+        public void save(User user) {
+            if (racer != null) {
+                delegate.save(racer);
+                racer = null;
+            }
+            delegate.save(user);
+        }
+
+        @Override
+        public boolean saveIfVersion(User user, long expectedVersion) {
+            return delegate.saveIfVersion(user, expectedVersion);
+        }
+
+        @Override
+        public void remove(User user) {
+            delegate.remove(user);
+        }
+
+        @Override
+        public Optional<User> findById(UserId userId) {
+            return delegate.findById(userId);
+        }
+
+        @Override
+        public Optional<User> findByUsername(Username username) {
+            return delegate.findByUsername(username);
+        }
+
+        @Override
+        public Optional<User> findByEmail(Email email) {
+            return delegate.findByEmail(email);
+        }
+
+        @Override
+        public List<User> findAll() {
+            return delegate.findAll();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package service.user.usecase.update;
 
 import com.organizer.model.user.Email;
 import com.organizer.model.user.User;
+import com.organizer.model.user.UserId;
 import com.organizer.model.user.Username;
 import com.organizer.service.user.adapter.InMemoryUserStore;
 import com.organizer.service.user.port.UserStore;
@@ -13,7 +14,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -181,4 +184,145 @@ public class UpdateUserServiceTest {
         }
 
     }
+
+    @Nested
+    @DisplayName("Optimistic Concurrency")
+    class OptimisticConcurrencyTests {
+
+        @Test
+        @DisplayName("should bump the user version on update")
+        void shouldBumpVersion() {
+            service.handle(new UpdateUserCommand(existingUser.getId().toString(), Optional.of(NEW_USERNAME), Optional.empty()));
+
+            assertEquals(1, userStore.findById(existingUser.getId()).orElseThrow().getVersion());
+        }
+
+        @Test
+        @DisplayName("should return CONCURRENT_MODIFICATION when the user changed after it was read")
+        void shouldReportConcurrentModification() {
+            RacingUserStore racing = RacingUserStore.changingEmail(1);
+            racing.save(existingUser);
+
+            UpdateUserResult result = new UpdateUserService(racing)
+                    .handle(new UpdateUserCommand(existingUser.getId().toString(), Optional.of(NEW_USERNAME), Optional.empty()));
+
+            assertEquals(UpdateUserResult.Error.CONCURRENT_MODIFICATION, result);
+            User saved = racing.findById(existingUser.getId()).orElseThrow();
+            assertEquals(Email.of(NEW_EMAIL), saved.getEmail(), "The concurrent update should survive");
+            assertEquals(existingUser.getUsername(), saved.getUsername());
+        }
+
+        @Test
+        @DisplayName("should re-apply the update to the newer version when retries are allowed")
+        void shouldRetryOnConflict() {
+            RacingUserStore racing = RacingUserStore.changingEmail(1);
+            racing.save(existingUser);
+
+            UpdateUserResult result = new UpdateUserService(racing, 1)
+                    .handle(new UpdateUserCommand(existingUser.getId().toString(), Optional.of(NEW_USERNAME), Optional.empty()));
+
+            assertInstanceOf(UpdateUserResult.Ok.class, result);
+            User saved = racing.findById(existingUser.getId()).orElseThrow();
+            assertEquals(Email.of(NEW_EMAIL), saved.getEmail());
+            assertEquals(Username.of(NEW_USERNAME), saved.getUsername());
+            assertEquals(2, saved.getVersion());
+        }
+
+        @Test
+        @DisplayName("should return USERNAME_ALREADY_EXISTS when a signup takes the username before the save")
+        void shouldReportUsernameTakenByRacingSignup() {
+            User signup = new User(Username.of(NEW_USERNAME), Email.of("signup@org.com"));
+            RacingUserStore racing = new RacingUserStore(1, (store, user) -> store.save(signup));
+            racing.save(existingUser);
+
+            UpdateUserResult result = new UpdateUserService(racing, 1)
+                    .handle(new UpdateUserCommand(existingUser.getId().toString(), Optional.of(NEW_USERNAME), Optional.empty()));
+
+            assertEquals(UpdateUserResult.Error.USERNAME_ALREADY_EXISTS, result);
+            assertEquals(existingUser.getUsername(), racing.findById(existingUser.getId()).orElseThrow().getUsername());
+        }
+
+        @Test
+        @DisplayName("should return EMAIL_ALREADY_EXISTS when a signup takes the email before the save")
+        void shouldReportEmailTakenByRacingSignup() {
+            User signup = new User(Username.of("signup"), Email.of(NEW_EMAIL));
+            RacingUserStore racing = new RacingUserStore(1, (store, user) -> store.save(signup));
+            racing.save(existingUser);
+
+            UpdateUserResult result = new UpdateUserService(racing)
+                    .handle(new UpdateUserCommand(existingUser.getId().toString(), Optional.empty(), Optional.of(NEW_EMAIL)));
+
+            assertEquals(UpdateUserResult.Error.EMAIL_ALREADY_EXISTS, result);
+        }
+    }
+
+    /**
+     * Lets another writer run {@code race} right before each of the first {@code races} conditional saves.
+     */
+    private static final class RacingUserStore implements UserStore {
+
+        private final InMemoryUserStore delegate = new InMemoryUserStore();
+        private final BiConsumer<UserStore, User> race;
+        private int races;
+
+        RacingUserStore(int races, BiConsumer<UserStore, User> race) {
+            this.races = races;
+            this.race = race;
+        }
+
+        static RacingUserStore changingEmail(int races) {
+            return new RacingUserStore(races, (store, user) -> {
+                User current = store.findById(user.getId()).orElseThrow();
+                store.save(new User(current.getId(), current.getUsername(), Email.of(NEW_EMAIL), current.getVersion() + 1));
+            });
+        }
+
+        @Override
+        public boolean existsByEmail(Email email) {
+            return delegate.existsByEmail(email);
+        }
+
+        @Override
+        public boolean existsByUsername(Username username) {
+            return delegate.existsByUsername(username);
+        }
+
+        @Override
+        public void save(User user) {
+            delegate.save(user);
+        }
+
+        @Override
+        public boolean saveIfVersion(User user, long expectedVersion) {
+            if (races-- > 0) {
+                race.accept(delegate, user);
+            }
+            return delegate.saveIfVersion(user, expectedVersion);
+        }
+
+        @Override
+        public void remove(User user) {
+            delegate.remove(user);
+        }
+
+        @Override
+        public Optional<User> findById(UserId userId) {
+            return delegate.findById(userId);
+        }
+
+        @Override
+        public Optional<User> findByUsername(Username username) {
+            return delegate.findByUsername(username);
+        }
+
+        @Override
+        public Optional<User> findByEmail(Email email) {
+            return delegate.findByEmail(email);
+        }
+
+        @Override
+        public List<User> findAll() {
+            return delegate.findAll();
+        }
+    }
 }